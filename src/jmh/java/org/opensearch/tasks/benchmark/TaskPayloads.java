@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.benchmark;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.tasks.model.TaskStatus;
+import org.opensearch.tasks.model.Tasks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Task payloads shaped like the ones the plugin serves: a title, a description of a few sentences, dates, a
+ * handful of tags and a version. A fixed seed keeps every run of a benchmark on the same data.
+ */
+public final class TaskPayloads {
+    private static final String[] ASSIGNEES = {"alice", "bob", "carol", "dave", "erin", "frank"};
+    private static final String[] STANDARDS = {"ISO-27001", "SOC2", "PCI-DSS", "NIST-800-53"};
+    private static final String[] TAGS = {"backend", "frontend", "security", "ops", "urgent", "bug", "feature", "audit"};
+    private static final String SENTENCE = "Review the access rules of the service and record the findings. ";
+
+    private TaskPayloads() {
+    }
+
+    /**
+     * @param count The number of tasks.
+     * @return The tasks, with IDs and versions as if they were read from the index.
+     */
+    public static List<Tasks> tasks(int count) {
+        Random random = new Random(42);
+        List<Tasks> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Tasks task = new Tasks();
+            task.setId("task-" + i);
+            task.setTitle("Task " + i + " for " + ASSIGNEES[random.nextInt(ASSIGNEES.length)]);
+            task.setDescription(SENTENCE.repeat(1 + random.nextInt(4)).trim());
+            task.setStatus(TaskStatus.values()[random.nextInt(TaskStatus.values().length)].name());
+            task.setAssignee(ASSIGNEES[random.nextInt(ASSIGNEES.length)]);
+            task.setCreationDate(date(random));
+            task.setPlannedDate(date(random));
+            if (random.nextBoolean()) {
+                task.setCompletionDate(date(random));
+            }
+            task.setSecurityStandards(STANDARDS[random.nextInt(STANDARDS.length)]);
+            List<String> tags = new ArrayList<>();
+            for (int t = random.nextInt(5); t >= 0; t--) {
+                tags.add(TAGS[random.nextInt(TAGS.length)]);
+            }
+            task.setTags(tags);
+            task.setSeqNo((long) i);
+            task.setPrimaryTerm(1L);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * @param tasks The tasks.
+     * @return The JSON body of every task, as a client would send it.
+     */
+    public static List<BytesReference> bodies(List<Tasks> tasks) throws IOException {
+        List<BytesReference> bodies = new ArrayList<>(tasks.size());
+        for (Tasks task : tasks) {
+            try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+                task.toXContent(builder, ToXContent.EMPTY_PARAMS);
+                bodies.add(BytesReference.bytes(builder));
+            }
+        }
+        return bodies;
+    }
+
+    private static String date(Random random) {
+        return String.format(Locale.ROOT, "20%02d-%02d-%02d", 20 + random.nextInt(6), 1 + random.nextInt(12),
+                1 + random.nextInt(28));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.benchmark;
+
+import org.opensearch.tasks.model.TaskStatus;
+import org.opensearch.tasks.service.TasksService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-field checks every create, update and bulk item goes through.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TaskValidationBenchmark {
+    public String validDate = "2024-06-30";
+    public String invalidDate = "30/06/2024";
+    public String status = "executed_ok";
+
+    @Benchmark
+    public boolean isValidDate() {
+        return TasksService.isValidDate(validDate);
+    }
+
+    @Benchmark
+    public boolean isValidDateRejected() {
+        return TasksService.isValidDate(invalidDate);
+    }
+
+    @Benchmark
+    public boolean isValidStatus() {
+        return TaskStatus.isValidStatus(status);
+    }
+}
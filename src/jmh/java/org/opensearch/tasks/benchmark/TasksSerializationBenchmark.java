@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.benchmark;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.tasks.model.CompactTask;
+import org.opensearch.tasks.model.Tasks;
+import org.opensearch.tasks.model.TasksPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of a page of search results at the REST edge (JSON out and in) and between nodes (the
+ * {@link CompactTask} wire form), and the conversions the caches make on every put and get.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TasksSerializationBenchmark {
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private TasksPage page;
+    private List<BytesReference> bodies;
+    private BytesReference wire;
+    private List<CompactTask> compact;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Tasks> tasks = TaskPayloads.tasks(size);
+        page = new TasksPage(tasks, size, null);
+        bodies = TaskPayloads.bodies(tasks);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            page.writeTo(out);
+            wire = out.bytes();
+        }
+        compact = new ArrayList<>(size);
+        for (Tasks task : tasks) {
+            compact.add(CompactTask.of(task));
+        }
+    }
+
+    @Benchmark
+    public BytesReference pageToXContent() throws IOException {
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            page.toXContent(builder, ToXContent.EMPTY_PARAMS);
+            return BytesReference.bytes(builder);
+        }
+    }
+
+    @Benchmark
+    public void tasksFromXContent(Blackhole blackhole) throws IOException {
+        for (BytesReference body : bodies) {
+            try (XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY,
+                    DeprecationHandler.THROW_UNSUPPORTED_OPERATION, body, XContentType.JSON)) {
+                blackhole.consume(Tasks.fromXContent(parser));
+            }
+        }
+    }
+
+    @Benchmark
+    public BytesReference pageWriteTo() throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            page.writeTo(out);
+            return out.bytes();
+        }
+    }
+
+    @Benchmark
+    public TasksPage pageReadFrom() throws IOException {
+        try (StreamInput in = wire.streamInput()) {
+            return new TasksPage(in);
+        }
+    }
+
+    @Benchmark
+    public void toCompactTask(Blackhole blackhole) {
+        for (Tasks task : page.getTasks()) {
+            blackhole.consume(CompactTask.of(task));
+        }
+    }
+
+    @Benchmark
+    public void fromCompactTask(Blackhole blackhole) {
+        for (CompactTask task : compact) {
+            blackhole.consume(task.toTasks());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.repository;
+
+import org.opensearch.tasks.benchmark.TaskPayloads;
+import org.opensearch.tasks.model.Tasks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion between tasks and the source maps the repository indexes and reads back from search hits. It lives
+ * in the repository package to reach the package-private converters.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TaskConversionBenchmark {
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private List<Tasks> tasks;
+    private List<Map<String, Object>> sources;
+
+    @Setup
+    public void setUp() {
+        tasks = TaskPayloads.tasks(size);
+        sources = new ArrayList<>(size);
+        for (Tasks task : tasks) {
+            sources.add(TasksRepository.convertTaskToMap(task));
+        }
+    }
+
+    @Benchmark
+    public void convertTaskToMap(Blackhole blackhole) {
+        for (Tasks task : tasks) {
+            blackhole.consume(TasksRepository.convertTaskToMap(task));
+        }
+    }
+
+    @Benchmark
+    public void convertMapToTask(Blackhole blackhole) {
+        for (int i = 0; i < sources.size(); i++) {
+            blackhole.consume(TasksRepository.convertMapToTask(sources.get(i), tasks.get(i).getId()));
+        }
+    }
+}
@@ -7,14 +7,17 @@
  */
 package org.opensearch.tasks;
 
+import org.opensearch.action.ActionRequest;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.IndexScopedSettings;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
@@ -25,20 +28,52 @@ import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.rest.RestController;
 import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptService;
+import org.opensearch.tasks.action.CreateTaskAction;
+import org.opensearch.tasks.action.DeleteTaskAction;
+import org.opensearch.tasks.action.GetTaskAction;
+import org.opensearch.tasks.action.PatchTaskAction;
+import org.opensearch.tasks.action.SearchTasksAction;
+import org.opensearch.tasks.action.TransportCreateTaskAction;
+import org.opensearch.tasks.action.TransportDeleteTaskAction;
+import org.opensearch.tasks.action.TransportGetTaskAction;
+import org.opensearch.tasks.action.TransportPatchTaskAction;
+import org.opensearch.tasks.action.TransportSearchTasksAction;
+import org.opensearch.tasks.action.TransportUpdateTaskAction;
+import org.opensearch.tasks.action.UpdateTaskAction;
+import org.opensearch.tasks.action.cache.InvalidateTasksCacheAction;
+import org.opensearch.tasks.action.cache.TransportInvalidateTasksCacheAction;
+import org.opensearch.tasks.action.stats.TasksStatsAction;
+import org.opensearch.tasks.action.stats.TransportTasksStatsAction;
+import org.opensearch.tasks.cache.TasksCache;
+import org.opensearch.tasks.cache.TasksSearchCache;
 import org.opensearch.tasks.controller.TasksController;
+import org.opensearch.tasks.repository.TasksIndexBootstrap;
+import org.opensearch.tasks.repository.TasksIndexRollover;
 import org.opensearch.tasks.repository.TasksRepository;
 import org.opensearch.tasks.service.TasksService;
+import org.opensearch.tasks.settings.TasksSettings;
+import org.opensearch.tasks.settings.TasksThreadPools;
+import org.opensearch.tasks.stats.TasksRequestLog;
+import org.opensearch.tasks.stats.TasksRequestStats;
+import org.opensearch.tasks.stats.TasksSlowLog;
+import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.watcher.ResourceWatcherService;
 
+import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
 
 
 public class TasksPlugin extends Plugin implements ActionPlugin {
     private TasksService tasksService;
+    private ThreadPool threadPool;
+    private TasksRequestStats requestStats;
+    private TasksSlowLog slowLog;
+    private TasksRequestLog requestLog;
+    private TasksIndexBootstrap indexBootstrap;
+    private TasksIndexRollover indexRollover;
 
     @Override
     public Collection<Object> createComponents(
@@ -54,9 +89,52 @@ public class TasksPlugin extends Plugin implements ActionPlugin {
             IndexNameExpressionResolver indexNameExpressionResolver,
             Supplier<RepositoriesService> repositoriesServiceSupplier
     ) {
-        TasksRepository tasksRepository = new TasksRepository(client);
-        this.tasksService = new TasksService(tasksRepository);
-        return Collections.singletonList(tasksService);
+        this.threadPool = threadPool;
+        TasksRepository tasksRepository = new TasksRepository(client, clusterService);
+        this.indexBootstrap = new TasksIndexBootstrap(client, clusterService, threadPool);
+        this.indexRollover = new TasksIndexRollover(client, clusterService, threadPool);
+        TasksCache tasksCache = new TasksCache(TasksSettings.CACHE_SIZE.get(clusterService.getSettings()),
+                TasksSettings.CACHE_EXPIRE.get(clusterService.getSettings()));
+        TasksSearchCache searchCache = new TasksSearchCache(TasksSettings.SEARCH_CACHE_SIZE.get(clusterService.getSettings()),
+                TasksSettings.SEARCH_CACHE_EXPIRE.get(clusterService.getSettings()),
+                TasksSettings.SEARCH_CACHE_REFRESH_WINDOW.get(clusterService.getSettings()));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(TasksSettings.SEARCH_CACHE_REFRESH_WINDOW,
+                searchCache::setRefreshWindow);
+        this.tasksService = new TasksService(tasksRepository, tasksCache, searchCache);
+        tasksService.setBulkBatchSize(TasksSettings.BULK_BATCH_SIZE.get(clusterService.getSettings()));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(TasksSettings.BULK_BATCH_SIZE, tasksService::setBulkBatchSize);
+        tasksService.setExportBatchSize(TasksSettings.EXPORT_BATCH_SIZE.get(clusterService.getSettings()));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(TasksSettings.EXPORT_BATCH_SIZE, tasksService::setExportBatchSize);
+        tasksService.setExportMaxSize(TasksSettings.EXPORT_MAX_SIZE.get(clusterService.getSettings()));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(TasksSettings.EXPORT_MAX_SIZE, tasksService::setExportMaxSize);
+        tasksService.setThreadContext(threadPool.getThreadContext());
+        this.requestStats = new TasksRequestStats();
+        this.slowLog = new TasksSlowLog(clusterService.getSettings(), clusterService.getClusterSettings());
+        this.requestLog = new TasksRequestLog(clusterService.getSettings(), clusterService.getClusterSettings());
+        return List.of(tasksService, tasksCache, searchCache, requestStats, indexBootstrap, indexRollover);
+    }
+
+    @Override
+    public List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> getActions() {
+        return List.of(
+                new ActionHandler<>(CreateTaskAction.INSTANCE, TransportCreateTaskAction.class),
+                new ActionHandler<>(GetTaskAction.INSTANCE, TransportGetTaskAction.class),
+                new ActionHandler<>(UpdateTaskAction.INSTANCE, TransportUpdateTaskAction.class),
+                new ActionHandler<>(PatchTaskAction.INSTANCE, TransportPatchTaskAction.class),
+                new ActionHandler<>(DeleteTaskAction.INSTANCE, TransportDeleteTaskAction.class),
+                new ActionHandler<>(SearchTasksAction.INSTANCE, TransportSearchTasksAction.class),
+                new ActionHandler<>(InvalidateTasksCacheAction.INSTANCE, TransportInvalidateTasksCacheAction.class),
+                new ActionHandler<>(TasksStatsAction.INSTANCE, TransportTasksStatsAction.class));
+    }
+
+    @Override
+    public List<Setting<?>> getSettings() {
+        return TasksSettings.getAllSettings();
+    }
+
+    @Override
+    public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
+        return TasksThreadPools.getExecutorBuilders(settings);
     }
 
 
@@ -65,6 +143,16 @@ public class TasksPlugin extends Plugin implements ActionPlugin {
                                              ClusterSettings clusterSettings, IndexScopedSettings indexScopedSettings,
                                              SettingsFilter settingsFilter, IndexNameExpressionResolver indexNameExpressionResolver,
                                              Supplier<DiscoveryNodes> nodesInCluster) {
-        return List.of(new TasksController(tasksService));
+        return List.of(new TasksController(tasksService, threadPool, requestStats, slowLog, requestLog));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (indexBootstrap != null) {
+            indexBootstrap.close();
+        }
+        if (indexRollover != null) {
+            indexRollover.close();
+        }
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.tasks.model.Tasks;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request of a {@link CreateTaskAction}.
+ */
+public class CreateTaskRequest extends ActionRequest {
+    private final Tasks task;
+
+    /**
+     * @param task The task to create, without ID.
+     */
+    public CreateTaskRequest(Tasks task) {
+        this.task = task;
+    }
+
+    public CreateTaskRequest(StreamInput in) throws IOException {
+        super(in);
+        this.task = new Tasks(in);
+    }
+
+    public Tasks getTask() {
+        return task;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return task == null ? addValidationError("Task body is missing", null) : null;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        task.writeTo(out);
+    }
+}
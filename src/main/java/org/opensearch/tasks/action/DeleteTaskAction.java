@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Deletes a task by ID.
+ */
+public class DeleteTaskAction extends ActionType<TaskStatusResponse> {
+    public static final String NAME = "cluster:admin/opensearch/tasks/delete";
+    public static final DeleteTaskAction INSTANCE = new DeleteTaskAction();
+
+    private DeleteTaskAction() {
+        super(NAME, TaskStatusResponse::new);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Reads a task by ID.
+ */
+public class GetTaskAction extends ActionType<TaskResponse> {
+    public static final String NAME = "cluster:admin/opensearch/tasks/get";
+    public static final GetTaskAction INSTANCE = new GetTaskAction();
+
+    private GetTaskAction() {
+        super(NAME, TaskResponse::new);
+    }
+}
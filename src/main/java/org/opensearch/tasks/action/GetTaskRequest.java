@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request of a {@link GetTaskAction}.
+ */
+public class GetTaskRequest extends ActionRequest {
+    private final String id;
+    private final FetchSourceContext fetchSource;
+
+    /**
+     * @param id The ID of the task to read.
+     */
+    public GetTaskRequest(String id) {
+        this(id, null);
+    }
+
+    /**
+     * @param id          The ID of the task to read.
+     * @param fetchSource The source fields to read, or null to read the whole task.
+     */
+    public GetTaskRequest(String id, FetchSourceContext fetchSource) {
+        this.id = id;
+        this.fetchSource = fetchSource;
+    }
+
+    public GetTaskRequest(StreamInput in) throws IOException {
+        super(in);
+        this.id = in.readString();
+        this.fetchSource = in.readOptionalWriteable(FetchSourceContext::new);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public FetchSourceContext getFetchSource() {
+        return fetchSource;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return id == null ? addValidationError("Task ID is missing", null) : null;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(id);
+        out.writeOptionalWriteable(fetchSource);
+    }
+}
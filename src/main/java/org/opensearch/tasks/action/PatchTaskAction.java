@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Updates the fields sent for an existing task.
+ */
+public class PatchTaskAction extends ActionType<TaskStatusResponse> {
+    public static final String NAME = "cluster:admin/opensearch/tasks/patch";
+    public static final PatchTaskAction INSTANCE = new PatchTaskAction();
+
+    private PatchTaskAction() {
+        super(NAME, TaskStatusResponse::new);
+    }
+}
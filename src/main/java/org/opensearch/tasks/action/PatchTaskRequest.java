@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.tasks.model.Tasks;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request of a {@link PatchTaskAction}.
+ */
+public class PatchTaskRequest extends ActionRequest {
+    private final Tasks task;
+    private final int retryOnConflict;
+
+    /**
+     * @param task            The fields to change, with the task ID and, for a conditional patch, the expected
+     *                        version.
+     * @param retryOnConflict How many times to retry an unconditional patch that hits a version conflict.
+     */
+    public PatchTaskRequest(Tasks task, int retryOnConflict) {
+        this.task = task;
+        this.retryOnConflict = retryOnConflict;
+    }
+
+    public PatchTaskRequest(StreamInput in) throws IOException {
+        super(in);
+        this.task = new Tasks(in);
+        this.retryOnConflict = in.readVInt();
+    }
+
+    public Tasks getTask() {
+        return task;
+    }
+
+    public int getRetryOnConflict() {
+        return retryOnConflict;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (task == null || task.getId() == null) {
+            validationException = addValidationError("Invalid task data", validationException);
+        }
+        if (retryOnConflict < 0) {
+            validationException = addValidationError("retry_on_conflict must not be negative", validationException);
+        }
+        return validationException;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        task.writeTo(out);
+        out.writeVInt(retryOnConflict);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Searches tasks.
+ */
+public class SearchTasksAction extends ActionType<SearchTasksResponse> {
+    public static final String NAME = "cluster:admin/opensearch/tasks/search";
+    public static final SearchTasksAction INSTANCE = new SearchTasksAction();
+
+    private SearchTasksAction() {
+        super(NAME, SearchTasksResponse::new);
+    }
+}
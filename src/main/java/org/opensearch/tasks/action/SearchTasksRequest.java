@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request of a {@link SearchTasksAction}. The action runs as a cancellable task, whose cancellation also cancels
+ * the shard searches it started.
+ */
+public class SearchTasksRequest extends ActionRequest {
+    private final Map<String, Object> body;
+    private final TimeValue timeout;
+    private final FetchSourceContext fetchSource;
+
+    /**
+     * @param body The search criteria, with the optional {@code size} and {@code cursor}.
+     */
+    public SearchTasksRequest(Map<String, Object> body) {
+        this(body, null);
+    }
+
+    /**
+     * @param body    The search criteria, with the optional {@code size} and {@code cursor}.
+     * @param timeout How long the shards may search before returning the hits collected so far, or null for no limit.
+     */
+    public SearchTasksRequest(Map<String, Object> body, TimeValue timeout) {
+        this(body, timeout, null);
+    }
+
+    /**
+     * @param body        The search criteria, with the optional {@code size} and {@code cursor}.
+     * @param timeout     How long the shards may search before returning the hits collected so far, or null for no
+     *                    limit.
+     * @param fetchSource The source fields to read from every hit, or null to read whole tasks.
+     */
+    public SearchTasksRequest(Map<String, Object> body, TimeValue timeout, FetchSourceContext fetchSource) {
+        this.body = body;
+        this.timeout = timeout;
+        this.fetchSource = fetchSource;
+    }
+
+    public SearchTasksRequest(StreamInput in) throws IOException {
+        super(in);
+        this.body = in.readMap();
+        this.timeout = in.readOptionalTimeValue();
+        this.fetchSource = in.readOptionalWriteable(FetchSourceContext::new);
+    }
+
+    public Map<String, Object> getBody() {
+        return body;
+    }
+
+    public TimeValue getTimeout() {
+        return timeout;
+    }
+
+    public FetchSourceContext getFetchSource() {
+        return fetchSource;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (body == null) {
+            validationException = addValidationError("Search body is missing", validationException);
+        }
+        if (timeout != null && timeout.millis() <= 0) {
+            validationException = addValidationError("Timeout must be positive", validationException);
+        }
+        return validationException;
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new CancellableTask(id, type, action, getDescription(), parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public String getDescription() {
+        return "search tasks " + body;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeMap(body);
+        out.writeOptionalTimeValue(timeout);
+        out.writeOptionalWriteable(fetchSource);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.tasks.model.TasksPage;
+
+import java.io.IOException;
+
+/**
+ * Response of a {@link SearchTasksAction}.
+ */
+public class SearchTasksResponse extends ActionResponse {
+    private final TasksPage page;
+
+    /**
+     * @param page The page of tasks matching the search.
+     */
+    public SearchTasksResponse(TasksPage page) {
+        this.page = page;
+    }
+
+    public SearchTasksResponse(StreamInput in) throws IOException {
+        super(in);
+        this.page = new TasksPage(in);
+    }
+
+    public TasksPage getPage() {
+        return page;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        page.writeTo(out);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.tasks.model.Tasks;
+
+import java.io.IOException;
+
+/**
+ * Response of a {@link CreateTaskAction} or {@link GetTaskAction}.
+ */
+public class TaskResponse extends ActionResponse {
+    private final Tasks task;
+
+    /**
+     * @param task The created or read task, or null if the task is invalid or does not exist.
+     */
+    public TaskResponse(Tasks task) {
+        this.task = task;
+    }
+
+    public TaskResponse(StreamInput in) throws IOException {
+        super(in);
+        this.task = in.readOptionalWriteable(Tasks::new);
+    }
+
+    public Tasks getTask() {
+        return task;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalWriteable(task);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.rest.RestStatus;
+
+import java.io.IOException;
+
+/**
+ * Response of an {@link UpdateTaskAction}, {@link PatchTaskAction} or {@link DeleteTaskAction}.
+ */
+public class TaskStatusResponse extends ActionResponse {
+    private final RestStatus status;
+
+    /**
+     * @param status The status of the write, NOT_FOUND if the task does not exist.
+     */
+    public TaskStatusResponse(RestStatus status) {
+        this.status = status;
+    }
+
+    public TaskStatusResponse(StreamInput in) throws IOException {
+        super(in);
+        this.status = RestStatus.readFrom(in);
+    }
+
+    public RestStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        RestStatus.writeTo(out, status);
+    }
+}
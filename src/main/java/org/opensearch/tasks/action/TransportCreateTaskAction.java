@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionRunnable;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.service.TasksService;
+import org.opensearch.tasks.settings.TasksThreadPools;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Runs a {@link CreateTaskAction} on the {@link TasksThreadPools#WRITE} thread pool. A full queue rejects the
+ * request with 429 Too Many Requests.
+ */
+public class TransportCreateTaskAction extends HandledTransportAction<CreateTaskRequest, TaskResponse> {
+    private final ThreadPool threadPool;
+    private final TasksService tasksService;
+
+    @Inject
+    public TransportCreateTaskAction(TransportService transportService, ActionFilters actionFilters, ThreadPool threadPool,
+                                     TasksService tasksService) {
+        super(CreateTaskAction.NAME, transportService, actionFilters, CreateTaskRequest::new);
+        this.threadPool = threadPool;
+        this.tasksService = tasksService;
+    }
+
+    @Override
+    protected void doExecute(Task task, CreateTaskRequest request, ActionListener<TaskResponse> listener) {
+        threadPool.executor(TasksThreadPools.WRITE).execute(ActionRunnable.wrap(listener,
+                l -> tasksService.createTask(request.getTask(), ActionListener.map(l, TaskResponse::new))));
+    }
+}
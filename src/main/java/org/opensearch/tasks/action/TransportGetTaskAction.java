@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionRunnable;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.service.TasksService;
+import org.opensearch.tasks.settings.TasksThreadPools;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Runs a {@link GetTaskAction} on the {@link TasksThreadPools#READ} thread pool. A full queue rejects the request
+ * with 429 Too Many Requests.
+ */
+public class TransportGetTaskAction extends HandledTransportAction<GetTaskRequest, TaskResponse> {
+    private final ThreadPool threadPool;
+    private final TasksService tasksService;
+
+    @Inject
+    public TransportGetTaskAction(TransportService transportService, ActionFilters actionFilters, ThreadPool threadPool,
+                                  TasksService tasksService) {
+        super(GetTaskAction.NAME, transportService, actionFilters, GetTaskRequest::new);
+        this.threadPool = threadPool;
+        this.tasksService = tasksService;
+    }
+
+    @Override
+    protected void doExecute(Task task, GetTaskRequest request, ActionListener<TaskResponse> listener) {
+        threadPool.executor(TasksThreadPools.READ).execute(ActionRunnable.wrap(listener,
+                l -> tasksService.getTaskById(request.getId(), request.getFetchSource(), ActionListener.map(l, TaskResponse::new))));
+    }
+}
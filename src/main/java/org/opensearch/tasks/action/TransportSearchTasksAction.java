@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionRunnable;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.service.TasksService;
+import org.opensearch.tasks.settings.TasksThreadPools;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Runs a {@link SearchTasksAction} on the {@link TasksThreadPools#SEARCH} thread pool. A full queue rejects the
+ * request with 429 Too Many Requests. The shard searches run as children of the action's task, so cancelling it,
+ * for example when the HTTP client disconnects, also stops them; a search cancelled while still queued is not
+ * started at all.
+ */
+public class TransportSearchTasksAction extends HandledTransportAction<SearchTasksRequest, SearchTasksResponse> {
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+    private final TasksService tasksService;
+
+    @Inject
+    public TransportSearchTasksAction(TransportService transportService, ActionFilters actionFilters, ThreadPool threadPool,
+                                      ClusterService clusterService, TasksService tasksService) {
+        super(SearchTasksAction.NAME, transportService, actionFilters, SearchTasksRequest::new);
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+        this.tasksService = tasksService;
+    }
+
+    @Override
+    protected void doExecute(Task task, SearchTasksRequest request, ActionListener<SearchTasksResponse> listener) {
+        TaskId parentTask = new TaskId(clusterService.localNode().getId(), task.getId());
+        threadPool.executor(TasksThreadPools.SEARCH).execute(ActionRunnable.wrap(listener, l -> {
+            if (task instanceof CancellableTask && ((CancellableTask) task).isCancelled()) {
+                throw new TaskCancelledException("Search cancelled before it started");
+            }
+            tasksService.searchTasks(request.getBody(), request.getFetchSource(), request.getTimeout(), parentTask,
+                    ActionListener.map(l, SearchTasksResponse::new));
+        }));
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Replaces a task, or creates it if it does not exist.
+ */
+public class UpdateTaskAction extends ActionType<TaskStatusResponse> {
+    public static final String NAME = "cluster:admin/opensearch/tasks/update";
+    public static final UpdateTaskAction INSTANCE = new UpdateTaskAction();
+
+    private UpdateTaskAction() {
+        super(NAME, TaskStatusResponse::new);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.tasks.model.Tasks;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request of an {@link UpdateTaskAction}.
+ */
+public class UpdateTaskRequest extends ActionRequest {
+    private final Tasks task;
+
+    /**
+     * @param task The new content of the task, with its ID and, for a conditional update, the expected version.
+     */
+    public UpdateTaskRequest(Tasks task) {
+        this.task = task;
+    }
+
+    public UpdateTaskRequest(StreamInput in) throws IOException {
+        super(in);
+        this.task = new Tasks(in);
+    }
+
+    public Tasks getTask() {
+        return task;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return task == null || task.getId() == null ? addValidationError("Invalid task data", null) : null;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        task.writeTo(out);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.cache;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Removes changed tasks from the tasks cache and clears the search cache of every node.
+ */
+public class InvalidateTasksCacheAction extends ActionType<InvalidateTasksCacheResponse> {
+    public static final String NAME = "cluster:admin/opensearch/tasks/cache/invalidate";
+    public static final InvalidateTasksCacheAction INSTANCE = new InvalidateTasksCacheAction();
+
+    private InvalidateTasksCacheAction() {
+        super(NAME, InvalidateTasksCacheResponse::new);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.cache;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The part of an {@link InvalidateTasksCacheRequest} sent to a single node.
+ */
+public class InvalidateTasksCacheNodeRequest extends TransportRequest {
+    private final List<String> ids;
+
+    public InvalidateTasksCacheNodeRequest(InvalidateTasksCacheRequest request) {
+        this.ids = request.getIds();
+    }
+
+    public InvalidateTasksCacheNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.ids = in.readStringList();
+    }
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeStringCollection(ids);
+    }
+}
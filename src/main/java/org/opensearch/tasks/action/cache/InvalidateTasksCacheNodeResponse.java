@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.cache;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+/**
+ * Acknowledges that a node removed the requested tasks from its cache.
+ */
+public class InvalidateTasksCacheNodeResponse extends BaseNodeResponse {
+
+    public InvalidateTasksCacheNodeResponse(DiscoveryNode node) {
+        super(node);
+    }
+
+    public InvalidateTasksCacheNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+}
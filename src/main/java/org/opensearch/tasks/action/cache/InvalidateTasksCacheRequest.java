@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.cache;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Request to remove the given task IDs from the tasks cache, and to clear the search cache, of every node in the
+ * cluster.
+ */
+public class InvalidateTasksCacheRequest extends BaseNodesRequest<InvalidateTasksCacheRequest> {
+    private final List<String> ids;
+
+    /**
+     * @param ids The IDs of the changed tasks, empty if only new tasks were created.
+     */
+    public InvalidateTasksCacheRequest(List<String> ids) {
+        // No node IDs: the request is sent to all the nodes
+        super((String[]) null);
+        this.ids = ids;
+    }
+
+    public InvalidateTasksCacheRequest(StreamInput in) throws IOException {
+        super(in);
+        this.ids = in.readStringList();
+    }
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeStringCollection(ids);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.cache;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The per node results of an {@link InvalidateTasksCacheRequest}.
+ */
+public class InvalidateTasksCacheResponse extends BaseNodesResponse<InvalidateTasksCacheNodeResponse> {
+
+    public InvalidateTasksCacheResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public InvalidateTasksCacheResponse(ClusterName clusterName, List<InvalidateTasksCacheNodeResponse> nodes,
+                                        List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<InvalidateTasksCacheNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(InvalidateTasksCacheNodeResponse::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<InvalidateTasksCacheNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+}
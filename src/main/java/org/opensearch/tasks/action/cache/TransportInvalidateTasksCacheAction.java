@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.tasks.cache.TasksCache;
+import org.opensearch.tasks.cache.TasksSearchCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Fans an {@link InvalidateTasksCacheRequest} out to every node, each of which removes the tasks from its local
+ * {@link TasksCache} and clears its {@link TasksSearchCache}.
+ */
+public class TransportInvalidateTasksCacheAction extends TransportNodesAction<InvalidateTasksCacheRequest,
+        InvalidateTasksCacheResponse, InvalidateTasksCacheNodeRequest, InvalidateTasksCacheNodeResponse> {
+    private static final Logger log = LogManager.getLogger(TransportInvalidateTasksCacheAction.class);
+
+    private final TasksCache tasksCache;
+    private final TasksSearchCache searchCache;
+
+    @Inject
+    public TransportInvalidateTasksCacheAction(ThreadPool threadPool, ClusterService clusterService,
+                                               TransportService transportService, ActionFilters actionFilters,
+                                               TasksCache tasksCache, TasksSearchCache searchCache) {
+        super(InvalidateTasksCacheAction.NAME, threadPool, clusterService, transportService, actionFilters,
+                InvalidateTasksCacheRequest::new, InvalidateTasksCacheNodeRequest::new, ThreadPool.Names.MANAGEMENT,
+                InvalidateTasksCacheNodeResponse.class);
+        this.tasksCache = tasksCache;
+        this.searchCache = searchCache;
+    }
+
+    @Override
+    protected InvalidateTasksCacheResponse newResponse(InvalidateTasksCacheRequest request,
+                                                       List<InvalidateTasksCacheNodeResponse> responses,
+                                                       List<FailedNodeException> failures) {
+        return new InvalidateTasksCacheResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected InvalidateTasksCacheNodeRequest newNodeRequest(InvalidateTasksCacheRequest request) {
+        return new InvalidateTasksCacheNodeRequest(request);
+    }
+
+    @Override
+    protected InvalidateTasksCacheNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new InvalidateTasksCacheNodeResponse(in);
+    }
+
+    @Override
+    protected InvalidateTasksCacheNodeResponse nodeOperation(InvalidateTasksCacheNodeRequest request) {
+        log.debug("Invalidating {} cached tasks", request.getIds().size());
+        tasksCache.invalidate(request.getIds());
+        searchCache.invalidateAll();
+        return new InvalidateTasksCacheNodeResponse(clusterService.localNode());
+    }
+}
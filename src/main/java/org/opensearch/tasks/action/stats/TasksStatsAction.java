@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.stats;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Collects the request, thread pool and cache statistics of the plugin from the nodes of the cluster.
+ */
+public class TasksStatsAction extends ActionType<TasksStatsResponse> {
+    public static final String NAME = "cluster:monitor/opensearch/tasks/stats";
+    public static final TasksStatsAction INSTANCE = new TasksStatsAction();
+
+    private TasksStatsAction() {
+        super(NAME, TasksStatsResponse::new);
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.stats;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * The part of a {@link TasksStatsRequest} sent to a single node.
+ */
+public class TasksStatsNodeRequest extends TransportRequest {
+
+    public TasksStatsNodeRequest() {
+    }
+
+    public TasksStatsNodeRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+}
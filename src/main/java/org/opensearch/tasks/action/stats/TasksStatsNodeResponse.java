@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.stats;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.tasks.cache.TasksCacheStats;
+import org.opensearch.tasks.stats.RouteStats;
+import org.opensearch.threadpool.ThreadPoolStats;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The plugin statistics of one node: its REST routes, thread pools and caches.
+ */
+public class TasksStatsNodeResponse extends BaseNodeResponse implements ToXContentFragment {
+    private final Map<String, RouteStats> routes;
+    private final List<ThreadPoolStats.Stats> threadPools;
+    private final TasksCacheStats cache;
+    private final TasksCacheStats searchCache;
+
+    /**
+     * @param node        The node.
+     * @param routes      The statistics of every route that received a request, by route name.
+     * @param threadPools The statistics of the plugin's thread pools.
+     * @param cache       The statistics of the cache of tasks read by ID.
+     * @param searchCache The statistics of the search cache.
+     */
+    public TasksStatsNodeResponse(DiscoveryNode node, Map<String, RouteStats> routes, List<ThreadPoolStats.Stats> threadPools,
+                                  TasksCacheStats cache, TasksCacheStats searchCache) {
+        super(node);
+        this.routes = routes;
+        this.threadPools = threadPools;
+        this.cache = cache;
+        this.searchCache = searchCache;
+    }
+
+    public TasksStatsNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.routes = new TreeMap<>(in.readMap(StreamInput::readString, RouteStats::new));
+        this.threadPools = in.readList(ThreadPoolStats.Stats::new);
+        this.cache = new TasksCacheStats(in);
+        this.searchCache = new TasksCacheStats(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeMap(routes, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        out.writeList(threadPools);
+        cache.writeTo(out);
+        searchCache.writeTo(out);
+    }
+
+    public Map<String, RouteStats> getRoutes() {
+        return routes;
+    }
+
+    public List<ThreadPoolStats.Stats> getThreadPools() {
+        return threadPools;
+    }
+
+    public TasksCacheStats getCache() {
+        return cache;
+    }
+
+    public TasksCacheStats getSearchCache() {
+        return searchCache;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field("name", getNode().getName());
+        builder.field("routes", routes);
+        builder.startObject("thread_pool");
+        for (ThreadPoolStats.Stats stats : threadPools) {
+            stats.toXContent(builder, params);
+        }
+        builder.endObject();
+        builder.field("cache", cache);
+        builder.field("search_cache", searchCache);
+        return builder;
+    }
+}
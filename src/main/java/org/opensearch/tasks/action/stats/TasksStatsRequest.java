@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.stats;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+/**
+ * Request for the plugin statistics of the given nodes.
+ */
+public class TasksStatsRequest extends BaseNodesRequest<TasksStatsRequest> {
+
+    /**
+     * @param nodeIds The nodes to read the statistics of, as accepted by the nodes APIs ({@code _local},
+     *                {@code _all}, node IDs or names); none for every node.
+     */
+    public TasksStatsRequest(String... nodeIds) {
+        super(nodeIds);
+    }
+
+    public TasksStatsRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.stats;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.rest.action.RestActions;
+import org.opensearch.tasks.stats.RouteStats;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The plugin statistics of every node that answered a {@link TasksStatsRequest}, and the route statistics summed
+ * over those nodes.
+ */
+public class TasksStatsResponse extends BaseNodesResponse<TasksStatsNodeResponse> implements ToXContentObject {
+
+    public TasksStatsResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public TasksStatsResponse(ClusterName clusterName, List<TasksStatsNodeResponse> nodes, List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<TasksStatsNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(TasksStatsNodeResponse::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<TasksStatsNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    /**
+     * @return The statistics of every route, summed over the nodes that answered.
+     */
+    public Map<String, RouteStats> getClusterRoutes() {
+        Map<String, RouteStats> routes = new TreeMap<>();
+        for (TasksStatsNodeResponse node : getNodes()) {
+            node.getRoutes().forEach((name, stats) -> routes.merge(name, stats, RouteStats::merge));
+        }
+        return routes;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        RestActions.buildNodesHeader(builder, params, this);
+        builder.field("cluster_name", getClusterName().value());
+        builder.startObject("_all");
+        builder.field("routes", getClusterRoutes());
+        builder.endObject();
+        builder.startObject("nodes");
+        for (TasksStatsNodeResponse node : getNodes()) {
+            builder.startObject(node.getNode().getId());
+            node.toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder.endObject();
+    }
+}
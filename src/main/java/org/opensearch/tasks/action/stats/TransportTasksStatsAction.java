@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.action.stats;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.tasks.cache.TasksCache;
+import org.opensearch.tasks.cache.TasksSearchCache;
+import org.opensearch.tasks.settings.TasksThreadPools;
+import org.opensearch.tasks.stats.TasksRequestStats;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fans a {@link TasksStatsRequest} out to the requested nodes, each of which reports its {@link TasksRequestStats},
+ * the statistics of the plugin's thread pools and those of its caches.
+ */
+public class TransportTasksStatsAction extends TransportNodesAction<TasksStatsRequest, TasksStatsResponse,
+        TasksStatsNodeRequest, TasksStatsNodeResponse> {
+
+    private final TasksRequestStats requestStats;
+    private final TasksCache tasksCache;
+    private final TasksSearchCache searchCache;
+
+    @Inject
+    public TransportTasksStatsAction(ThreadPool threadPool, ClusterService clusterService, TransportService transportService,
+                                     ActionFilters actionFilters, TasksRequestStats requestStats, TasksCache tasksCache,
+                                     TasksSearchCache searchCache) {
+        super(TasksStatsAction.NAME, threadPool, clusterService, transportService, actionFilters, TasksStatsRequest::new,
+                TasksStatsNodeRequest::new, ThreadPool.Names.MANAGEMENT, TasksStatsNodeResponse.class);
+        this.requestStats = requestStats;
+        this.tasksCache = tasksCache;
+        this.searchCache = searchCache;
+    }
+
+    @Override
+    protected TasksStatsResponse newResponse(TasksStatsRequest request, List<TasksStatsNodeResponse> responses,
+                                             List<FailedNodeException> failures) {
+        return new TasksStatsResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected TasksStatsNodeRequest newNodeRequest(TasksStatsRequest request) {
+        return new TasksStatsNodeRequest();
+    }
+
+    @Override
+    protected TasksStatsNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new TasksStatsNodeResponse(in);
+    }
+
+    @Override
+    protected TasksStatsNodeResponse nodeOperation(TasksStatsNodeRequest request) {
+        List<ThreadPoolStats.Stats> threadPools = new ArrayList<>();
+        for (ThreadPoolStats.Stats stats : threadPool.stats()) {
+            if (TasksThreadPools.NAMES.contains(stats.getName())) {
+                threadPools.add(stats);
+            }
+        }
+        return new TasksStatsNodeResponse(clusterService.localNode(), requestStats.stats(), threadPools, tasksCache.stats(),
+                searchCache.stats());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.tasks.model.CompactTask;
+import org.opensearch.tasks.model.Tasks;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local cache of tasks read by ID, held in their {@link CompactTask} form. Entries are weighed by their approximate heap size, the least recently
+ * used ones are evicted once the cache is full, and every entry expires a fixed time after it was written, which
+ * bounds how long a read can be stale if an invalidation is missed. Writes invalidate the entries of the tasks
+ * they change on every node, and a read that was in flight during an invalidation does not cache what it read, as it
+ * may be the version the write replaced.
+ */
+public class TasksCache {
+    private static final Logger log = LogManager.getLogger(TasksCache.class);
+
+    // Rough per-entry overhead of the cache's own entry and LRU links
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+
+    private final Cache<String, CompactTask> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param maxSize The maximum approximate heap size of the cached tasks.
+     * @param expire  How long an entry is served after it was written.
+     */
+    public TasksCache(ByteSizeValue maxSize, TimeValue expire) {
+        this.cache = CacheBuilder.<String, CompactTask>builder()
+                .setMaximumWeight(maxSize.getBytes())
+                .weigher((id, task) -> estimateSize(id, task))
+                .setExpireAfterWrite(expire)
+                .build();
+        log.info("Tasks cache created with a maximum size of {} and entries expiring after {}", maxSize, expire);
+    }
+
+    /**
+     * @param id The task ID.
+     * @return A copy of the cached task, or null if the task is not cached.
+     */
+    public Tasks get(String id) {
+        CompactTask task = cache.get(id);
+        return task == null ? null : task.toTasks();
+    }
+
+    /**
+     * Marks the start of a read whose result may be cached.
+     *
+     * @return The generation to pass to {@link #put}.
+     */
+    public long startRead() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a task read from the index, unless the cache was invalidated since the read started.
+     *
+     * @param task            The task, with its ID set.
+     * @param startGeneration The value returned by {@link #startRead} when the read started.
+     */
+    public void put(Tasks task, long startGeneration) {
+        if (startGeneration != generation.get()) {
+            return;
+        }
+        cache.put(task.getId(), CompactTask.of(task));
+        // An invalidation between the check and the put must not leave the task cached
+        if (startGeneration != generation.get()) {
+            cache.invalidate(task.getId());
+        }
+    }
+
+    /**
+     * Removes the given tasks from the cache.
+     *
+     * @param ids The IDs of the changed tasks.
+     */
+    public void invalidate(Collection<String> ids) {
+        generation.incrementAndGet();
+        for (String id : ids) {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * Removes every task from the cache.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return The hit, miss and eviction counts and the current size of the cache.
+     */
+    public TasksCacheStats stats() {
+        Cache.CacheStats stats = cache.stats();
+        return new TasksCacheStats(stats.getHits(), stats.getMisses(), stats.getEvictions(), cache.count(), cache.weight());
+    }
+
+    /**
+     * Estimates the heap used by a cached task: its compact form, the key and a fixed overhead.
+     */
+    private static long estimateSize(String id, CompactTask task) {
+        return ENTRY_OVERHEAD_BYTES + RamUsageEstimator.sizeOf(id) + task.ramBytesUsed();
+    }
+}
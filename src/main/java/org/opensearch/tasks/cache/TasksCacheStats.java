@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.cache;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Point in time statistics of a node-local tasks cache.
+ */
+public class TasksCacheStats implements Writeable, ToXContentObject {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long count;
+    private final long sizeInBytes;
+
+    /**
+     * @param hits        The number of lookups answered from the cache.
+     * @param misses      The number of lookups that were not cached.
+     * @param evictions   The number of entries removed because the cache was full or the entry expired.
+     * @param count       The number of cached entries.
+     * @param sizeInBytes The approximate heap size of the cached entries.
+     */
+    public TasksCacheStats(long hits, long misses, long evictions, long count, long sizeInBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.count = count;
+        this.sizeInBytes = sizeInBytes;
+    }
+
+    public TasksCacheStats(StreamInput in) throws IOException {
+        this.hits = in.readVLong();
+        this.misses = in.readVLong();
+        this.evictions = in.readVLong();
+        this.count = in.readVLong();
+        this.sizeInBytes = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(hits);
+        out.writeVLong(misses);
+        out.writeVLong(evictions);
+        out.writeVLong(count);
+        out.writeVLong(sizeInBytes);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("hits", hits);
+        builder.field("misses", misses);
+        builder.field("evictions", evictions);
+        builder.field("count", count);
+        builder.humanReadableField("size_in_bytes", "size", new ByteSizeValue(sizeInBytes));
+        return builder.endObject();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "TasksCacheStats{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                ", count=" + count +
+                ", sizeInBytes=" + sizeInBytes +
+                '}';
+    }
+}
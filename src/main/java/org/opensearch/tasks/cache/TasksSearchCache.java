@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.tasks.model.CompactTask;
+import org.opensearch.tasks.model.Tasks;
+import org.opensearch.tasks.model.TasksPage;
+import org.opensearch.tasks.settings.TasksSettings;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local cache of search results, keyed by the canonical form of the search body and holding the tasks in
+ * their {@link CompactTask} form. Any write through the
+ * plugin clears the cache on every node. Writes only become visible to searches after the next index refresh,
+ * so results of searches started within the refresh window of the last write are not cached: they may still
+ * miss that write. Entries also expire a fixed time after they were written, which bounds staleness for writes
+ * made outside the plugin.
+ */
+public class TasksSearchCache {
+    private static final Logger log = LogManager.getLogger(TasksSearchCache.class);
+
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final Cache<String, CachedPage> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long refreshWindowNanos;
+    private volatile long lastInvalidationNanos;
+
+    /**
+     * @param maxSize The maximum approximate heap size of the cached results.
+     * @param expire  How long an entry is served after it was written.
+     */
+    public TasksSearchCache(ByteSizeValue maxSize, TimeValue expire) {
+        this(maxSize, expire, TasksSettings.SEARCH_CACHE_REFRESH_WINDOW.getDefault(Settings.EMPTY));
+    }
+
+    /**
+     * @param maxSize       The maximum approximate heap size of the cached results.
+     * @param expire        How long an entry is served after it was written.
+     * @param refreshWindow Time after a write during which search results are not cached, at least the refresh
+     *                      interval of the tasks indices.
+     */
+    public TasksSearchCache(ByteSizeValue maxSize, TimeValue expire, TimeValue refreshWindow) {
+        this.refreshWindowNanos = refreshWindow.nanos();
+        this.lastInvalidationNanos = System.nanoTime() - refreshWindowNanos;
+        this.cache = CacheBuilder.<String, CachedPage>builder()
+                .setMaximumWeight(maxSize.getBytes())
+                .weigher((key, page) -> estimateSize(key, page))
+                .setExpireAfterWrite(expire)
+                .build();
+        log.info("Tasks search cache created with a maximum size of {} and entries expiring after {}", maxSize, expire);
+    }
+
+    /**
+     * Sets the time after a write during which search results are not cached.
+     *
+     * @param refreshWindow The window, from the {@link TasksSettings#SEARCH_CACHE_REFRESH_WINDOW} setting.
+     */
+    public void setRefreshWindow(TimeValue refreshWindow) {
+        this.refreshWindowNanos = refreshWindow.nanos();
+    }
+
+    /**
+     * Builds the cache key of a search: the body as JSON with the keys of every object sorted, so bodies that
+     * only differ in key order share an entry.
+     *
+     * @param body The search criteria.
+     * @return The cache key.
+     */
+    public static String key(Map<String, Object> body) throws IOException {
+        return key(body, null);
+    }
+
+    /**
+     * Builds the cache key of a search that reads only some source fields; searches of the same body with
+     * different source filters get different entries.
+     *
+     * @param body        The search criteria.
+     * @param fetchSource The source fields read from every hit, or null for whole tasks.
+     * @return The cache key.
+     */
+    public static String key(Map<String, Object> body, FetchSourceContext fetchSource) throws IOException {
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            if (fetchSource == null) {
+                builder.value(canonicalize(body));
+            } else {
+                builder.startArray();
+                builder.value(canonicalize(body));
+                fetchSource.toXContent(builder, ToXContent.EMPTY_PARAMS);
+                builder.endArray();
+            }
+            return builder.toString();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object canonicalize(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                sorted.put(entry.getKey(), canonicalize(entry.getValue()));
+            }
+            return sorted;
+        }
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>();
+            for (Object item : (List<Object>) value) {
+                list.add(canonicalize(item));
+            }
+            return list;
+        }
+        return value;
+    }
+
+    /**
+     * Marks the start of a search whose result may be cached.
+     *
+     * @return The generation to pass to {@link #put}, or -1 if the search may not see the last write yet and its
+     * result must not be cached.
+     */
+    public long startSearch() {
+        // Read the generation before the invalidation time, which is written first
+        long current = generation.get();
+        if (System.nanoTime() - lastInvalidationNanos < refreshWindowNanos) {
+            return -1;
+        }
+        return current;
+    }
+
+    /**
+     * @param key The cache key of the search.
+     * @return A copy of the cached result, or null if the search is not cached.
+     */
+    public TasksPage get(String key) {
+        CachedPage page = cache.get(key);
+        if (page == null) {
+            return null;
+        }
+        List<Tasks> tasks = new ArrayList<>(page.tasks.length);
+        for (CompactTask task : page.tasks) {
+            tasks.add(task.toTasks());
+        }
+        return new TasksPage(tasks, page.total, page.cursor);
+    }
+
+    /**
+     * Caches the result of a search, unless the cache was invalidated since the search started.
+     *
+     * @param key             The cache key of the search.
+     * @param startGeneration The value returned by {@link #startSearch} when the search started.
+     * @param page            The result of the search.
+     */
+    public void put(String key, long startGeneration, TasksPage page) {
+        if (startGeneration >= 0 && startGeneration == generation.get()) {
+            CompactTask[] tasks = new CompactTask[page.getTasks().size()];
+            for (int i = 0; i < tasks.length; i++) {
+                tasks[i] = CompactTask.of(page.getTasks().get(i));
+            }
+            cache.put(key, new CachedPage(tasks, page.getTotal(), page.getCursor()));
+        }
+    }
+
+    /**
+     * Removes every cached result, after a write that may change any of them.
+     */
+    public void invalidateAll() {
+        lastInvalidationNanos = System.nanoTime();
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return The hit, miss and eviction counts and the current size of the cache.
+     */
+    public TasksCacheStats stats() {
+        Cache.CacheStats stats = cache.stats();
+        return new TasksCacheStats(stats.getHits(), stats.getMisses(), stats.getEvictions(), cache.count(), cache.weight());
+    }
+
+    private static long estimateSize(String key, CachedPage page) {
+        long size = ENTRY_OVERHEAD_BYTES + RamUsageEstimator.sizeOf(key) + RamUsageEstimator.shallowSizeOf(page.tasks)
+                + (page.cursor == null ? 0 : RamUsageEstimator.sizeOf(page.cursor));
+        for (CompactTask task : page.tasks) {
+            size += task.ramBytesUsed();
+        }
+        return size;
+    }
+
+    private static final class CachedPage {
+        private final CompactTask[] tasks;
+        private final long total;
+        private final String cursor;
+
+        private CachedPage(CompactTask[] tasks, long total, String cursor) {
+            this.tasks = tasks;
+            this.total = total;
+            this.cursor = cursor;
+        }
+    }
+}
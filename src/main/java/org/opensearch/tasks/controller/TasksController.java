@@ -9,37 +9,87 @@ package org.opensearch.tasks.controller;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.lucene.util.NamedThreadFactory;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.io.Streams;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.tasks.action.CreateTaskAction;
+import org.opensearch.tasks.action.CreateTaskRequest;
+import org.opensearch.tasks.action.DeleteTaskAction;
+import org.opensearch.tasks.action.DeleteTaskRequest;
+import org.opensearch.tasks.action.GetTaskAction;
+import org.opensearch.tasks.action.GetTaskRequest;
+import org.opensearch.tasks.action.PatchTaskAction;
+import org.opensearch.tasks.action.PatchTaskRequest;
+import org.opensearch.tasks.action.SearchTasksAction;
+import org.opensearch.tasks.action.SearchTasksRequest;
+import org.opensearch.tasks.action.UpdateTaskAction;
+import org.opensearch.tasks.action.UpdateTaskRequest;
+import org.opensearch.tasks.action.stats.TasksStatsAction;
+import org.opensearch.tasks.action.stats.TasksStatsRequest;
+import org.opensearch.tasks.model.BulkTaskItem;
+import org.opensearch.tasks.model.BulkTaskResult;
 import org.opensearch.tasks.model.Tasks;
 import org.opensearch.tasks.service.TasksService;
+import org.opensearch.tasks.settings.TasksSettings;
+import org.opensearch.tasks.settings.TasksThreadPools;
+import org.opensearch.tasks.stats.OperationTrace;
+import org.opensearch.tasks.stats.TasksRequestLog;
+import org.opensearch.tasks.stats.TasksRequestStats;
+import org.opensearch.tasks.stats.TasksSlowLog;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.rest.RestRequest.Method.*;
 
 public class TasksController extends BaseRestHandler {
 
     private final TasksService tasksService;
-    private final ExecutorService executor;
+    private final ThreadPool threadPool;
+    private final TasksRequestStats requestStats;
+    private final TasksSlowLog slowLog;
+    private final TasksRequestLog requestLog;
     private static final Logger log = LogManager.getLogger(TasksController.class);
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String IF_MATCH_HEADER = "If-Match";
+    static final String CURSOR_HEADER = "X-Tasks-Cursor";
+    private static final ToXContent EMPTY_OBJECT = (builder, params) -> builder.startObject().endObject();
 
-    public TasksController(TasksService tasksService) {
+    public TasksController(TasksService tasksService, ThreadPool threadPool, TasksRequestStats requestStats,
+                           TasksSlowLog slowLog, TasksRequestLog requestLog) {
         this.tasksService = tasksService;
-        this.executor = Executors.newFixedThreadPool(10, new NamedThreadFactory("TasksControllerThread"));
+        this.threadPool = threadPool;
+        this.requestStats = requestStats;
+        this.slowLog = slowLog;
+        this.requestLog = requestLog;
     }
 
     @Override
@@ -47,11 +97,22 @@ public class TasksController extends BaseRestHandler {
         return "task-plugin";
     }
 
+    @Override
+    public boolean supportsContentStream() {
+        // The bulk endpoint accepts NDJSON bodies
+        return true;
+    }
+
     @Override
     public List<Route> routes() {
         return List.of(
+                new Route(GET, "/_plugins/tasks/_stats"),
+                new Route(GET, "/_plugins/tasks/_stats/{nodeId}"),
                 new Route(GET, "/_plugins/tasks/{id}"),
                 new Route(POST, "/_plugins/tasks/search"),
+                new Route(POST, "/_plugins/tasks/_bulk"),
+                new Route(POST, "/_plugins/tasks/_export"),
+                new Route(POST, "/_plugins/tasks/_aggregate"),
                 new Route(POST, "/_plugins/tasks"),
                 new Route(PUT, "/_plugins/tasks"),
                 new Route(PATCH, "/_plugins/tasks"),
@@ -59,191 +120,507 @@ public class TasksController extends BaseRestHandler {
         );
     }
 
+    /**
+     * Prepares the request and records its count, status and latency under its route in {@link TasksRequestStats}.
+     * A request that fails before it is answered is recorded with the status of its exception. The
+     * {@link OperationTrace} of the request is put in its thread context, where the service and the repository add
+     * the time of their stages, and is passed to the {@link TasksSlowLog} and the {@link TasksRequestLog} with the
+     * response. With
+     * {@code profile=true}, the trace also records the calls sent to the cluster and is returned with the response.
+     */
     @Override
     protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
-        log.info("Preparing request - Method: {}, ID: {}", request.method(), request.param("id"));
+        boolean profile = request.paramAsBoolean("profile", false);
+        RestChannelConsumer consumer = prepareOperation(request, client);
+        String route = routeName(request);
+        return channel -> {
+            OperationTrace trace = new OperationTrace(route, profile);
+            threadPool.getThreadContext().putTransient(OperationTrace.TRANSIENT_KEY, trace);
+            TrackingRestChannel trackingChannel = new TrackingRestChannel(channel, requestStats.start(route), trace, slowLog,
+                    requestLog);
+            try {
+                consumer.accept(trackingChannel);
+            } catch (Exception e) {
+                trackingChannel.finish(ExceptionsHelper.status(e));
+                throw e;
+            }
+        };
+    }
+
+    private RestChannelConsumer prepareOperation(RestRequest request, NodeClient client) throws IOException {
         switch (request.method()) {
             case POST:
-                return channel -> handlePostRequest(request, channel);
+                if (request.path().endsWith("/_bulk")) {
+                    int batchSize = request.paramAsInt("batch_size", -1);
+                    return channel -> handleBulkRequest(request, channel, batchSize);
+                }
+                if (request.path().endsWith("/_export")) {
+                    return channel -> handleExportRequest(request, channel);
+                }
+                if (request.path().endsWith("/_aggregate")) {
+                    return channel -> handleAggregateRequest(request, channel);
+                }
+                TimeValue timeout = request.paramAsTime("timeout", null);
+                FetchSourceContext searchSource = parseFetchSource(request);
+                return channel -> handlePostRequest(request, channel, client, timeout, searchSource);
             case GET:
-                return channel -> handleGetRequest(request, channel);
+                if (isStatsRequest(request)) {
+                    String[] nodeIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+                    return channel -> client.execute(TasksStatsAction.INSTANCE, new TasksStatsRequest(nodeIds), ActionListener.wrap(
+                            response -> sendXContent(channel, RestStatus.OK, response),
+                            ex -> handleException(channel, ex)));
+                }
+                FetchSourceContext getSource = parseFetchSource(request);
+                return channel -> handleGetRequest(request, channel, client, getSource);
             case PUT:
-                return channel -> handlePutRequest(request, channel);
+                return channel -> handlePutRequest(request, channel, client);
             case DELETE:
-                return channel -> handleDeleteRequest(request, channel);
+                return channel -> handleDeleteRequest(request, channel, client);
             case PATCH:
-                return channel -> handlePatchRequest(request, channel);
+                int retryOnConflict = request.paramAsInt("retry_on_conflict", 0);
+                return channel -> handlePatchRequest(request, channel, client, retryOnConflict);
             default:
                 return this::handleDefaultRequest;
             //return channel -> defaultRequestHandle(channel);
         }
     }
 
-    private void handlePatchRequest(RestRequest request, RestChannel channel) throws IOException {
-        log.info("Processing PATCH request");
-        Tasks task = parseRequestBody(request);
-        if (task == null || task.getId() == null) {
-            channel.sendResponse(new BytesRestResponse(RestStatus.BAD_REQUEST, "Invalid task data"));
-            return;
+    private static boolean isStatsRequest(RestRequest request) {
+        return request.path().endsWith("/_stats") || request.path().contains("/_stats/");
+    }
+
+    /**
+     * @return The name the request is counted under in the route statistics.
+     */
+    private static String routeName(RestRequest request) {
+        String path = request.path();
+        switch (request.method()) {
+            case GET:
+                return isStatsRequest(request) ? "stats" : "get";
+            case POST:
+                if (path.endsWith("/_bulk")) {
+                    return "bulk";
+                }
+                if (path.endsWith("/_export")) {
+                    return "export";
+                }
+                if (path.endsWith("/_aggregate")) {
+                    return "aggregate";
+                }
+                return path.contains("search") ? "search" : "create";
+            case PUT:
+                return "update";
+            case PATCH:
+                return "patch";
+            case DELETE:
+                return "delete";
+            default:
+                return "other";
         }
-        CompletableFuture<RestStatus> future = CompletableFuture.supplyAsync(() -> tasksService.patchTask(task), executor);
-        future.thenAccept(status -> channel.sendResponse(new BytesRestResponse(status, XContentType.JSON.mediaType(), "")))
-                .exceptionally(ex -> handleException(channel, ex));
-        log.info("PATCH request processed");
     }
 
-    private void handleDeleteRequest(RestRequest request, RestChannel channel) throws IOException {
-        log.info("Processing DELETE request");
-        String id = request.param("id");
-        if (id == null) {
-            channel.sendResponse(new BytesRestResponse(RestStatus.BAD_REQUEST, "Task ID is missing"));
+    private void handlePatchRequest(RestRequest request, RestChannel channel, NodeClient client,
+                                    int retryOnConflict) throws IOException {
+        Tasks task = parseRequestBody(channel);
+        if (task != null && !applyIfMatch(request, task)) {
+            channel.sendResponse(new BytesRestResponse(RestStatus.BAD_REQUEST, "Invalid If-Match header"));
             return;
         }
-        CompletableFuture<RestStatus> future = CompletableFuture.supplyAsync(() -> tasksService.deleteTask(id), executor);
-        future.thenAccept(status -> channel.sendResponse(new BytesRestResponse(status, XContentType.JSON.mediaType(), id)))
-                .exceptionally(ex -> handleException(channel, ex));
-        log.info("DELETE request processed");
+        client.execute(PatchTaskAction.INSTANCE, new PatchTaskRequest(task, retryOnConflict), ActionListener.wrap(
+                response -> channel.sendResponse(new BytesRestResponse(response.getStatus(), XContentType.JSON.mediaType(), "")),
+                ex -> handleException(channel, ex)));
     }
 
-    private void handlePutRequest(RestRequest request, RestChannel channel) throws IOException {
-        log.info("Processing PUT request");
-        Tasks task = parseRequestBody(request);
-        if (task == null || task.getId() == null) {
-            channel.sendResponse(new BytesRestResponse(RestStatus.BAD_REQUEST, "Invalid task data"));
+    private void handleDeleteRequest(RestRequest request, RestChannel channel, NodeClient client) {
+        String id = request.param("id");
+        setSource(channel, id);
+        client.execute(DeleteTaskAction.INSTANCE, new DeleteTaskRequest(id), ActionListener.wrap(
+                response -> channel.sendResponse(new BytesRestResponse(response.getStatus(), XContentType.JSON.mediaType(), id)),
+                ex -> handleException(channel, ex)));
+    }
+
+    private void handlePutRequest(RestRequest request, RestChannel channel, NodeClient client) throws IOException {
+        Tasks task = parseRequestBody(channel);
+        if (task != null && !applyIfMatch(request, task)) {
+            channel.sendResponse(new BytesRestResponse(RestStatus.BAD_REQUEST, "Invalid If-Match header"));
             return;
         }
-        CompletableFuture<RestStatus> future = CompletableFuture.supplyAsync(() -> tasksService.updateTask(task), executor);
-        future.thenAccept(status -> {
+        client.execute(UpdateTaskAction.INSTANCE, new UpdateTaskRequest(task), ActionListener.wrap(response -> {
+            RestStatus status = response.getStatus();
             if (status == RestStatus.CREATED) {
-                channel.sendResponse(new BytesRestResponse(status, XContentType.JSON.mediaType(), toJson(task)));
+                sendXContent(channel, status, task);
             } else {
                 channel.sendResponse(new BytesRestResponse(status, XContentType.JSON.mediaType(), ""));
             }
-        }).exceptionally(ex -> handleException(channel, ex));
-        log.info("PUT request processed");
+        }, ex -> handleException(channel, ex)));
     }
 
-    private void handleGetRequest(RestRequest request, RestChannel channel) {
-        log.info("Processing GET request");
+    private void handleGetRequest(RestRequest request, RestChannel channel, NodeClient client, FetchSourceContext fetchSource) {
         String id = request.param("id");
-        if (id == null) {
-            channel.sendResponse(new BytesRestResponse(RestStatus.BAD_REQUEST, "Task ID is missing"));
-            return;
-        }
-        CompletableFuture.runAsync(() -> {
-            Tasks task = tasksService.getTaskById(id);
+        setSource(channel, id);
+        client.execute(GetTaskAction.INSTANCE, new GetTaskRequest(id, fetchSource), ActionListener.wrap(response -> {
+            Tasks task = response.getTask();
+            setHits(channel, task == null ? 0 : 1);
             if (task != null) {
-                channel.sendResponse(new BytesRestResponse(RestStatus.OK, XContentType.JSON.mediaType(), toJson(task)));
+                long serializeStart = System.nanoTime();
+                XContentBuilder builder = task.toXContent(channel.newBuilder(), sourceParams(request, fetchSource));
+                recordStage(channel, OperationTrace.Stage.SERIALIZE, serializeStart);
+                BytesRestResponse restResponse = new BytesRestResponse(RestStatus.OK, builder);
+                if (task.hasVersion()) {
+                    restResponse.addHeader(ETAG_HEADER, toETag(task));
+                }
+                channel.sendResponse(restResponse);
             } else {
-                channel.sendResponse(new BytesRestResponse(RestStatus.NOT_FOUND, XContentType.JSON.mediaType(), toJson(null)));
+                sendXContent(channel, RestStatus.NOT_FOUND, EMPTY_OBJECT);
             }
-        }, executor).exceptionally(ex -> handleException(channel, ex));
-        log.info("GET request processed");
+        }, ex -> handleException(channel, ex)));
     }
 
-    private void handlePostRequest(RestRequest request, RestChannel channel) throws IOException {
-        log.info("Processing POST request");
-        Map<String, Object> body = request.contentParser().mapOrdered();
+    private void handlePostRequest(RestRequest request, RestChannel channel, NodeClient client, TimeValue timeout,
+                                   FetchSourceContext fetchSource) throws IOException {
         if (!request.path().contains("search")) {
-            log.info("Creating task");
-            Tasks task = parseRequestBody(request);
-            CompletableFuture<Tasks> future = CompletableFuture.supplyAsync(() -> tasksService.createTask(task), executor);
-            handleFutureCreateTask(channel, future);
+            Tasks task = parseRequestBody(channel);
+            client.execute(CreateTaskAction.INSTANCE, new CreateTaskRequest(task), ActionListener.wrap(
+                    response -> handleCreateTaskResult(channel, response.getTask()),
+                    ex -> handleException(channel, ex)));
         } else {
-            log.info("Searching tasks");
-            CompletableFuture.runAsync(() -> searchTasks(channel, body), executor)
-                    .exceptionally(ex -> handleException(channel, ex));
+            long parseStart = System.nanoTime();
+            Map<String, Object> body = request.contentParser().mapOrdered();
+            recordStage(channel, OperationTrace.Stage.PARSE, parseStart);
+            setSource(channel, body);
+            // Cancels the search, and the shard searches it started, when the HTTP client disconnects
+            RestCancellableNodeClient cancellableClient = new RestCancellableNodeClient(client, request.getHttpChannel());
+            cancellableClient.execute(SearchTasksAction.INSTANCE, new SearchTasksRequest(body, timeout, fetchSource), ActionListener.wrap(
+                    response -> {
+                        setHits(channel, response.getPage().getTotal());
+                        sendXContent(channel, RestStatus.OK, response.getPage(), sourceParams(request, fetchSource));
+                    },
+                    ex -> handleException(channel, ex)));
         }
-        log.info("POST request processed");
     }
 
-    private void handleFutureCreateTask(RestChannel channel, CompletableFuture<Tasks> future) {
-        future.thenAccept(taskResult -> {
-            if (taskResult != null) {
-                channel.sendResponse(new BytesRestResponse(RestStatus.CREATED, XContentType.JSON.mediaType(), toJson(taskResult)));
-            } else {
-                channel.sendResponse(new BytesRestResponse(RestStatus.BAD_REQUEST, XContentType.JSON.mediaType(), ""));
+    private void handleBulkRequest(RestRequest request, RestChannel channel, int batchSize) throws IOException {
+        List<BulkTaskItem> items;
+        long parseStart = System.nanoTime();
+        try {
+            items = parseBulkBody(request);
+        } catch (IllegalArgumentException e) {
+            channel.sendResponse(new BytesRestResponse(RestStatus.BAD_REQUEST, e.getMessage()));
+            return;
+        }
+        recordStage(channel, OperationTrace.Stage.PARSE, parseStart);
+        setHits(channel, items.size());
+        long startTime = System.nanoTime();
+        dispatch(channel, TasksThreadPools.WRITE, () -> tasksService.bulkTasks(items, batchSize, ActionListener.wrap(results -> {
+            long tookInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            sendXContent(channel, RestStatus.OK, (builder, params) -> {
+                builder.startObject();
+                builder.field("took", tookInMillis);
+                builder.field("errors", results.stream().anyMatch(BulkTaskResult::isFailed));
+                builder.startArray("items");
+                for (BulkTaskResult result : results) {
+                    result.toXContent(builder, params);
+                }
+                builder.endArray();
+                return builder.endObject();
+            });
+        }, ex -> handleException(channel, ex))));
+    }
+
+    /**
+     * Exports one page of the tasks matching the search criteria in the body as NDJSON, one task per line. The lines
+     * are written into the channel's pooled output buffer, which holds at most {@link TasksService#getExportMaxBytes}:
+     * the line of a task that does not fit is taken back, and the page is answered with the cursor of the next page
+     * in the {@value #CURSOR_HEADER} header. Any number of tasks is thus exported in pages of bounded size.
+     */
+    private void handleExportRequest(RestRequest request, RestChannel channel) throws IOException {
+        Map<String, Object> body = request.hasContent() ? request.contentParser().mapOrdered() : new HashMap<>();
+        setSource(channel, body);
+        BytesStreamOutput out = channel.bytesOutput();
+        long maxBytes = tasksService.getExportMaxBytes();
+        dispatch(channel, TasksThreadPools.SEARCH, () -> tasksService.exportTasks(body, task -> {
+            long lineStart = out.position();
+            writeNdjsonLine(out, task);
+            if (out.position() <= maxBytes) {
+                return true;
+            }
+            if (lineStart == 0) {
+                // Not even one task fits, so no page could ever make progress
+                throw new OpenSearchStatusException("Task [" + task.getId() + "] is larger than ["
+                        + TasksSettings.EXPORT_MAX_SIZE.getKey() + "] of [" + new ByteSizeValue(maxBytes) + "]",
+                        RestStatus.REQUEST_ENTITY_TOO_LARGE);
             }
-        }).exceptionally(ex -> handleException(channel, ex));
+            out.seek(lineStart);
+            return false;
+        }, ActionListener.wrap(cursor -> {
+            BytesRestResponse response = new BytesRestResponse(RestStatus.OK, NDJSON_MEDIA_TYPE, out.bytes());
+            if (cursor != null) {
+                response.addHeader(CURSOR_HEADER, cursor);
+            }
+            channel.sendResponse(response);
+        }, ex -> handleException(channel, ex))));
+    }
+
+    private void handleAggregateRequest(RestRequest request, RestChannel channel) throws IOException {
+        Map<String, Object> body = request.hasContent() ? request.contentParser().mapOrdered() : new HashMap<>();
+        setSource(channel, body);
+        dispatch(channel, TasksThreadPools.SEARCH, () -> tasksService.aggregateTasks(body, ActionListener.wrap(
+                aggregations -> sendXContent(channel, RestStatus.OK, aggregations),
+                ex -> handleException(channel, ex))));
+    }
+
+    /**
+     * Writes one task and the line separator straight into the output buffer. The builder must not close the buffer,
+     * which belongs to the channel.
+     */
+    private static void writeNdjsonLine(BytesStreamOutput out, Tasks task) throws IOException {
+        try (XContentBuilder builder = XContentFactory.jsonBuilder(Streams.noCloseStream(out))) {
+            task.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        }
+        out.writeByte(XContentType.JSON.xContent().streamSeparator());
     }
 
-    private RestStatus searchTasks(RestChannel channel, Map<String, Object> body) {
-        List<Tasks> tasks = tasksService.searchTasks(body);
-        channel.sendResponse(new BytesRestResponse(RestStatus.OK, XContentType.JSON.mediaType(), toJson(tasks)));
-        return RestStatus.OK;
+    /**
+     * Sends an object serialized directly into the channel's builder, which applies the request's {@code pretty},
+     * {@code filter_path} and {@code format} parameters.
+     */
+    private static void sendXContent(RestChannel channel, RestStatus status, ToXContent content) throws IOException {
+        sendXContent(channel, status, content, channel.request());
     }
 
-    private Void handleException(RestChannel channel, Throwable ex) {
-        log.error("Error processing request", ex);
-        channel.sendResponse(new BytesRestResponse(RestStatus.INTERNAL_SERVER_ERROR, "Internal server error"));
-        return null;
+    private static void sendXContent(RestChannel channel, RestStatus status, ToXContent content,
+                                     ToXContent.Params params) throws IOException {
+        long serializeStart = System.nanoTime();
+        XContentBuilder builder = content.toXContent(channel.newBuilder(), params);
+        recordStage(channel, OperationTrace.Stage.SERIALIZE, serializeStart);
+        channel.sendResponse(new BytesRestResponse(status, builder));
     }
 
-    private void handleDefaultRequest(RestChannel channel) {
-        log.info("Processing default request");
-        channel.sendResponse(new BytesRestResponse(RestStatus.METHOD_NOT_ALLOWED, XContentType.JSON.mediaType(), toJson(null)));
-        log.info("Default request processed");
+    /**
+     * @return The trace of the request answered through the channel, or null if the request is not traced.
+     */
+    private static OperationTrace trace(RestChannel channel) {
+        return channel instanceof TrackingRestChannel ? ((TrackingRestChannel) channel).getTrace() : null;
+    }
+
+    private static void recordStage(RestChannel channel, OperationTrace.Stage stage, long startNanos) {
+        OperationTrace trace = trace(channel);
+        if (trace != null) {
+            trace.record(stage, startNanos);
+        }
+    }
+
+    private static void setSource(RestChannel channel, Object source) {
+        OperationTrace trace = trace(channel);
+        if (trace != null) {
+            trace.setSource(source);
+        }
     }
 
-    private Tasks parseRequestBody(RestRequest request) throws IOException {
+    private static void setHits(RestChannel channel, long hits) {
+        OperationTrace trace = trace(channel);
+        if (trace != null) {
+            trace.setHits(hits);
+        }
+    }
+
+    /**
+     * Reads the source fields to return from the {@code fields} parameter, a shorthand for {@code _source_includes},
+     * or from the {@code _source}, {@code _source_includes} and {@code _source_excludes} parameters.
+     *
+     * @return The source filter, or null if the request asks for whole tasks.
+     */
+    private static FetchSourceContext parseFetchSource(RestRequest request) {
+        String fields = request.param("fields");
+        if (fields != null) {
+            return new FetchSourceContext(true, Strings.splitStringByCommaToArray(fields), Strings.EMPTY_ARRAY);
+        }
+        return FetchSourceContext.parseFromRestRequest(request);
+    }
+
+    /**
+     * @return The serialization params that leave out the task fields excluded by the source filter.
+     */
+    private static ToXContent.Params sourceParams(RestRequest request, FetchSourceContext fetchSource) {
+        if (fetchSource == null) {
+            return request;
+        }
+        Map<String, String> params = new HashMap<>();
+        params.put(Tasks.SOURCE_INCLUDES_PARAM, String.join(",", fetchSource.includes()));
+        params.put(Tasks.SOURCE_EXCLUDES_PARAM, fetchSource.fetchSource() ? String.join(",", fetchSource.excludes()) : "*");
+        return new ToXContent.DelegatingMapParams(params, request);
+    }
+
+    /**
+     * Copies the version named by the {@code If-Match} header, if any, to the task, so that the write only applies
+     * while the stored task is still at that version. The header holds the ETag returned by GET,
+     * {@code "<seq_no>-<primary_term>"}.
+     *
+     * @return False if the header is present but is not a valid task ETag.
+     */
+    private static boolean applyIfMatch(RestRequest request, Tasks task) {
+        String ifMatch = request.header(IF_MATCH_HEADER);
+        if (ifMatch == null) {
+            return true;
+        }
+        String value = ifMatch.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        int separator = value.indexOf('-');
+        if (separator <= 0) {
+            return false;
+        }
+        try {
+            task.setSeqNo(Long.parseLong(value.substring(0, separator)));
+            task.setPrimaryTerm(Long.parseLong(value.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return true;
+    }
+
+    private static String toETag(Tasks task) {
+        return "\"" + task.getSeqNo() + "-" + task.getPrimaryTerm() + "\"";
+    }
+
+    private void handleCreateTaskResult(RestChannel channel, Tasks taskResult) throws IOException {
+        if (taskResult != null) {
+            sendXContent(channel, RestStatus.CREATED, taskResult);
+        } else {
+            channel.sendResponse(new BytesRestResponse(RestStatus.BAD_REQUEST, XContentType.JSON.mediaType(), ""));
+        }
+    }
+
+    /**
+     * Runs the validation and dispatch part of a bulk, export or aggregate request on one of the plugin thread
+     * pools; the other operations are transport actions, which fork to the pools themselves. The service calls are
+     * listener based, so the pool thread is released as soon as the request to the shard has been sent. When the
+     * pool's queue is full the action is rejected, and the request is answered with 429 Too Many Requests.
+     *
+     * @param channel      The channel to answer with an error if the dispatch itself fails.
+     * @param executorName The plugin thread pool to run the action on, see {@link TasksThreadPools}.
+     * @param action       The service call to run.
+     */
+    private void dispatch(RestChannel channel, String executorName, Runnable action) {
+        try {
+            threadPool.executor(executorName).execute(() -> {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    handleException(channel, e);
+                }
+            });
+        } catch (Exception e) {
+            handleException(channel, e);
+        }
+    }
+
+    private void handleException(RestChannel channel, Throwable ex) {
+        RestStatus status = ExceptionsHelper.status(ExceptionsHelper.unwrapCause(ex));
+        if (status == RestStatus.INTERNAL_SERVER_ERROR) {
+            log.error("Error processing request", ex);
+            channel.sendResponse(new BytesRestResponse(RestStatus.INTERNAL_SERVER_ERROR, "Internal server error"));
+        } else {
+            log.debug("Request rejected with status {}: {}", status, ex.getMessage());
+            channel.sendResponse(new BytesRestResponse(status, ex.getMessage()));
+        }
+    }
+
+    private void handleDefaultRequest(RestChannel channel) throws IOException {
+        sendXContent(channel, RestStatus.METHOD_NOT_ALLOWED, EMPTY_OBJECT);
+    }
+
+    /**
+     * Parses the task in the request body in a single pass, and records its ID as the source of the request in
+     * the slow log.
+     *
+     * @return The task, or null if the request has no body.
+     */
+    private static Tasks parseRequestBody(RestChannel channel) throws IOException {
+        RestRequest request = channel.request();
         if (!request.hasContent()) {
             return null;
         }
-        Map<String, Object> map = request.contentParser().mapOrdered();
-        Tasks task = new Tasks();
-        task.setId((String) map.getOrDefault("id", null));
-        task.setTitle((String) map.getOrDefault("title", null));
-        task.setDescription((String) map.getOrDefault("description", null));
-        task.setStatus((String) map.getOrDefault("status", null));
-        task.setCreationDate((String) map.getOrDefault("creationDate", null));
-        task.setCompletionDate((String) map.getOrDefault("completionDate", null));
-        task.setPlannedDate((String) map.getOrDefault("plannedDate", null));
-        task.setAssignee((String) map.getOrDefault("assignee", null));
-        task.setSecurityStandards((String) map.getOrDefault("securityStandards", null));
-        task.setTags((List<String>) map.getOrDefault("tags", null));
+        long parseStart = System.nanoTime();
+        Tasks task;
+        try (XContentParser parser = request.contentParser()) {
+            task = Tasks.fromXContent(parser);
+        }
+        recordStage(channel, OperationTrace.Stage.PARSE, parseStart);
+        OperationTrace trace = trace(channel);
+        if (trace != null) {
+            trace.setSource(task.getId());
+        }
         return task;
     }
 
-    private String toJson(Object object) {
-        try {
-            XContentBuilder builder = XContentFactory.jsonBuilder();
-            builder.startObject();
-            if (object instanceof Tasks) {
-                Tasks task = (Tasks) object;
-                builder.field("id", task.getId());
-                builder.field("title", task.getTitle());
-                builder.field("description", task.getDescription());
-                builder.field("status", task.getStatus());
-                builder.field("creationDate", task.getCreationDate());
-                builder.field("completionDate", task.getCompletionDate());
-                builder.field("plannedDate", task.getPlannedDate());
-                builder.field("assignee", task.getAssignee());
-                builder.field("securityStandards", task.getSecurityStandards());
-                builder.field("tags", task.getTags());
-            } else if (object instanceof List) {
-                List<Tasks> tasks = (List<Tasks>) object;
-                builder.startArray("tasks");
-                for (Tasks task : tasks) {
-                    builder.startObject();
-                    builder.field("id", task.getId());
-                    builder.field("title", task.getTitle());
-                    builder.field("description", task.getDescription());
-                    builder.field("status", task.getStatus());
-                    builder.field("creationDate", task.getCreationDate());
-                    builder.field("completionDate", task.getCompletionDate());
-                    builder.field("plannedDate", task.getPlannedDate());
-                    builder.field("assignee", task.getAssignee());
-                    builder.field("securityStandards", task.getSecurityStandards());
-                    builder.field("tags", task.getTags());
-                    builder.endObject();
+    /**
+     * Parses an NDJSON bulk body. Every action line names the operation ({@code create}, {@code update},
+     * {@code patch} or {@code delete}) and, except for creates, the task ID; every action but delete is followed
+     * by a line with the task body.
+     *
+     * @param request The bulk request.
+     * @return The bulk actions, in request order.
+     * @throws IllegalArgumentException If the body is not a valid bulk body.
+     */
+    private List<BulkTaskItem> parseBulkBody(RestRequest request) throws IOException {
+        if (!request.hasContent()) {
+            throw new IllegalArgumentException("Bulk request body is missing");
+        }
+        BytesReference content = request.content();
+        byte separator = XContentType.JSON.xContent().streamSeparator();
+        List<BulkTaskItem> items = new ArrayList<>();
+        int from = 0;
+        while (from < content.length()) {
+            int end = nextLineEnd(content, separator, from);
+            if (end == from) {
+                from++;
+                continue;
+            }
+            Map<String, Object> action = parseLine(content.slice(from, end - from));
+            from = end + 1;
+            if (action.size() != 1) {
+                throw new IllegalArgumentException("Malformed action line at item " + items.size());
+            }
+            Map.Entry<String, Object> entry = action.entrySet().iterator().next();
+            BulkTaskItem.Operation operation = BulkTaskItem.Operation.fromActionName(entry.getKey());
+            if (operation == null || !(entry.getValue() instanceof Map)) {
+                throw new IllegalArgumentException("Unknown bulk action [" + entry.getKey() + "] at item " + items.size());
+            }
+            Object id = ((Map<?, ?>) entry.getValue()).get("id");
+            String taskId = id == null ? null : id.toString();
+            Tasks task = null;
+            if (operation != BulkTaskItem.Operation.DELETE) {
+                if (from >= content.length()) {
+                    throw new IllegalArgumentException("Missing task body for item " + items.size());
                 }
-                builder.endArray();
+                end = nextLineEnd(content, separator, from);
+                task = parseTaskLine(content.slice(from, end - from));
+                from = end + 1;
+                task.setId(taskId);
             }
-            builder.endObject();
-            return builder.toString();
-        } catch (IOException e) {
-            log.error("Error converting object to JSON", e);
-            return "";
+            items.add(new BulkTaskItem(operation, taskId, task));
+        }
+        return items;
+    }
+
+    private static int nextLineEnd(BytesReference content, byte separator, int from) {
+        int end = content.indexOf(separator, from);
+        return end == -1 ? content.length() : end;
+    }
+
+    private static Map<String, Object> parseLine(BytesReference line) throws IOException {
+        try (XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION, line, XContentType.JSON)) {
+            return parser.mapOrdered();
+        }
+    }
+
+    private static Tasks parseTaskLine(BytesReference line) throws IOException {
+        try (XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION, line, XContentType.JSON)) {
+            return Tasks.fromXContent(parser);
         }
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.controller;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.rest.AbstractRestChannel;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.tasks.stats.OperationTrace;
+import org.opensearch.tasks.stats.TasksRequestLog;
+import org.opensearch.tasks.stats.TasksRequestStats;
+import org.opensearch.tasks.stats.TasksSlowLog;
+
+import java.io.IOException;
+
+/**
+ * Channel that records the status and latency of the response in {@link TasksRequestStats}, and passes the trace
+ * of the request to the {@link TasksSlowLog} and the {@link TasksRequestLog}, before sending the response through the channel of the request. The
+ * response of a profiled request is sent as a JSON object holding the response under {@code response} and the
+ * trace under {@code profile}.
+ */
+class TrackingRestChannel extends AbstractRestChannel {
+    private static final Logger log = LogManager.getLogger(TrackingRestChannel.class);
+
+    private final RestChannel delegate;
+    private final TasksRequestStats.Tracker tracker;
+    private final OperationTrace trace;
+    private final TasksSlowLog slowLog;
+    private final TasksRequestLog requestLog;
+
+    TrackingRestChannel(RestChannel delegate, TasksRequestStats.Tracker tracker, OperationTrace trace, TasksSlowLog slowLog,
+                        TasksRequestLog requestLog) {
+        super(delegate.request(), delegate.detailedErrorsEnabled());
+        this.delegate = delegate;
+        this.tracker = tracker;
+        this.trace = trace;
+        this.slowLog = slowLog;
+        this.requestLog = requestLog;
+    }
+
+    /**
+     * Writes responses into the pooled buffer of the request's channel, which releases it once the response is sent.
+     */
+    @Override
+    protected BytesStreamOutput newBytesOutput() {
+        return delegate.bytesOutput();
+    }
+
+    OperationTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * Records the request as answered with the given status; only the first call counts.
+     */
+    void finish(RestStatus status) {
+        if (tracker.finish(status)) {
+            slowLog.onResponse(trace, status);
+            requestLog.onResponse(trace, status);
+        }
+    }
+
+    @Override
+    public void sendResponse(RestResponse response) {
+        finish(response.status());
+        delegate.sendResponse(trace.isProfiled() ? profiled(response) : response);
+    }
+
+    /**
+     * Wraps a response with the profile of the request. A JSON body is embedded as is; any other body, such as an
+     * error message or an NDJSON export, is embedded as a string. The headers of the response are kept.
+     */
+    private RestResponse profiled(RestResponse response) {
+        try {
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            if (request().paramAsBoolean("pretty", false)) {
+                builder.prettyPrint();
+            }
+            builder.startObject();
+            BytesReference content = response.content();
+            if (content != null && content.length() > 0) {
+                if (isJsonObject(response.contentType(), content)) {
+                    builder.rawField("response", content.streamInput(), XContentType.JSON);
+                } else {
+                    builder.field("response", content.utf8ToString());
+                }
+            }
+            builder.field("profile", trace);
+            builder.endObject();
+            BytesRestResponse profiled = new BytesRestResponse(response.status(), builder);
+            response.getHeaders().forEach((name, values) -> values.forEach(value -> profiled.addHeader(name, value)));
+            return profiled;
+        } catch (IOException e) {
+            log.warn("Exception while writing the request profile: {}", e.getMessage());
+            return response;
+        }
+    }
+
+    private static boolean isJsonObject(String contentType, BytesReference content) {
+        return contentType != null && contentType.startsWith(XContentType.JSON.mediaTypeWithoutParameters())
+                && content.get(0) == '{';
+    }
+}
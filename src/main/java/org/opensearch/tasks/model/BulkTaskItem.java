@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.model;
+
+import java.util.Locale;
+
+/**
+ * A single action of a bulk request: the operation to run, the ID it targets and, except for deletes, the task body.
+ */
+public class BulkTaskItem {
+
+    /**
+     * Enum representing the operations accepted by the bulk endpoint.
+     */
+    public enum Operation {
+        CREATE,
+        UPDATE,
+        PATCH,
+        DELETE;
+
+        /**
+         * @return The name of the operation as used in the NDJSON action lines.
+         */
+        public String actionName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Resolves an operation from the name used in an NDJSON action line.
+         *
+         * @param actionName The action name.
+         * @return The operation, or null if the name is unknown.
+         */
+        public static Operation fromActionName(String actionName) {
+            for (Operation operation : Operation.values()) {
+                if (operation.actionName().equals(actionName)) {
+                    return operation;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Operation operation;
+    private final String id;
+    private final Tasks task;
+
+    public BulkTaskItem(Operation operation, String id, Tasks task) {
+        this.operation = operation;
+        this.id = id;
+        this.task = task;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Tasks getTask() {
+        return task;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkTaskItem{" +
+                "operation=" + operation +
+                ", id='" + id + '\'' +
+                ", task=" + task +
+                '}';
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.model;
+
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * The outcome of a single bulk action, reported in the same position as the action in the request.
+ */
+public class BulkTaskResult implements ToXContentObject {
+    private final BulkTaskItem.Operation operation;
+    private final String id;
+    private final RestStatus status;
+    private final String error;
+
+    public BulkTaskResult(BulkTaskItem.Operation operation, String id, RestStatus status, String error) {
+        this.operation = operation;
+        this.id = id;
+        this.status = status;
+        this.error = error;
+    }
+
+    public BulkTaskItem.Operation getOperation() {
+        return operation;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public RestStatus getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isFailed() {
+        return status.getStatus() >= 300;
+    }
+
+    /**
+     * Writes the result as {@code {"<action>": {"id": ..., "status": ..., "error": ...}}}, the error only for failed
+     * actions.
+     */
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.startObject(operation.actionName());
+        builder.field("id", id);
+        builder.field("status", status.getStatus());
+        if (error != null) {
+            builder.field("error", error);
+        }
+        builder.endObject();
+        return builder.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkTaskResult{" +
+                "operation=" + operation +
+                ", id='" + id + '\'' +
+                ", status=" + status +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
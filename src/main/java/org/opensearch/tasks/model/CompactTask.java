@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.model;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Compact form of a {@link Tasks}, used to send tasks between nodes and to keep them in the caches. The status is
+ * held as a {@link TaskStatus}, dates as days since the epoch and tags as an array. Values the compact fields
+ * cannot hold exactly, such as a status in lower case or a date that is not a valid {@code yyyy-MM-dd}, are kept
+ * as strings, so converting a task back yields the same values it was built from.
+ */
+public final class CompactTask implements Writeable, Accountable {
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(CompactTask.class);
+
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final long NO_VERSION = Long.MIN_VALUE;
+
+    private static final byte STATUS_NULL = -1;
+    private static final byte STATUS_RAW = -2;
+
+    private static final byte DATE_NULL = 0;
+    private static final byte DATE_EPOCH_DAY = 1;
+    private static final byte DATE_RAW = 2;
+
+    private final String id;
+    private final String title;
+    private final String description;
+    private final String assignee;
+    private final String securityStandards;
+    private final TaskStatus status;
+    private final String rawStatus;
+    private final int creationDay;
+    private final int completionDay;
+    private final int plannedDay;
+    // Dates that are not valid yyyy-MM-dd dates, null in the usual case
+    private final String rawCreationDate;
+    private final String rawCompletionDate;
+    private final String rawPlannedDate;
+    private final String[] tags;
+    private final long seqNo;
+    private final long primaryTerm;
+
+    private CompactTask(Tasks task) {
+        this.id = task.getId();
+        this.title = task.getTitle();
+        this.description = task.getDescription();
+        this.assignee = task.getAssignee();
+        this.securityStandards = task.getSecurityStandards();
+        this.status = TaskStatus.fromName(task.getStatus());
+        this.rawStatus = status == null ? task.getStatus() : null;
+        this.creationDay = toEpochDay(task.getCreationDate());
+        this.completionDay = toEpochDay(task.getCompletionDate());
+        this.plannedDay = toEpochDay(task.getPlannedDate());
+        this.rawCreationDate = creationDay == NO_DATE ? task.getCreationDate() : null;
+        this.rawCompletionDate = completionDay == NO_DATE ? task.getCompletionDate() : null;
+        this.rawPlannedDate = plannedDay == NO_DATE ? task.getPlannedDate() : null;
+        this.tags = task.getTags() == null ? null : task.getTags().toArray(new String[0]);
+        this.seqNo = task.getSeqNo() == null ? NO_VERSION : task.getSeqNo();
+        this.primaryTerm = task.getPrimaryTerm() == null ? NO_VERSION : task.getPrimaryTerm();
+    }
+
+    public CompactTask(StreamInput in) throws IOException {
+        this.id = in.readOptionalString();
+        this.title = in.readOptionalString();
+        this.description = in.readOptionalString();
+        this.assignee = in.readOptionalString();
+        this.securityStandards = in.readOptionalString();
+        byte statusByte = in.readByte();
+        this.status = statusByte >= 0 ? TaskStatus.values()[statusByte] : null;
+        this.rawStatus = statusByte == STATUS_RAW ? in.readString() : null;
+        byte creationFlag = in.readByte();
+        this.creationDay = creationFlag == DATE_EPOCH_DAY ? Math.toIntExact(in.readZLong()) : NO_DATE;
+        this.rawCreationDate = creationFlag == DATE_RAW ? in.readString() : null;
+        byte completionFlag = in.readByte();
+        this.completionDay = completionFlag == DATE_EPOCH_DAY ? Math.toIntExact(in.readZLong()) : NO_DATE;
+        this.rawCompletionDate = completionFlag == DATE_RAW ? in.readString() : null;
+        byte plannedFlag = in.readByte();
+        this.plannedDay = plannedFlag == DATE_EPOCH_DAY ? Math.toIntExact(in.readZLong()) : NO_DATE;
+        this.rawPlannedDate = plannedFlag == DATE_RAW ? in.readString() : null;
+        this.tags = in.readOptionalStringArray();
+        this.seqNo = in.readBoolean() ? in.readZLong() : NO_VERSION;
+        this.primaryTerm = in.readBoolean() ? in.readZLong() : NO_VERSION;
+    }
+
+    /**
+     * @param task The task to convert.
+     * @return The compact form of the task.
+     */
+    public static CompactTask of(Tasks task) {
+        return new CompactTask(task);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(id);
+        out.writeOptionalString(title);
+        out.writeOptionalString(description);
+        out.writeOptionalString(assignee);
+        out.writeOptionalString(securityStandards);
+        if (status != null) {
+            out.writeByte((byte) status.ordinal());
+        } else if (rawStatus != null) {
+            out.writeByte(STATUS_RAW);
+            out.writeString(rawStatus);
+        } else {
+            out.writeByte(STATUS_NULL);
+        }
+        writeDate(out, creationDay, rawCreationDate);
+        writeDate(out, completionDay, rawCompletionDate);
+        writeDate(out, plannedDay, rawPlannedDate);
+        out.writeOptionalStringArray(tags);
+        writeVersion(out, seqNo);
+        writeVersion(out, primaryTerm);
+    }
+
+    private static void writeDate(StreamOutput out, int epochDay, String raw) throws IOException {
+        if (epochDay != NO_DATE) {
+            out.writeByte(DATE_EPOCH_DAY);
+            out.writeZLong(epochDay);
+        } else if (raw != null) {
+            out.writeByte(DATE_RAW);
+            out.writeString(raw);
+        } else {
+            out.writeByte(DATE_NULL);
+        }
+    }
+
+    private static void writeVersion(StreamOutput out, long value) throws IOException {
+        out.writeBoolean(value != NO_VERSION);
+        if (value != NO_VERSION) {
+            out.writeZLong(value);
+        }
+    }
+
+    /**
+     * @return A new task with the values this one was built from.
+     */
+    public Tasks toTasks() {
+        Tasks task = new Tasks();
+        copyTo(task);
+        return task;
+    }
+
+    /**
+     * Sets every field of the given task to the values this one was built from.
+     *
+     * @param task The task to fill in.
+     */
+    public void copyTo(Tasks task) {
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setAssignee(assignee);
+        task.setSecurityStandards(securityStandards);
+        task.setStatus(status != null ? status.name() : rawStatus);
+        task.setCreationDate(toDate(creationDay, rawCreationDate));
+        task.setCompletionDate(toDate(completionDay, rawCompletionDate));
+        task.setPlannedDate(toDate(plannedDay, rawPlannedDate));
+        // A mutable list, as tasks read from the index have
+        task.setTags(tags == null ? null : new ArrayList<>(Arrays.asList(tags)));
+        task.setSeqNo(seqNo == NO_VERSION ? null : seqNo);
+        task.setPrimaryTerm(primaryTerm == NO_VERSION ? null : primaryTerm);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long size = SHALLOW_SIZE + sizeOf(id) + sizeOf(title) + sizeOf(description) + sizeOf(assignee)
+                + sizeOf(securityStandards) + sizeOf(rawStatus) + sizeOf(rawCreationDate) + sizeOf(rawCompletionDate)
+                + sizeOf(rawPlannedDate);
+        if (tags != null) {
+            size += RamUsageEstimator.shallowSizeOf(tags);
+            for (String tag : tags) {
+                size += sizeOf(tag);
+            }
+        }
+        return size;
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : RamUsageEstimator.sizeOf(value);
+    }
+
+    /**
+     * Converts a {@code yyyy-MM-dd} date to days since the epoch, without building a {@link LocalDate} for dates
+     * that do not have that form.
+     *
+     * @return The epoch day, or {@link #NO_DATE} if the date is null or not a valid {@code yyyy-MM-dd} date.
+     */
+    static int toEpochDay(String date) {
+        if (date == null || date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return NO_DATE;
+        }
+        int year = digits(date, 0, 4);
+        int month = digits(date, 5, 7);
+        int day = digits(date, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return NO_DATE;
+        }
+        LocalDate firstOfMonth = LocalDate.of(year, month, 1);
+        if (day > firstOfMonth.lengthOfMonth()) {
+            return NO_DATE;
+        }
+        return Math.toIntExact(firstOfMonth.toEpochDay() + day - 1);
+    }
+
+    private static int digits(String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static String toDate(int epochDay, String raw) {
+        return epochDay == NO_DATE ? raw : LocalDate.ofEpochDay(epochDay).toString();
+    }
+}
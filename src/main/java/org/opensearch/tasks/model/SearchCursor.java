@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.model;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Position of a paginated search: the point in time the pages are read from and the sort values of the last hit
+ * returned. Clients only see it as an opaque token.
+ */
+public class SearchCursor {
+    private final String pitId;
+    private final Object[] searchAfter;
+
+    public SearchCursor(String pitId, Object[] searchAfter) {
+        this.pitId = pitId;
+        this.searchAfter = searchAfter;
+    }
+
+    public String getPitId() {
+        return pitId;
+    }
+
+    /**
+     * @return The sort values of the last hit of the previous page, or null for the first page.
+     */
+    public Object[] getSearchAfter() {
+        return searchAfter;
+    }
+
+    /**
+     * Encodes the cursor as an opaque, URL safe token.
+     *
+     * @return The token.
+     */
+    public String encode() {
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            builder.startObject();
+            builder.field("pit", pitId);
+            if (searchAfter != null) {
+                builder.array("after", searchAfter);
+            }
+            builder.endObject();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(BytesReference.toBytes(BytesReference.bytes(builder)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to encode search cursor", e);
+        }
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token The token sent by the client.
+     * @return The cursor.
+     * @throws IllegalArgumentException If the token is not a valid cursor.
+     */
+    public static SearchCursor decode(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            Map<String, Object> map = XContentHelper.convertToMap(new BytesArray(bytes), false, XContentType.JSON).v2();
+            Object pitId = map.get("pit");
+            if (!(pitId instanceof String)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Object after = map.get("after");
+            Object[] searchAfter = after instanceof List ? ((List<?>) after).toArray() : null;
+            return new SearchCursor((String) pitId, searchAfter);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
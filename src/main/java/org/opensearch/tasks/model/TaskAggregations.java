@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.model;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts of the tasks matching a search, grouped by field value and by date.
+ */
+public class TaskAggregations implements ToXContentObject {
+    private final long total;
+    private final Map<String, Map<String, Long>> terms;
+    private final Map<String, Map<String, Long>> histograms;
+
+    /**
+     * @param total      The number of tasks matching the search.
+     * @param terms      For every keyword field, the number of tasks per value, most frequent first.
+     * @param histograms For every date field, the number of tasks per interval, oldest first.
+     */
+    public TaskAggregations(long total, Map<String, Map<String, Long>> terms, Map<String, Map<String, Long>> histograms) {
+        this.total = total;
+        this.terms = terms;
+        this.histograms = histograms;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<String, Map<String, Long>> getTerms() {
+        return terms;
+    }
+
+    public Map<String, Map<String, Long>> getHistograms() {
+        return histograms;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("total", total);
+        builder.field("terms", terms);
+        builder.field("histograms", histograms);
+        return builder.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "TaskAggregations{" +
+                "total=" + total +
+                ", terms=" + terms +
+                ", histograms=" + histograms +
+                '}';
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.model;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Enum representing the possible task statuses.
+ */
+public enum TaskStatus {
+    PLANNED,
+    EXECUTED_OK,
+    EXECUTED_ERROR;
+
+    private static final Map<String, TaskStatus> BY_NAME = new HashMap<>();
+
+    static {
+        for (TaskStatus status : values()) {
+            BY_NAME.put(status.name(), status);
+        }
+    }
+
+    /**
+     * Checks if the given status is valid, ignoring case.
+     *
+     * @param status The status to check.
+     * @return True if the status is valid, otherwise false.
+     */
+    public static boolean isValidStatus(String status) {
+        return status != null && BY_NAME.containsKey(status.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @param name The status as stored.
+     * @return The status spelled exactly as {@code name}, or null if {@code name} is not the name of a status.
+     */
+    public static TaskStatus fromName(String name) {
+        return name == null ? null : BY_NAME.get(name);
+    }
+}
@@ -7,10 +7,23 @@
  */
 package org.opensearch.tasks.model;
 
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ObjectParser;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParseException;
+import org.opensearch.core.xcontent.XContentParser;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
-public class Tasks {
+public class Tasks implements Writeable, ToXContentObject {
     private String id;
     private String title;
     private String description;
@@ -21,6 +34,121 @@ public class Tasks {
     private String plannedDate;
     private List<String> tags;
     private String securityStandards;
+    /**
+     * Version of the stored document the task was read from, or that a write expects; null when unknown.
+     */
+    private Long seqNo;
+    private Long primaryTerm;
+
+    /**
+     * Serialization param holding the source fields to write, the same as the {@code _source_includes} REST param.
+     */
+    public static final String SOURCE_INCLUDES_PARAM = "_source_includes";
+
+    /**
+     * Serialization param holding the source fields to leave out, the same as the {@code _source_excludes} REST param.
+     */
+    public static final String SOURCE_EXCLUDES_PARAM = "_source_excludes";
+
+    /**
+     * Parses a task body. Unknown fields and values of the wrong type are rejected, which the REST layer answers with
+     * 400 Bad Request. The {@code _seq_no} and {@code _primary_term} returned by GET are accepted and ignored, so a
+     * task read from the API can be sent back as is; conditional writes use the {@code If-Match} header instead.
+     */
+    private static final ObjectParser<Tasks, Void> PARSER = new ObjectParser<>("task", Tasks::new);
+
+    static {
+        PARSER.declareStringOrNull(Tasks::setId, new ParseField("id"));
+        PARSER.declareStringOrNull(Tasks::setTitle, new ParseField("title"));
+        PARSER.declareStringOrNull(Tasks::setDescription, new ParseField("description"));
+        PARSER.declareStringOrNull(Tasks::setStatus, new ParseField("status"));
+        PARSER.declareStringOrNull(Tasks::setAssignee, new ParseField("assignee"));
+        PARSER.declareStringOrNull(Tasks::setCreationDate, new ParseField("creationDate"));
+        PARSER.declareStringOrNull(Tasks::setCompletionDate, new ParseField("completionDate"));
+        PARSER.declareStringOrNull(Tasks::setPlannedDate, new ParseField("plannedDate"));
+        PARSER.declareStringOrNull(Tasks::setSecurityStandards, new ParseField("securityStandards"));
+        // Every token reaches parseTags, which accepts null and arrays of strings only
+        PARSER.declareField(Tasks::setTags, Tasks::parseTags, new ParseField("tags"), ObjectParser.ValueType.VALUE_OBJECT_ARRAY);
+        PARSER.declareLong((task, seqNo) -> { }, new ParseField("_seq_no"));
+        PARSER.declareLong((task, primaryTerm) -> { }, new ParseField("_primary_term"));
+    }
+
+    public Tasks() {
+    }
+
+    /**
+     * Reads a task from a JSON object, without building an intermediate map.
+     *
+     * @param parser The parser, positioned before or on the start of the object.
+     * @return The task.
+     * @throws XContentParseException If the object has unknown fields or values of the wrong type.
+     */
+    public static Tasks fromXContent(XContentParser parser) throws IOException {
+        return PARSER.parse(parser, null);
+    }
+
+    private static List<String> parseTags(XContentParser parser) throws IOException {
+        if (parser.currentToken() == XContentParser.Token.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != XContentParser.Token.START_ARRAY) {
+            throw new XContentParseException(parser.getTokenLocation(), "[task] tags must be an array of strings");
+        }
+        List<String> tags = new ArrayList<>();
+        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+            if (parser.currentToken() != XContentParser.Token.VALUE_STRING) {
+                throw new XContentParseException(parser.getTokenLocation(), "[task] tags must be an array of strings");
+            }
+            tags.add(parser.text());
+        }
+        return tags;
+    }
+
+    /**
+     * Reads a task sent in its {@link CompactTask} form.
+     */
+    public Tasks(StreamInput in) throws IOException {
+        new CompactTask(in).copyTo(this);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        CompactTask.of(this).writeTo(out);
+    }
+
+    /**
+     * Writes the task as a JSON object, with its {@code _seq_no} and {@code _primary_term} if it carries a version.
+     * The {@value #SOURCE_INCLUDES_PARAM} and {@value #SOURCE_EXCLUDES_PARAM} params, comma separated field names or
+     * wildcard patterns, leave out the other fields; the ID and the version are always written.
+     */
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        String[] includes = Strings.splitStringByCommaToArray(params.param(SOURCE_INCLUDES_PARAM));
+        String[] excludes = Strings.splitStringByCommaToArray(params.param(SOURCE_EXCLUDES_PARAM));
+        builder.startObject();
+        builder.field("id", id);
+        sourceField(builder, includes, excludes, "title", title);
+        sourceField(builder, includes, excludes, "description", description);
+        sourceField(builder, includes, excludes, "status", status);
+        sourceField(builder, includes, excludes, "creationDate", creationDate);
+        sourceField(builder, includes, excludes, "completionDate", completionDate);
+        sourceField(builder, includes, excludes, "plannedDate", plannedDate);
+        sourceField(builder, includes, excludes, "assignee", assignee);
+        sourceField(builder, includes, excludes, "securityStandards", securityStandards);
+        sourceField(builder, includes, excludes, "tags", tags);
+        if (hasVersion()) {
+            builder.field("_seq_no", seqNo);
+            builder.field("_primary_term", primaryTerm);
+        }
+        return builder.endObject();
+    }
+
+    private static void sourceField(XContentBuilder builder, String[] includes, String[] excludes, String name,
+                                    Object value) throws IOException {
+        if ((includes.length == 0 || Regex.simpleMatch(includes, name)) && !Regex.simpleMatch(excludes, name)) {
+            builder.field(name, value);
+        }
+    }
 
     public String getId() {
         return id;
@@ -102,6 +230,29 @@ public class Tasks {
         this.securityStandards = securityStandards;
     }
 
+    public Long getSeqNo() {
+        return seqNo;
+    }
+
+    public void setSeqNo(Long seqNo) {
+        this.seqNo = seqNo;
+    }
+
+    public Long getPrimaryTerm() {
+        return primaryTerm;
+    }
+
+    public void setPrimaryTerm(Long primaryTerm) {
+        this.primaryTerm = primaryTerm;
+    }
+
+    /**
+     * @return True if the task carries the sequence number and primary term of a stored document.
+     */
+    public boolean hasVersion() {
+        return seqNo != null && primaryTerm != null;
+    }
+
     @Override
     public String toString() {
         return "Tasks{" +
@@ -115,6 +266,8 @@ public class Tasks {
                 ", plannedDate='" + plannedDate + '\'' +
                 ", securityStandards=" + securityStandards +
                 ", tags=" + tags +
+                ", seqNo=" + seqNo +
+                ", primaryTerm=" + primaryTerm +
                 '}';
     }
 }
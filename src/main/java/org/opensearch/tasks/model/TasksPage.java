@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.model;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * One page of search results.
+ */
+public class TasksPage implements Writeable, ToXContentObject {
+    private final List<Tasks> tasks;
+    private final long total;
+    private final String cursor;
+    private final boolean timedOut;
+
+    /**
+     * @param tasks  The tasks of this page.
+     * @param total  The number of tasks matching the search.
+     * @param cursor The token to request the next page with, or null if this is the last page.
+     */
+    public TasksPage(List<Tasks> tasks, long total, String cursor) {
+        this(tasks, total, cursor, false);
+    }
+
+    /**
+     * @param tasks    The tasks of this page.
+     * @param total    The number of tasks matching the search.
+     * @param cursor   The token to request the next page with, or null if this is the last page.
+     * @param timedOut Whether the search ran out of time, in which case the page may miss matching tasks.
+     */
+    public TasksPage(List<Tasks> tasks, long total, String cursor, boolean timedOut) {
+        this.tasks = tasks;
+        this.total = total;
+        this.cursor = cursor;
+        this.timedOut = timedOut;
+    }
+
+    public TasksPage(StreamInput in) throws IOException {
+        this.tasks = in.readList(Tasks::new);
+        this.total = in.readVLong();
+        this.cursor = in.readOptionalString();
+        this.timedOut = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeList(tasks);
+        out.writeVLong(total);
+        out.writeOptionalString(cursor);
+        out.writeBoolean(timedOut);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.startArray("tasks");
+        for (Tasks task : tasks) {
+            task.toXContent(builder, params);
+        }
+        builder.endArray();
+        builder.field("total", total);
+        if (cursor != null) {
+            builder.field("cursor", cursor);
+        }
+        if (timedOut) {
+            builder.field("timed_out", true);
+        }
+        return builder.endObject();
+    }
+
+    public List<Tasks> getTasks() {
+        return tasks;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    @Override
+    public String toString() {
+        return "TasksPage{" +
+                "tasks=" + tasks +
+                ", total=" + total +
+                ", cursor='" + cursor + '\'' +
+                ", timedOut=" + timedOut +
+                '}';
+    }
+}
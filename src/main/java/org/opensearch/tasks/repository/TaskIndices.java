@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.repository;
+
+import org.opensearch.action.support.IndicesOptions;
+
+/**
+ * Names of the tasks indices, and the task IDs that locate a task in them.
+ * <p>
+ * Tasks are stored in backing indices {@code tasks-000001}, {@code tasks-000002} and so on. New tasks are written
+ * through the {@value #WRITE_ALIAS} alias, which {@link TasksIndexRollover} moves to a new backing index once the
+ * current one is old enough, and searches read the {@value #READ_ALIAS} alias, which the index template adds to
+ * every backing index. The {@value #LEGACY_INDEX} index written by earlier versions of the plugin is migrated into a
+ * backing index by {@link TasksIndexBootstrap}, which leaves an alias of the same name on that backing index.
+ * <p>
+ * As a task stays in the backing index it was created in, its ID is the six digit number of that index and its
+ * document ID, {@code 000002.<document ID>}, so reads and writes by ID go straight to the right shard, in real time.
+ * Tasks of the legacy index keep their plain document ID, which never holds a dot, and are found through the
+ * {@value #LEGACY_INDEX} index or, once migrated, its alias. Any other ID with a dot names no
+ * task, so a client cannot point a write at an index of its choosing.
+ */
+public final class TaskIndices {
+    public static final String WRITE_ALIAS = "tasks-write";
+    public static final String READ_ALIAS = "tasks-read";
+    public static final String LEGACY_INDEX = "tasks";
+    public static final String BACKING_INDEX_PREFIX = "tasks-";
+    public static final String FIRST_BACKING_INDEX = BACKING_INDEX_PREFIX + "000001";
+
+    /**
+     * The indices searches read. The legacy index is left out, as its dynamic mapping does not support the filters
+     * and aggregations of the plugin; its tasks are searched once migrated.
+     */
+    static final String[] SEARCH_INDICES = {READ_ALIAS};
+    static final IndicesOptions SEARCH_INDICES_OPTIONS = IndicesOptions.lenientExpandOpen();
+
+    private static final char ID_SEPARATOR = '.';
+    private static final int BACKING_INDEX_DIGITS = 6;
+
+    private TaskIndices() {
+    }
+
+    /**
+     * @param index The index the task is stored in, or null if not known.
+     * @param docId The document ID of the task.
+     * @return The ID of the task.
+     */
+    public static String taskId(String index, String docId) {
+        if (docId == null || index == null || !index.startsWith(BACKING_INDEX_PREFIX)) {
+            return docId;
+        }
+        return index.substring(BACKING_INDEX_PREFIX.length()) + ID_SEPARATOR + docId;
+    }
+
+    /**
+     * @param taskId The ID of a task.
+     * @return The index the task is stored in, or null if the ID names no task.
+     */
+    public static String indexOf(String taskId) {
+        int separator = taskId.indexOf(ID_SEPARATOR);
+        if (separator < 0) {
+            return LEGACY_INDEX;
+        }
+        return isBackingIndexId(taskId, separator) ? BACKING_INDEX_PREFIX + taskId.substring(0, separator) : null;
+    }
+
+    /**
+     * @param taskId The ID of a task.
+     * @return The document ID of the task in its index, or null if the ID names no task.
+     */
+    public static String docIdOf(String taskId) {
+        int separator = taskId.indexOf(ID_SEPARATOR);
+        if (separator < 0) {
+            return taskId;
+        }
+        return isBackingIndexId(taskId, separator) ? taskId.substring(separator + 1) : null;
+    }
+
+    /**
+     * @param index The name of an index.
+     * @return True if the index is a backing index, the prefix followed by a six digit number.
+     */
+    static boolean isBackingIndex(String index) {
+        return index.startsWith(BACKING_INDEX_PREFIX) && index.length() == BACKING_INDEX_PREFIX.length() + BACKING_INDEX_DIGITS
+                && isDigits(index, BACKING_INDEX_PREFIX.length(), index.length());
+    }
+
+    /**
+     * @return True if the ID is a six digit backing index number, the separator and a document ID.
+     */
+    private static boolean isBackingIndexId(String taskId, int separator) {
+        return separator == BACKING_INDEX_DIGITS && separator < taskId.length() - 1 && isDigits(taskId, 0, separator);
+    }
+
+    private static boolean isDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
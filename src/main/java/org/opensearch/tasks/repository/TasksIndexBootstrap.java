@@ -0,0 +1,377 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.repository;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceAlreadyExistsException;
+import org.opensearch.action.admin.indices.alias.Alias;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.create.CreateIndexRequest;
+import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.action.admin.indices.template.put.PutIndexTemplateRequest;
+import org.opensearch.action.support.master.AcknowledgedResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexTemplateMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.gateway.GatewayService;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.ReindexAction;
+import org.opensearch.index.reindex.ReindexRequest;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Installs the index template holding the settings, the strict mapping and the read alias of the tasks indices, then
+ * creates the first backing index with the write alias. Both steps are taken by the elected cluster manager once the
+ * cluster state has been recovered, and only when that state calls for them: the template is installed whenever the
+ * state holds no template or an older version of it, so mapping changes shipped with a new plugin version apply to
+ * indices created afterwards, and the first backing index is created while no index holds the write alias. If
+ * backing indices exist but none holds the write alias, as after a partly failed create, a manual create or a
+ * snapshot restore, the alias is added to the latest of them instead, since creates require it.
+ * <p>
+ * Once the write alias exists, a {@value TaskIndices#LEGACY_INDEX} index written by an earlier version of the plugin,
+ * with its dynamic mapping, is migrated: it is blocked for writes, reindexed into the current write index, and then
+ * replaced, in one alias update, by an alias of the same name on that index, so the plain IDs of its tasks keep
+ * naming them. Searches only read the {@value TaskIndices#READ_ALIAS} alias, so the legacy tasks are searchable
+ * once migrated.
+ * <p>
+ * A failed step is tried again on the next cluster state change, and at the latest after {@link #RETRY_DELAY}.
+ */
+public class TasksIndexBootstrap implements ClusterStateListener, Closeable {
+    private static final Logger log = LogManager.getLogger(TasksIndexBootstrap.class);
+    static final String TEMPLATE_NAME = "tasks-template";
+    private static final String TEMPLATE_RESOURCE = "/tasks-index-template.json";
+    static final TimeValue RETRY_DELAY = TimeValue.timeValueSeconds(30);
+
+    private final Client client;
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final String template;
+    private final int templateVersion;
+    // Set while a request is on its way, so cluster state changes in the meantime do not send it again
+    private final AtomicBoolean installing = new AtomicBoolean();
+    private volatile boolean closed;
+
+    public TasksIndexBootstrap(Client client, ClusterService clusterService, ThreadPool threadPool) {
+        this.client = client;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        try {
+            this.template = loadIndexTemplate();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read the tasks index template", e);
+        }
+        Object version = XContentHelper.convertToMap(new BytesArray(template), false, XContentType.JSON).v2().get("version");
+        this.templateVersion = version instanceof Number ? ((Number) version).intValue() : 0;
+        clusterService.addListener(this);
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        bootstrap(event.state());
+    }
+
+    /**
+     * Takes the next bootstrap step the cluster state calls for, if this node is the elected cluster manager and the
+     * cluster state has been recovered: installs the template if it is missing or older than the one shipped with
+     * the plugin, otherwise, if no index holds the write alias, adds it to the latest backing index or creates the
+     * first one, otherwise migrates the legacy index if there is one. The cluster state change made by one step
+     * triggers the next one.
+     *
+     * @param state The current cluster state.
+     */
+    void bootstrap(ClusterState state) {
+        if (closed || !state.nodes().isLocalNodeElectedClusterManager()
+                || state.blocks().hasGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK)) {
+            return;
+        }
+        if (!templateInstalled(state)) {
+            if (installing.compareAndSet(false, true)) {
+                installIndexTemplate();
+            }
+        } else if (!state.metadata().hasAlias(TaskIndices.WRITE_ALIAS)) {
+            String latest = latestBackingIndex(state);
+            if (installing.compareAndSet(false, true)) {
+                if (latest == null) {
+                    createFirstBackingIndex();
+                } else {
+                    addWriteAlias(latest);
+                }
+            }
+        } else if (state.metadata().hasIndex(TaskIndices.LEGACY_INDEX)) {
+            IndexMetadata writeIndex = state.metadata().getIndicesLookup().get(TaskIndices.WRITE_ALIAS).getWriteIndex();
+            if (writeIndex != null && installing.compareAndSet(false, true)) {
+                migrateLegacyIndex(writeIndex.getIndex().getName());
+            }
+        }
+    }
+
+    /**
+     * @param state The cluster state.
+     * @return The backing index with the highest number, or null if there is none.
+     */
+    private static String latestBackingIndex(ClusterState state) {
+        return Arrays.stream(state.metadata().getConcreteAllIndices())
+                .filter(TaskIndices::isBackingIndex)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    /**
+     * @param state The cluster state.
+     * @return True if the cluster state holds the template shipped with the plugin, or a newer one.
+     */
+    private boolean templateInstalled(ClusterState state) {
+        IndexTemplateMetadata installed = state.metadata().templates().get(TEMPLATE_NAME);
+        return installed != null && installed.version() != null && installed.version() >= templateVersion;
+    }
+
+    /**
+     * Installs the index template.
+     */
+    private void installIndexTemplate() {
+        try {
+            log.info("Installing index template: {}", TEMPLATE_NAME);
+            PutIndexTemplateRequest request = new PutIndexTemplateRequest(TEMPLATE_NAME)
+                    .source(template, XContentType.JSON);
+            client.admin().indices().putTemplate(request, new ActionListener<AcknowledgedResponse>() {
+                @Override
+                public void onResponse(AcknowledgedResponse response) {
+                    log.info("Index template installed: {}", TEMPLATE_NAME);
+                    installing.set(false);
+                    // The state change made by the install may have been seen while the request was still on its way
+                    bootstrap(clusterService.state());
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Error while installing index template: {}", e.getMessage());
+                    installing.set(false);
+                    scheduleRetry();
+                }
+            });
+        } catch (Exception e) {
+            log.error("Error while installing index template: {}", e.getMessage());
+            installing.set(false);
+            scheduleRetry();
+        }
+    }
+
+    /**
+     * Creates the first backing index, holding the write alias. Later backing indices are created by
+     * {@link TasksIndexRollover}.
+     */
+    private void createFirstBackingIndex() {
+        try {
+            log.info("Creating index: {}", TaskIndices.FIRST_BACKING_INDEX);
+            CreateIndexRequest request = new CreateIndexRequest(TaskIndices.FIRST_BACKING_INDEX)
+                    .alias(new Alias(TaskIndices.WRITE_ALIAS).writeIndex(true));
+            client.admin().indices().create(request, new ActionListener<CreateIndexResponse>() {
+                @Override
+                public void onResponse(CreateIndexResponse createIndexResponse) {
+                    log.info("Index created successfully: {}", createIndexResponse);
+                    installing.set(false);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    installing.set(false);
+                    if (ExceptionsHelper.unwrapCause(e) instanceof ResourceAlreadyExistsException) {
+                        log.info("Index already exists: {}", TaskIndices.FIRST_BACKING_INDEX);
+                    } else {
+                        log.error("Error while creating index: {}", e.getMessage());
+                        scheduleRetry();
+                    }
+                }
+            });
+        } catch (Exception e) {
+            log.error("Error while creating index: {}", e.getMessage());
+            installing.set(false);
+            scheduleRetry();
+        }
+    }
+
+    /**
+     * Makes an existing backing index the write index, for a cluster in which no index holds the write alias.
+     *
+     * @param index The backing index to write to.
+     */
+    private void addWriteAlias(String index) {
+        try {
+            log.warn("No index holds the [{}] alias, adding it to [{}]", TaskIndices.WRITE_ALIAS, index);
+            IndicesAliasesRequest request = new IndicesAliasesRequest().addAliasAction(
+                    IndicesAliasesRequest.AliasActions.add().index(index).alias(TaskIndices.WRITE_ALIAS).writeIndex(true));
+            client.admin().indices().aliases(request, new ActionListener<AcknowledgedResponse>() {
+                @Override
+                public void onResponse(AcknowledgedResponse response) {
+                    log.info("Write alias added to index: {}", index);
+                    installing.set(false);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Error while adding the [{}] alias to [{}], creates fail until it exists: {}",
+                            TaskIndices.WRITE_ALIAS, index, e.getMessage());
+                    installing.set(false);
+                    scheduleRetry();
+                }
+            });
+        } catch (Exception e) {
+            log.error("Error while adding the [{}] alias to [{}], creates fail until it exists: {}",
+                    TaskIndices.WRITE_ALIAS, index, e.getMessage());
+            installing.set(false);
+            scheduleRetry();
+        }
+    }
+
+    /**
+     * Blocks writes to the legacy index, so that no write made during the copy is lost, then copies its tasks into
+     * the write index.
+     *
+     * @param writeIndex The current write index.
+     */
+    private void migrateLegacyIndex(String writeIndex) {
+        try {
+            log.info("Migrating index [{}] into [{}]", TaskIndices.LEGACY_INDEX, writeIndex);
+            UpdateSettingsRequest request = new UpdateSettingsRequest(TaskIndices.LEGACY_INDEX)
+                    .settings(Settings.builder().put(IndexMetadata.SETTING_BLOCKS_WRITE, true));
+            client.admin().indices().updateSettings(request, new ActionListener<AcknowledgedResponse>() {
+                @Override
+                public void onResponse(AcknowledgedResponse response) {
+                    reindexLegacyIndex(writeIndex);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    migrationFailed(e);
+                }
+            });
+        } catch (Exception e) {
+            migrationFailed(e);
+        }
+    }
+
+    /**
+     * Copies the tasks of the write blocked legacy index into the write index, keeping their document IDs. The copy
+     * overwrites the tasks a previous, failed attempt copied, which still hold the same data.
+     */
+    private void reindexLegacyIndex(String writeIndex) {
+        try {
+            ReindexRequest request = new ReindexRequest()
+                    .setSourceIndices(TaskIndices.LEGACY_INDEX)
+                    .setDestIndex(writeIndex)
+                    .setRefresh(true);
+            client.execute(ReindexAction.INSTANCE, request, new ActionListener<BulkByScrollResponse>() {
+                @Override
+                public void onResponse(BulkByScrollResponse response) {
+                    if (!response.getBulkFailures().isEmpty() || !response.getSearchFailures().isEmpty() || response.isTimedOut()) {
+                        migrationFailed(new IllegalStateException("Reindex of [" + TaskIndices.LEGACY_INDEX + "] failed for "
+                                + (response.getBulkFailures().size() + response.getSearchFailures().size()) + " tasks"));
+                        return;
+                    }
+                    log.info("Reindexed {} tasks from [{}] into [{}]", response.getTotal(), TaskIndices.LEGACY_INDEX, writeIndex);
+                    replaceLegacyIndex(writeIndex);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    migrationFailed(e);
+                }
+            });
+        } catch (Exception e) {
+            migrationFailed(e);
+        }
+    }
+
+    /**
+     * Removes the legacy index and adds an alias of the same name to the index its tasks were copied to, in a
+     * single cluster state update, so reads and writes by plain ID always find one of them.
+     */
+    private void replaceLegacyIndex(String writeIndex) {
+        try {
+            IndicesAliasesRequest request = new IndicesAliasesRequest()
+                    .addAliasAction(IndicesAliasesRequest.AliasActions.removeIndex().index(TaskIndices.LEGACY_INDEX))
+                    .addAliasAction(IndicesAliasesRequest.AliasActions.add().index(writeIndex).alias(TaskIndices.LEGACY_INDEX));
+            client.admin().indices().aliases(request, new ActionListener<AcknowledgedResponse>() {
+                @Override
+                public void onResponse(AcknowledgedResponse response) {
+                    log.info("Index [{}] migrated into [{}]", TaskIndices.LEGACY_INDEX, writeIndex);
+                    installing.set(false);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    migrationFailed(e);
+                }
+            });
+        } catch (Exception e) {
+            migrationFailed(e);
+        }
+    }
+
+    private void migrationFailed(Exception e) {
+        log.error("Error while migrating index [{}], its tasks cannot be written or searched until it succeeds: {}",
+                TaskIndices.LEGACY_INDEX, e.getMessage());
+        installing.set(false);
+        scheduleRetry();
+    }
+
+    /**
+     * Checks the cluster state again after {@link #RETRY_DELAY}, in case no cluster state change comes first.
+     */
+    private void scheduleRetry() {
+        if (closed) {
+            return;
+        }
+        try {
+            threadPool.schedule(() -> bootstrap(clusterService.state()), RETRY_DELAY, ThreadPool.Names.GENERIC);
+        } catch (Exception e) {
+            log.warn("Unable to schedule the tasks index bootstrap: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the index template shipped with the plugin.
+     *
+     * @return The template source, as JSON.
+     */
+    private static String loadIndexTemplate() throws IOException {
+        try (InputStream stream = TasksIndexBootstrap.class.getResourceAsStream(TEMPLATE_RESOURCE)) {
+            if (stream == null) {
+                throw new IOException("Index template resource not found: " + TEMPLATE_RESOURCE);
+            }
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        clusterService.removeListener(this);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.repository;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.admin.indices.rollover.RolloverRequest;
+import org.opensearch.action.admin.indices.rollover.RolloverResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.tasks.settings.TasksSettings;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+
+/**
+ * Rolls the tasks write alias over to a new backing index once the current one is older than
+ * {@code plugins.tasks.rollover.max_age}. Every node schedules the check, but only the elected cluster manager sends
+ * the rollover request, so a single node rolls the alias over. Tasks stay in the backing index they were written to;
+ * see {@link TaskIndices}.
+ */
+public class TasksIndexRollover implements Closeable {
+    private static final Logger log = LogManager.getLogger(TasksIndexRollover.class);
+
+    private final Client client;
+    private final ClusterService clusterService;
+    private final Scheduler.Cancellable scheduled;
+    private volatile TimeValue maxAge;
+
+    public TasksIndexRollover(Client client, ClusterService clusterService, ThreadPool threadPool) {
+        this.client = client;
+        this.clusterService = clusterService;
+        this.maxAge = TasksSettings.ROLLOVER_MAX_AGE.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(TasksSettings.ROLLOVER_MAX_AGE, this::setMaxAge);
+        TimeValue interval = TasksSettings.ROLLOVER_CHECK_INTERVAL.get(clusterService.getSettings());
+        this.scheduled = threadPool.scheduleWithFixedDelay(this::maybeRollover, interval, ThreadPool.Names.GENERIC);
+    }
+
+    private void setMaxAge(TimeValue maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Sends a rollover request with the age condition if this node is the elected cluster manager and the write
+     * alias exists. The condition is checked by the rollover action, so an index younger than the maximum age is
+     * left alone. Failures are only logged; the next check tries again.
+     */
+    void maybeRollover() {
+        ClusterState state = clusterService.state();
+        if (state == null || !state.nodes().isLocalNodeElectedClusterManager()
+                || !state.metadata().hasAlias(TaskIndices.WRITE_ALIAS)) {
+            return;
+        }
+        try {
+            RolloverRequest request = new RolloverRequest(TaskIndices.WRITE_ALIAS, null);
+            request.addMaxIndexAgeCondition(maxAge);
+            client.admin().indices().rolloverIndex(request, new ActionListener<RolloverResponse>() {
+                @Override
+                public void onResponse(RolloverResponse response) {
+                    if (response.isRolledOver()) {
+                        log.info("Tasks index rolled over from {} to {}", response.getOldIndex(), response.getNewIndex());
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.warn("Exception while rolling over the tasks index: {}", e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Exception while rolling over the tasks index: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduled.cancel();
+    }
+}
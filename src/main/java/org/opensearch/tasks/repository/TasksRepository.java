@@ -10,189 +10,892 @@ package org.opensearch.tasks.repository;
 import com.google.gson.Gson;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.opensearch.action.admin.indices.create.CreateIndexRequest;
-import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.DeletePitResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.client.Requests;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.engine.DocumentMissingException;
+import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.query.TermsSetQueryBuilder;
+import org.opensearch.script.Script;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.histogram.Histogram;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.tasks.action.cache.InvalidateTasksCacheAction;
+import org.opensearch.tasks.action.cache.InvalidateTasksCacheRequest;
+import org.opensearch.tasks.action.cache.InvalidateTasksCacheResponse;
+import org.opensearch.tasks.model.BulkTaskItem;
+import org.opensearch.tasks.model.SearchCursor;
+import org.opensearch.tasks.model.TaskAggregations;
 import org.opensearch.tasks.model.Tasks;
+import org.opensearch.tasks.model.TasksPage;
+import org.opensearch.tasks.stats.OperationTrace;
+import org.opensearch.threadpool.ThreadPool;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 public class TasksRepository {
     private final Client client;
+    private final ClusterService clusterService;
     private static final Logger log = LogManager.getLogger(TasksRepository.class);
-    private static final String INDEX = "tasks";
+    private static final List<String> CONTAINS_TEXT_FIELDS = List.of("title", "description");
+    private static final List<String> CONTAINS_KEYWORD_FIELDS = List.of("status", "assignee", "securityStandards");
+    private static final int NGRAM_SIZE = 3;
+    private static final TimeValue PIT_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+    private static final List<String> AGGREGATION_TERMS_FIELDS = List.of("status", "assignee", "securityStandards", "tags");
+    private static final List<String> AGGREGATION_DATE_FIELDS = List.of("creationDate", "plannedDate", "completionDate");
+    private static final int AGGREGATION_TERMS_SIZE = 100;
 
     public TasksRepository(Client client) {
+        this(client, null);
+    }
+
+    /**
+     * @param client         The client to send requests with.
+     * @param clusterService The cluster service to look up the tasks indices in, or null to skip the lookup.
+     */
+    public TasksRepository(Client client, ClusterService clusterService) {
         this.client = client;
-        createIndex();
+        this.clusterService = clusterService;
     }
 
     /**
-     * Creates the index for storing tasks if it does not already exist.
+     * Checks that a task ID names an index that may hold the task. Reads and writes by ID must only be sent for
+     * such IDs: an update of a missing index would create it, named after whatever the client sent.
+     *
+     * @param id The ID of a task.
+     * @return True if the ID has a valid format and its index exists, or for the legacy index, its alias.
      */
-    private void createIndex() {
-        try {
-            log.info("Creating index: {}", INDEX);
-            if (!client.admin().indices().prepareExists(INDEX).get().isExists()) {
-                CreateIndexRequest request = new CreateIndexRequest(INDEX);
-                CreateIndexResponse createIndexResponse = client.admin().indices().create(request).actionGet();
-                log.info("Index created successfully: {}", createIndexResponse);
-            }
-        } catch (Exception e) {
-            log.error("Error while creating index: {}", e.getMessage());
+    public boolean canLocate(String id) {
+        String index = id == null ? null : TaskIndices.indexOf(id);
+        if (index == null) {
+            return false;
+        }
+        if (clusterService == null) {
+            return true;
         }
+        Metadata metadata = clusterService.state().metadata();
+        return metadata.hasIndex(index) || metadata.hasAlias(index);
     }
 
     /**
-     * Creates a new task in the index.
+     * Creates a new task in the current backing index.
      *
-     * @param tasks The task to create.
-     * @return The index response containing the result of the operation.
+     * @param tasks    The task to create.
+     * @param listener Receives the index response, or null if the operation failed. The ID of the new task is
+     *                 {@link TaskIndices#taskId} of the response's index and ID.
      */
-    public IndexResponse createTask(Tasks tasks) {
+    public void createTask(Tasks tasks, ActionListener<IndexResponse> listener) {
         try {
-            log.info("Creating task: {}", tasks);
+            log.debug("Creating task: {}", tasks);
             Map<String, Object> taskMap = convertTaskToMap(tasks);
-            IndexRequest indexRequest = Requests.indexRequest(INDEX)
-                    .source(taskMap, XContentType.JSON);
-            IndexResponse result = client.index(indexRequest).actionGet();
-            log.info("Task created with result: {}", result);
-            return result;
+            IndexRequest indexRequest = newTaskIndexRequest().source(taskMap, XContentType.JSON);
+            client.index(indexRequest, profileCall("index", new ActionListener<IndexResponse>() {
+                @Override
+                public void onResponse(IndexResponse result) {
+                    log.debug("Task created with result: {}", result);
+                    listener.onResponse(result);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Exception while creating task: {}", e.getMessage());
+                    listener.onResponse(null);
+                }
+            }));
         } catch (Exception e) {
             log.error("Exception while creating task: {}", e.getMessage());
-            return null;
+            listener.onResponse(null);
         }
     }
 
+    /**
+     * @return An index request writing a new task through the write alias. It fails while the alias does not exist,
+     * instead of creating a concrete index named after it that no search would read.
+     */
+    private static IndexRequest newTaskIndexRequest() {
+        return Requests.indexRequest(TaskIndices.WRITE_ALIAS).setRequireAlias(true);
+    }
+
     /**
      * Retrieves a task by its ID.
      *
-     * @param id The ID of the task to retrieve.
-     * @return The retrieved task, or null if not found.
+     * @param id       The ID of the task to retrieve.
+     * @param listener Receives the retrieved task, or null if not found.
      */
-    public Tasks getTaskById(String id) {
+    public void getTaskById(String id, ActionListener<Tasks> listener) {
+        getTaskById(id, null, listener);
+    }
+
+    /**
+     * Retrieves the fields of a task named by a source filter. Fields left out by the filter are null in the task.
+     *
+     * @param id          The ID of the task to retrieve.
+     * @param fetchSource The source fields to read, or null to read the whole task.
+     * @param listener    Receives the retrieved task, or null if not found.
+     */
+    public void getTaskById(String id, FetchSourceContext fetchSource, ActionListener<Tasks> listener) {
+        if (id == null) {
+            log.debug("Task ID is null");
+            listener.onResponse(null);
+            return;
+        }
+        if (!canLocate(id)) {
+            log.debug("Task not found for ID: {}", id);
+            listener.onResponse(null);
+            return;
+        }
         try {
-            log.info("Retrieving task by ID: {}", id);
-            GetResponse getResponse = client.get(Requests.getRequest(INDEX).id(id)).actionGet();
-            if (getResponse.getId() != null) {
-                Tasks task = convertMapToTask(getResponse.getSourceAsMap(), getResponse.getId());
-                log.info("Task retrieved: {}", task);
-                return task;
-            } else {
-                log.warn("Task not found for ID: {}", id);
-                return null;
-            }
+            log.debug("Retrieving task by ID: {}", id);
+            GetRequest getRequest = Requests.getRequest(TaskIndices.indexOf(id)).id(TaskIndices.docIdOf(id))
+                    .fetchSourceContext(fetchSource);
+            client.get(getRequest, profileCall("get", new ActionListener<GetResponse>() {
+                @Override
+                public void onResponse(GetResponse getResponse) {
+                    Map<String, Object> source = getResponse.getSourceAsMap();
+                    // A task read with _source=false exists but has no source
+                    if (getResponse.getId() != null && (source != null || getResponse.isExists())) {
+                        long hydrateStart = System.nanoTime();
+                        Tasks task = convertMapToTask(source, id);
+                        recordHydration(hydrateStart);
+                        task.setSeqNo(getResponse.getSeqNo());
+                        task.setPrimaryTerm(getResponse.getPrimaryTerm());
+                        log.debug("Task retrieved: {}", task);
+                        listener.onResponse(task);
+                    } else {
+                        log.debug("Task not found for ID: {}", id);
+                        listener.onResponse(null);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Exception while retrieving task: {}", e.getMessage());
+                    listener.onResponse(null);
+                }
+            }));
         } catch (Exception e) {
             log.error("Exception while retrieving task: {}", e.getMessage());
-            return null;
+            listener.onResponse(null);
         }
     }
 
     /**
-     * Updates an existing task in the index.
+     * Replaces the fields of an existing task with a single update request, so the existence check and the write
+     * are one shard operation. If the task carries a sequence number and primary term, the write only succeeds
+     * while the stored document is still at that version.
      *
-     * @param tasks The task to update.
-     * @return The index response containing the result of the operation.
+     * @param tasks    The task to update.
+     * @param listener Receives the update response, or null if the task does not exist or the operation failed.
+     *                 A version conflict is passed to {@link ActionListener#onFailure} so that it can be reported
+     *                 as such.
      */
-    public IndexResponse updateTask(Tasks tasks) {
+    public void updateTask(Tasks tasks, ActionListener<UpdateResponse> listener) {
         try {
-            log.info("Updating task: {}", tasks);
-            Map<String, Object> taskMap = convertTaskToMap(tasks);
-            IndexRequest indexRequest = Requests.indexRequest(INDEX)
-                    .id(tasks.getId())
-                    .source(taskMap, XContentType.JSON);
-            IndexResponse result = client.index(indexRequest).actionGet();
-            log.info("Task updated with result: {}", result);
-            return result;
+            log.debug("Updating task: {}", tasks);
+            if (!canLocate(tasks.getId())) {
+                log.debug("Task not found for update: {}", tasks.getId());
+                listener.onResponse(null);
+                return;
+            }
+            UpdateRequest updateRequest = new UpdateRequest(TaskIndices.indexOf(tasks.getId()), TaskIndices.docIdOf(tasks.getId()))
+                    .doc(convertTaskToMap(tasks), XContentType.JSON);
+            if (tasks.hasVersion()) {
+                updateRequest.setIfSeqNo(tasks.getSeqNo()).setIfPrimaryTerm(tasks.getPrimaryTerm());
+            }
+            executeUpdate(updateRequest, listener);
         } catch (Exception e) {
             log.error("Exception while updating task: {}", e.getMessage());
-            return null;
+            listener.onResponse(null);
         }
     }
 
+    /**
+     * Merges the non-null fields of a task into the stored document with a single update request. The shard
+     * reads, merges and writes the document at the version it read; on a concurrent change it retries up to
+     * {@code retryOnConflict} times. If the task carries a sequence number and primary term, the update instead
+     * only succeeds while the stored document is still at that version, without retries.
+     *
+     * @param tasks           The task holding the fields to change.
+     * @param retryOnConflict How many times the shard retries the update on a version conflict.
+     * @param listener        Receives the update response, or null if the task does not exist or the operation
+     *                        failed. A version conflict is passed to {@link ActionListener#onFailure}.
+     */
+    public void patchTask(Tasks tasks, int retryOnConflict, ActionListener<UpdateResponse> listener) {
+        try {
+            log.debug("Patching task: {}", tasks);
+            if (!canLocate(tasks.getId())) {
+                log.debug("Task not found for update: {}", tasks.getId());
+                listener.onResponse(null);
+                return;
+            }
+            UpdateRequest updateRequest = new UpdateRequest(TaskIndices.indexOf(tasks.getId()), TaskIndices.docIdOf(tasks.getId()))
+                    .doc(convertTaskToPartialMap(tasks), XContentType.JSON);
+            if (tasks.hasVersion()) {
+                updateRequest.setIfSeqNo(tasks.getSeqNo()).setIfPrimaryTerm(tasks.getPrimaryTerm());
+            } else {
+                updateRequest.retryOnConflict(retryOnConflict);
+            }
+            executeUpdate(updateRequest, listener);
+        } catch (Exception e) {
+            log.error("Exception while patching task: {}", e.getMessage());
+            listener.onResponse(null);
+        }
+    }
+
+    /**
+     * Sends an update request. A missing task is reported as a null response, and version conflicts are passed
+     * to the listener as failures.
+     */
+    private void executeUpdate(UpdateRequest updateRequest, ActionListener<UpdateResponse> listener) {
+        client.update(updateRequest, profileCall("update", new ActionListener<UpdateResponse>() {
+            @Override
+            public void onResponse(UpdateResponse result) {
+                log.debug("Task updated with result: {}", result.getResult());
+                listener.onResponse(result);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                Throwable cause = ExceptionsHelper.unwrapCause(e);
+                if (cause instanceof VersionConflictEngineException) {
+                    log.debug("Version conflict while updating task: {}", e.getMessage());
+                    listener.onFailure(e);
+                    return;
+                }
+                if (cause instanceof DocumentMissingException || cause instanceof IndexNotFoundException) {
+                    log.debug("Task not found for update: {}", updateRequest.id());
+                } else {
+                    log.error("Exception while updating task: {}", e.getMessage());
+                }
+                listener.onResponse(null);
+            }
+        }));
+    }
+
     /**
      * Deletes a task by its ID.
      *
-     * @param id The ID of the task to delete.
-     * @return The result status of the delete operation.
+     * @param id       The ID of the task to delete.
+     * @param listener Receives the result status of the delete operation.
      */
-    public RestStatus deleteTask(String id) {
+    public void deleteTask(String id, ActionListener<RestStatus> listener) {
+        if (id == null) {
+            log.debug("Task ID is null, cannot delete");
+            listener.onResponse(RestStatus.BAD_REQUEST);
+            return;
+        }
+        if (!canLocate(id)) {
+            log.debug("Task not found for delete: {}", id);
+            listener.onResponse(RestStatus.NOT_FOUND);
+            return;
+        }
         try {
-            log.info("Deleting task by ID: {}", id);
-            RestStatus status = client.delete(Requests.deleteRequest(INDEX).id(id)).actionGet().status();
-            log.info("Task delete result: {}", status);
-            return status;
+            log.debug("Deleting task by ID: {}", id);
+            DeleteRequest deleteRequest = Requests.deleteRequest(TaskIndices.indexOf(id)).id(TaskIndices.docIdOf(id));
+            client.delete(deleteRequest, profileCall("delete", new ActionListener<DeleteResponse>() {
+                @Override
+                public void onResponse(DeleteResponse deleteResponse) {
+                    RestStatus status = deleteResponse.getResult() == DocWriteResponse.Result.NOT_FOUND
+                            ? RestStatus.NOT_FOUND
+                            : deleteResponse.status();
+                    log.debug("Task delete result: {}", status);
+                    listener.onResponse(status);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    if (ExceptionsHelper.unwrapCause(e) instanceof IndexNotFoundException) {
+                        log.debug("Task not found for delete, the index does not exist");
+                        listener.onResponse(RestStatus.NOT_FOUND);
+                        return;
+                    }
+                    log.error("Exception while deleting task: {}", e.getMessage());
+                    listener.onResponse(RestStatus.BAD_REQUEST);
+                }
+            }));
         } catch (Exception e) {
             log.error("Exception while deleting task: {}", e.getMessage());
-            return RestStatus.BAD_REQUEST;
+            listener.onResponse(RestStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Removes the given tasks from the tasks cache, and clears the search cache, of every node. Failures are only
+     * logged, as cached entries expire on their own.
+     *
+     * @param ids      The IDs of the changed tasks, empty if only new tasks were created.
+     * @param listener Called once every reachable node has dropped the tasks.
+     */
+    public void invalidateCachedTasks(List<String> ids, ActionListener<Void> listener) {
+        try {
+            client.execute(InvalidateTasksCacheAction.INSTANCE, new InvalidateTasksCacheRequest(ids),
+                    profileCall("invalidate_cache", new ActionListener<InvalidateTasksCacheResponse>() {
+                        @Override
+                        public void onResponse(InvalidateTasksCacheResponse response) {
+                            if (response.hasFailures()) {
+                                log.warn("Tasks cache invalidation failed on {} nodes", response.failures().size());
+                            }
+                            listener.onResponse(null);
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            log.warn("Exception while invalidating cached tasks: {}", e.getMessage());
+                            listener.onResponse(null);
+                        }
+                    }));
+        } catch (Exception e) {
+            log.warn("Exception while invalidating cached tasks: {}", e.getMessage());
+            listener.onResponse(null);
+        }
+    }
+
+    /**
+     * Opens a point in time on the tasks indices, so that all the pages of a paginated search see the same data.
+     *
+     * @param listener Receives the ID of the point in time.
+     */
+    public void createPointInTime(ActionListener<String> listener) {
+        try {
+            log.debug("Creating point in time on the tasks indices");
+            CreatePitRequest request = new CreatePitRequest(PIT_KEEP_ALIVE, false, TaskIndices.SEARCH_INDICES);
+            request.setIndicesOptions(TaskIndices.SEARCH_INDICES_OPTIONS);
+            client.createPit(request, profileCall("create_pit", new ActionListener<CreatePitResponse>() {
+                @Override
+                public void onResponse(CreatePitResponse response) {
+                    listener.onResponse(response.getId());
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Exception while creating point in time: {}", e.getMessage());
+                    listener.onFailure(e);
+                }
+            }));
+        } catch (Exception e) {
+            log.error("Exception while creating point in time: {}", e.getMessage());
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Releases a point in time once its last page has been read. Failures are only logged, as the point in time
+     * expires on its own after its keep alive.
+     *
+     * @param pitId The ID of the point in time.
+     */
+    private void closePointInTime(String pitId) {
+        try {
+            client.deletePits(new DeletePitRequest(pitId), profileCall("delete_pit", new ActionListener<DeletePitResponse>() {
+                @Override
+                public void onResponse(DeletePitResponse response) {
+                    log.debug("Point in time closed");
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.warn("Exception while closing point in time: {}", e.getMessage());
+                }
+            }));
+        } catch (Exception e) {
+            log.warn("Exception while closing point in time: {}", e.getMessage());
         }
     }
 
     /**
      * Searches for tasks based on the provided search criteria.
      *
+     * @param body     The search criteria as a map.
+     * @param size     The maximum number of tasks to return.
+     * @param cursor   The position of a paginated search, or null for a single page search.
+     * @param listener Receives the page of tasks matching the search criteria.
+     */
+    public void searchTasks(Map<String, Object> body, int size, SearchCursor cursor, ActionListener<TasksPage> listener) {
+        searchTasks(body, size, cursor, null, null, null, listener);
+    }
+
+    /**
+     * Searches for tasks based on the provided search criteria, within a time budget and as a child of the task
+     * that asked for the search, so that cancelling that task also cancels the shard searches.
+     *
+     * @param body        The search criteria as a map.
+     * @param size        The maximum number of tasks to return.
+     * @param cursor      The position of a paginated search, or null for a single page search.
+     * @param fetchSource The source fields to read from every hit, or null to read whole tasks.
+     * @param timeout     How long the shards may search before returning the hits collected so far, or null for no
+     *                    limit.
+     * @param parentTask  The task the search runs for, or null if it does not run for a task.
+     * @param listener    Receives the page of tasks matching the search criteria, or the failure of the search, an
+     *                    {@link IllegalArgumentException} if the criteria are malformed.
+     */
+    public void searchTasks(Map<String, Object> body, int size, SearchCursor cursor, FetchSourceContext fetchSource,
+                            TimeValue timeout, TaskId parentTask, ActionListener<TasksPage> listener) {
+        log.trace("Building search query for tasks.");
+        BoolQueryBuilder boolQuery;
+        try {
+            boolQuery = buildQuery(body);
+        } catch (IllegalArgumentException e) {
+            log.debug("Invalid search criteria: {}", e.getMessage());
+            listener.onFailure(e);
+            return;
+        }
+        executeQuery(boolQuery, size, cursor, fetchSource, timeout, parentTask, listener);
+    }
+
+    /**
+     * Builds the query matching the search criteria.
+     *
      * @param body The search criteria as a map.
-     * @return A list of tasks matching the search criteria.
+     * @return The boolean query with the date, equals and contains filters.
+     * @throws IllegalArgumentException If {@code equals} or {@code contains} is not an object, or {@code tags} is
+     *                                  not an array.
      */
-    public List<Tasks> searchTasks(Map<String, Object> body) {
-        log.info("Building search query for tasks.");
+    private static BoolQueryBuilder buildQuery(Map<String, Object> body) {
         BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
 
         addDateFilters(body, boolQuery);
         addEqualsFilters(body, boolQuery);
+        addContainsFilters(body, boolQuery);
 
-        return executeQuery(boolQuery);
+        return boolQuery;
     }
 
     /**
-     * Executes the search query and returns the results.
+     * Builds the search request for one page. Hits are sorted by creation date; paginated searches read from the
+     * cursor's point in time and use the position of the document in its shard ({@code _shard_doc}) as tiebreaker,
+     * so {@code search_after} never skips or repeats a task without loading the {@code _id} field data.
      *
-     * @param boolQuery The boolean query to execute.
-     * @return A list of tasks matching the query.
+     * @param boolQuery   The boolean query to execute.
+     * @param size        The maximum number of tasks to return.
+     * @param cursor      The position of a paginated search, or null for a single page search.
+     * @param fetchSource The source fields to read from every hit, or null to read whole tasks.
+     * @param timeout     The time budget of the shard searches, or null for no limit.
+     * @return The search request.
      */
-    private List<Tasks> executeQuery(BoolQueryBuilder boolQuery) {
+    private static SearchRequest buildSearchRequest(BoolQueryBuilder boolQuery, int size, SearchCursor cursor,
+                                                    FetchSourceContext fetchSource, TimeValue timeout) {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                .query(boolQuery)
+                .size(size)
+                .sort(SortBuilders.fieldSort("creationDate").order(SortOrder.ASC).unmappedType("date"));
+        if (fetchSource != null) {
+            sourceBuilder.fetchSource(fetchSource);
+        }
+        if (timeout != null) {
+            sourceBuilder.timeout(timeout);
+        }
+        if (cursor == null) {
+            return pruneByDate(newSearchRequest().source(sourceBuilder), boolQuery);
+        }
+        sourceBuilder.sort(SortBuilders.fieldSort("_shard_doc").order(SortOrder.ASC));
+        sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(cursor.getPitId()).setKeepAlive(PIT_KEEP_ALIVE));
+        if (cursor.getSearchAfter() != null) {
+            sourceBuilder.searchAfter(cursor.getSearchAfter());
+        }
+        return pruneByDate(new SearchRequest().source(sourceBuilder), boolQuery);
+    }
+
+    /**
+     * @return A search request on the tasks indices.
+     */
+    private static SearchRequest newSearchRequest() {
+        return new SearchRequest(TaskIndices.SEARCH_INDICES).indicesOptions(TaskIndices.SEARCH_INDICES_OPTIONS);
+    }
+
+    /**
+     * Makes a search with a date range skip the shards holding no date within the range. Before searching, the
+     * coordinating node asks every shard whether the query can match, which the shard answers from the minimum and
+     * maximum of the field, without running the query; as backing indices cover successive periods, a search on a
+     * recent range then only runs on the latest indices. Searches without a range skip that round trip.
+     *
+     * @param searchRequest The search request.
+     * @param boolQuery     The query of the search.
+     * @return The search request.
+     */
+    private static SearchRequest pruneByDate(SearchRequest searchRequest, BoolQueryBuilder boolQuery) {
+        if (boolQuery.filter().stream().anyMatch(filter -> filter instanceof RangeQueryBuilder)) {
+            searchRequest.setPreFilterShardSize(1);
+        }
+        return searchRequest;
+    }
+
+    /**
+     * Executes the search query and returns one page of results.
+     *
+     * @param boolQuery   The boolean query to execute.
+     * @param size        The maximum number of tasks to return.
+     * @param cursor      The position of a paginated search, or null for a single page search.
+     * @param fetchSource The source fields to read from every hit, or null to read whole tasks.
+     * @param timeout     The time budget of the shard searches, or null for no limit.
+     * @param parentTask  The task the search runs for, or null if it does not run for a task.
+     * @param listener    Receives the page of tasks matching the query, or the failure of the search, whether it was
+     *                    thrown or returned by the shards.
+     */
+    private void executeQuery(BoolQueryBuilder boolQuery, int size, SearchCursor cursor, FetchSourceContext fetchSource,
+                              TimeValue timeout, TaskId parentTask, ActionListener<TasksPage> listener) {
         try {
-            log.info("Executing search query.");
-            SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(boolQuery);
-            SearchRequest searchRequest = new SearchRequest(INDEX).source(sourceBuilder);
-            SearchResponse response = client.search(searchRequest).actionGet();
-
-            List<Tasks> tasksList = new ArrayList<>();
-            for (SearchHit hit : response.getHits()) {
-                Tasks task = convertMapToTask(hit.getSourceAsMap(), hit.getId());
-                tasksList.add(task);
+            log.debug("Executing search query.");
+            SearchRequest searchRequest = profileSearch(buildSearchRequest(boolQuery, size, cursor, fetchSource, timeout));
+            if (parentTask != null) {
+                searchRequest.setParentTask(parentTask);
             }
+            client.search(searchRequest, profileCall("search", new ActionListener<SearchResponse>() {
+                @Override
+                public void onResponse(SearchResponse response) {
+                    SearchHit[] hits = response.getHits().getHits();
+                    long hydrateStart = System.nanoTime();
+                    List<Tasks> tasksList = new ArrayList<>(hits.length);
+                    for (SearchHit hit : hits) {
+                        Tasks task = convertMapToTask(hit.getSourceAsMap(), TaskIndices.taskId(hit.getIndex(), hit.getId()));
+                        tasksList.add(task);
+                    }
+                    recordHydration(hydrateStart);
+                    TotalHits totalHits = response.getHits().getTotalHits();
+                    long total = totalHits != null ? totalHits.value : tasksList.size();
+                    boolean timedOut = response.isTimedOut();
+                    String nextCursor = null;
+                    if (cursor != null) {
+                        String pitId = response.pointInTimeId() != null ? response.pointInTimeId() : cursor.getPitId();
+                        if (hits.length < size) {
+                            closePointInTime(pitId);
+                        } else {
+                            nextCursor = new SearchCursor(pitId, hits[hits.length - 1].getSortValues()).encode();
+                        }
+                    }
+                    log.debug("Search completed with {} tasks found, timed out: {}.", tasksList.size(), timedOut);
+                    listener.onResponse(new TasksPage(tasksList, total, nextCursor, timedOut));
+                }
 
-            log.info("Search completed with {} tasks found.", tasksList.size());
-            return tasksList;
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Exception while executing search: {}", e.getMessage());
+                    listener.onFailure(e);
+                }
+            }));
         } catch (Exception e) {
             log.error("Exception while executing search: {}", e.getMessage());
-            return new ArrayList<>();
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Counts the tasks matching the search criteria by keyword value and by date, with {@code size: 0} so no
+     * document is fetched. Failures are passed to the listener, as empty counts would look like real data.
+     *
+     * @param body     The search criteria as a map.
+     * @param interval The calendar interval of the date histograms.
+     * @param listener Receives the counts.
+     */
+    public void aggregateTasks(Map<String, Object> body, DateHistogramInterval interval, ActionListener<TaskAggregations> listener) {
+        try {
+            log.debug("Executing aggregation query with interval {}", interval);
+            BoolQueryBuilder boolQuery = buildQuery(body);
+            SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                    .query(boolQuery)
+                    .size(0)
+                    .trackTotalHits(true);
+            for (String field : AGGREGATION_TERMS_FIELDS) {
+                sourceBuilder.aggregation(AggregationBuilders.terms(field).field(field).size(AGGREGATION_TERMS_SIZE));
+            }
+            for (String field : AGGREGATION_DATE_FIELDS) {
+                sourceBuilder.aggregation(AggregationBuilders.dateHistogram(field).field(field)
+                        .calendarInterval(interval).format("yyyy-MM-dd"));
+            }
+            SearchRequest searchRequest = profileSearch(pruneByDate(newSearchRequest().source(sourceBuilder), boolQuery));
+            client.search(searchRequest, profileCall("search", new ActionListener<SearchResponse>() {
+                @Override
+                public void onResponse(SearchResponse response) {
+                    TotalHits totalHits = response.getHits().getTotalHits();
+                    Aggregations aggregations = response.getAggregations();
+                    Map<String, Map<String, Long>> terms = new LinkedHashMap<>();
+                    for (String field : AGGREGATION_TERMS_FIELDS) {
+                        Map<String, Long> counts = new LinkedHashMap<>();
+                        Terms agg = aggregations != null ? aggregations.get(field) : null;
+                        if (agg != null) {
+                            for (Terms.Bucket bucket : agg.getBuckets()) {
+                                counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+                            }
+                        }
+                        terms.put(field, counts);
+                    }
+                    Map<String, Map<String, Long>> histograms = new LinkedHashMap<>();
+                    for (String field : AGGREGATION_DATE_FIELDS) {
+                        Map<String, Long> counts = new LinkedHashMap<>();
+                        Histogram agg = aggregations != null ? aggregations.get(field) : null;
+                        if (agg != null) {
+                            for (Histogram.Bucket bucket : agg.getBuckets()) {
+                                counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+                            }
+                        }
+                        histograms.put(field, counts);
+                    }
+                    long total = totalHits != null ? totalHits.value : 0;
+                    log.debug("Aggregation completed over {} tasks", total);
+                    listener.onResponse(new TaskAggregations(total, terms, histograms));
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Exception while executing aggregation: {}", e.getMessage());
+                    listener.onFailure(e);
+                }
+            }));
+        } catch (Exception e) {
+            log.error("Exception while executing aggregation: {}", e.getMessage());
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Exports one page of the tasks matching the search criteria. The tasks are read from a point in time in
+     * batches of {@code batchSize}, and each batch is handed to the consumer before the next one is requested, so
+     * only one batch of hits is held at a time. The page ends when the consumer declines a task or the last task
+     * has been read; in the first case the point in time is kept for the next page, otherwise it is released, as it
+     * is when the export fails.
+     *
+     * @param body      The search criteria as a map.
+     * @param batchSize The number of tasks read per search request.
+     * @param cursor    The position to continue a previous page from, or null to start the export.
+     * @param consumer  Receives the tasks in creation date order, and returns false once the page is full. The
+     *                  declined task is the first one of the next page, so the consumer must accept at least one
+     *                  task per page.
+     * @param listener  Receives the cursor to read the next page with, or null once every task has been exported,
+     *                  or an {@link IllegalArgumentException} if the criteria are malformed.
+     */
+    public void exportTasks(Map<String, Object> body, int batchSize, SearchCursor cursor,
+                            CheckedFunction<Tasks, Boolean, IOException> consumer, ActionListener<String> listener) {
+        log.debug("Exporting tasks in batches of {}", batchSize);
+        BoolQueryBuilder boolQuery;
+        try {
+            boolQuery = buildQuery(body);
+        } catch (IllegalArgumentException e) {
+            log.debug("Invalid export criteria: {}", e.getMessage());
+            listener.onFailure(e);
+            return;
+        }
+        if (cursor != null) {
+            exportPage(boolQuery, batchSize, cursor, consumer, listener);
+            return;
+        }
+        createPointInTime(ActionListener.wrap(
+                pitId -> exportPage(boolQuery, batchSize, new SearchCursor(pitId, null), consumer, listener),
+                listener::onFailure));
+    }
+
+    /**
+     * Reads one batch of an export page and continues with the next one while batches come back full and the
+     * consumer accepts every task.
+     */
+    private void exportPage(BoolQueryBuilder boolQuery, int batchSize, SearchCursor cursor,
+                            CheckedFunction<Tasks, Boolean, IOException> consumer, ActionListener<String> listener) {
+        try {
+            client.search(profileSearch(buildSearchRequest(boolQuery, batchSize, cursor, null, null)),
+                    profileCall("search", new ActionListener<SearchResponse>() {
+                @Override
+                public void onResponse(SearchResponse response) {
+                    String pitId = response.pointInTimeId() != null ? response.pointInTimeId() : cursor.getPitId();
+                    SearchHit[] hits = response.getHits().getHits();
+                    // The sort values of the last task written, which the next batch or page continues after
+                    Object[] searchAfter = cursor.getSearchAfter();
+                    try {
+                        for (SearchHit hit : hits) {
+                            if (!consumer.apply(convertMapToTask(hit.getSourceAsMap(), TaskIndices.taskId(hit.getIndex(), hit.getId())))) {
+                                log.debug("Export page full, continuing from a cursor");
+                                listener.onResponse(new SearchCursor(pitId, searchAfter).encode());
+                                return;
+                            }
+                            searchAfter = hit.getSortValues();
+                        }
+                    } catch (Exception e) {
+                        log.error("Exception while writing exported tasks: {}", e.getMessage());
+                        closePointInTime(pitId);
+                        listener.onFailure(e);
+                        return;
+                    }
+                    if (hits.length < batchSize) {
+                        closePointInTime(pitId);
+                        log.debug("Export completed");
+                        listener.onResponse(null);
+                        return;
+                    }
+                    exportPage(boolQuery, batchSize, new SearchCursor(pitId, searchAfter), consumer, listener);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Exception while exporting tasks: {}", e.getMessage());
+                    closePointInTime(cursor.getPitId());
+                    listener.onFailure(e);
+                }
+            }));
+        } catch (Exception e) {
+            log.error("Exception while exporting tasks: {}", e.getMessage());
+            closePointInTime(cursor.getPitId());
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Sends a batch of already validated bulk actions to the index as a single bulk request. The IDs of updates and
+     * deletes must have passed {@link #canLocate}.
+     *
+     * @param items    The actions to execute.
+     * @param listener Receives the bulk response, with one item per action in the same order, or null if the
+     *                 request failed as a whole.
+     */
+    public void bulkTasks(List<BulkTaskItem> items, ActionListener<BulkResponse> listener) {
+        try {
+            log.debug("Executing bulk request with {} actions", items::size);
+            BulkRequest bulkRequest = new BulkRequest();
+            for (BulkTaskItem item : items) {
+                switch (item.getOperation()) {
+                    case CREATE:
+                        bulkRequest.add(newTaskIndexRequest().source(convertTaskToMap(item.getTask()), XContentType.JSON));
+                        break;
+                    case UPDATE:
+                        bulkRequest.add(new UpdateRequest(TaskIndices.indexOf(item.getId()), TaskIndices.docIdOf(item.getId()))
+                                .doc(convertTaskToMap(item.getTask()), XContentType.JSON));
+                        break;
+                    case PATCH:
+                        bulkRequest.add(new UpdateRequest(TaskIndices.indexOf(item.getId()), TaskIndices.docIdOf(item.getId()))
+                                .doc(convertTaskToPartialMap(item.getTask()), XContentType.JSON));
+                        break;
+                    case DELETE:
+                        bulkRequest.add(Requests.deleteRequest(TaskIndices.indexOf(item.getId())).id(TaskIndices.docIdOf(item.getId())));
+                        break;
+                }
+            }
+            client.bulk(bulkRequest, profileCall("bulk", new ActionListener<BulkResponse>() {
+                @Override
+                public void onResponse(BulkResponse result) {
+                    log.debug("Bulk request completed in {} with failures: {}", result::getTook, result::hasFailures);
+                    listener.onResponse(result);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Exception while executing bulk request: {}", e.getMessage());
+                    listener.onResponse(null);
+                }
+            }));
+        } catch (Exception e) {
+            log.error("Exception while executing bulk request: {}", e.getMessage());
+            listener.onResponse(null);
+        }
+    }
+
+    /**
+     * @return The trace of the request the repository works for, or null if it is not traced. Response callbacks
+     * run in the thread context of the request that sent the call.
+     */
+    private OperationTrace currentTrace() {
+        ThreadPool threadPool = client.threadPool();
+        return threadPool == null ? null : OperationTrace.current(threadPool.getThreadContext());
+    }
+
+    /**
+     * Adds the time since {@code startNanos} to the hydration stage of the request being traced for the slow log,
+     * if any.
+     */
+    private void recordHydration(long startNanos) {
+        OperationTrace trace = currentTrace();
+        if (trace != null) {
+            trace.record(OperationTrace.Stage.HYDRATE, startNanos);
         }
     }
 
+    /**
+     * Times a call sent to the cluster for the profile of the current request, with the query profile of a search,
+     * when the request asked for a profile. The call is recorded before the listener runs.
+     *
+     * @param name     The kind of call.
+     * @param listener The listener of the call.
+     * @return The listener to send the call with.
+     */
+    private <T> ActionListener<T> profileCall(String name, ActionListener<T> listener) {
+        OperationTrace trace = currentTrace();
+        if (trace == null || !trace.isProfiled()) {
+            return listener;
+        }
+        long callStart = System.nanoTime();
+        return new ActionListener<T>() {
+            @Override
+            public void onResponse(T response) {
+                trace.recordCall(name, callStart,
+                        response instanceof SearchResponse ? ((SearchResponse) response).getProfileResults() : null);
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                trace.recordCall(name, callStart, null);
+                listener.onFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Turns on the query profile of a search sent for a request that asked for a profile.
+     */
+    private SearchRequest profileSearch(SearchRequest searchRequest) {
+        OperationTrace trace = currentTrace();
+        if (trace != null && trace.isProfiled() && searchRequest.source() != null) {
+            searchRequest.source().profile(true);
+        }
+        return searchRequest;
+    }
+
     /**
      * Converts a task object to a map for indexing.
      *
      * @param tasks The task to convert.
      * @return A map representing the task.
      */
-    private Map<String, Object> convertTaskToMap(Tasks tasks) {
+    static Map<String, Object> convertTaskToMap(Tasks tasks) {
         Map<String, Object> taskMap = new HashMap<>();
         taskMap.put("title", tasks.getTitle());
         taskMap.put("description", tasks.getDescription());
@@ -206,16 +909,36 @@ public class TasksRepository {
         return taskMap;
     }
 
+    /**
+     * Converts the non-null fields of a task to a map, for partial updates of an existing document.
+     * Tags are only included when the list is not empty, matching the rules of a PATCH request.
+     *
+     * @param tasks The task holding the fields to update.
+     * @return A map with the fields to update.
+     */
+    private static Map<String, Object> convertTaskToPartialMap(Tasks tasks) {
+        Map<String, Object> taskMap = convertTaskToMap(tasks);
+        taskMap.values().removeIf(Objects::isNull);
+        if (tasks.getTags() != null && tasks.getTags().isEmpty()) {
+            taskMap.remove("tags");
+        }
+        return taskMap;
+    }
+
     /**
      * Converts a map to a task object.
      *
-     * @param sourceAsMap The source map.
+     * @param sourceAsMap The source map, or null if the source was not fetched.
      * @param id          The ID of the task.
      * @return A task object.
      */
-    private Tasks convertMapToTask(Map<String, Object> sourceAsMap, String id) {
+    static Tasks convertMapToTask(Map<String, Object> sourceAsMap, String id) {
         Tasks tasks = new Tasks();
         tasks.setId(id);
+        if (sourceAsMap == null) {
+            // The source was not fetched
+            return tasks;
+        }
         tasks.setTitle((String) sourceAsMap.getOrDefault("title", null));
         tasks.setDescription((String) sourceAsMap.getOrDefault("description", null));
         tasks.setStatus((String) sourceAsMap.getOrDefault("status", null));
@@ -229,68 +952,156 @@ public class TasksRepository {
     }
 
     /**
-     * Adds equality filters to the search query.
+     * Adds equality filters to the search query. They are term filters on keyword fields: exact, unscored and
+     * cacheable.
      *
      * @param body      The search criteria.
      * @param boolQuery The query builder to add filters to.
      */
     private static void addEqualsFilters(Map<String, Object> body, BoolQueryBuilder boolQuery) {
-        if (body.containsKey("equals")) {
-            Map<String, Object> equals = (Map<String, Object>) body.get("equals");
+        Map<String, Object> equals = criteria(body, "equals");
+        if (equals != null) {
             if (equals.containsKey("title")) {
-                boolQuery.must(QueryBuilders.matchPhraseQuery("title.keyword", equals.get("title").toString()));
-                log.info("Title filter added: {}", equals.get("title"));
+                boolQuery.filter(QueryBuilders.termQuery("title.keyword", equals.get("title").toString()));
+                log.trace("Title filter added: {}", equals.get("title"));
             }
             if (equals.containsKey("description")) {
-                boolQuery.must(QueryBuilders.matchPhraseQuery("description.keyword", equals.get("description").toString()));
-                log.info("Description filter added: {}", equals.get("description"));
+                boolQuery.filter(QueryBuilders.termQuery("description.keyword", equals.get("description").toString()));
+                log.trace("Description filter added: {}", equals.get("description"));
             }
             if (equals.containsKey("status")) {
-                boolQuery.must(QueryBuilders.matchPhraseQuery("status.keyword", equals.get("status").toString()));
-                log.info("Status filter added: {}", equals.get("status"));
+                boolQuery.filter(QueryBuilders.termQuery("status", equals.get("status").toString()));
+                log.trace("Status filter added: {}", equals.get("status"));
             }
             if (equals.containsKey("assignee")) {
-                boolQuery.must(QueryBuilders.matchPhraseQuery("assignee.keyword", equals.get("assignee").toString()));
-                log.info("Assignee filter added: {}", equals.get("assignee"));
+                boolQuery.filter(QueryBuilders.termQuery("assignee", equals.get("assignee").toString()));
+                log.trace("Assignee filter added: {}", equals.get("assignee"));
             }
             if (equals.containsKey("securityStandards")) {
-                boolQuery.must(QueryBuilders.matchPhraseQuery("securityStandards.keyword", equals.get("securityStandards").toString()));
-                log.info("SecurityStantards filter added: {}", equals.get("securityStandards"));
+                boolQuery.filter(QueryBuilders.termQuery("securityStandards", equals.get("securityStandards").toString()));
+                log.trace("SecurityStantards filter added: {}", equals.get("securityStandards"));
+            }
+        }
+    }
+
+    /**
+     * Adds "contains" filters to the search query. Fields match when they contain the given value, the same case
+     * sensitive substring match as {@link String#contains}, and tasks must have all the given tags. The filters
+     * run on the shards, so only matching tasks are fetched.
+     * <p>
+     * Title and description are matched as a phrase of trigrams on their {@code ngram} subfield, which finds
+     * substrings with term lookups instead of scanning the terms dictionary. A value shorter than a trigram is part
+     * of a trigram of any text of at least three characters, so it runs as a wildcard on the small dictionary of
+     * the {@code ngram} subfield, and on the {@code keyword} subfield for shorter texts, which have no trigram; the
+     * keyword subfield alone would miss texts beyond its {@code ignore_above}. The keyword fields use a wildcard
+     * query.
+     *
+     * @param body      The search criteria.
+     * @param boolQuery The query builder to add filters to.
+     */
+    private static void addContainsFilters(Map<String, Object> body, BoolQueryBuilder boolQuery) {
+        Map<String, Object> contains = criteria(body, "contains");
+        if (contains == null) {
+            return;
+        }
+        for (String field : CONTAINS_TEXT_FIELDS) {
+            if (contains.containsKey(field)) {
+                String value = contains.get(field).toString();
+                if (value.length() >= NGRAM_SIZE) {
+                    boolQuery.filter(QueryBuilders.matchPhraseQuery(field + ".ngram", value));
+                } else {
+                    String pattern = "*" + escapeWildcard(value) + "*";
+                    boolQuery.filter(QueryBuilders.boolQuery()
+                            .should(QueryBuilders.wildcardQuery(field + ".ngram", pattern))
+                            .should(QueryBuilders.wildcardQuery(field + ".keyword", pattern)));
+                }
+                log.trace("Contains filter added on {}: {}", field, value);
+            }
+        }
+        for (String field : CONTAINS_KEYWORD_FIELDS) {
+            if (contains.containsKey(field)) {
+                String value = contains.get(field).toString();
+                boolQuery.filter(QueryBuilders.wildcardQuery(field, "*" + escapeWildcard(value) + "*"));
+                log.trace("Contains filter added on {}: {}", field, value);
+            }
+        }
+        Object tagsValue = contains.get("tags");
+        if (tagsValue != null && !(tagsValue instanceof List)) {
+            throw new IllegalArgumentException("[contains.tags] must be an array");
+        }
+        List<String> tags = (List<String>) tagsValue;
+        if (tags != null && !tags.isEmpty()) {
+            boolQuery.filter(new TermsSetQueryBuilder("tags", tags)
+                    .setMinimumShouldMatchScript(new Script("params.num_terms")));
+            log.trace("Tags filter added: {}", tags);
+        }
+    }
+
+    /**
+     * Reads a section of the search criteria.
+     *
+     * @param body The search criteria.
+     * @param name The name of the section.
+     * @return The section, or null if the criteria have none.
+     * @throws IllegalArgumentException If the section is not an object.
+     */
+    private static Map<String, Object> criteria(Map<String, Object> body, String name) {
+        Object section = body.get(name);
+        if (section != null && !(section instanceof Map)) {
+            throw new IllegalArgumentException("[" + name + "] must be an object");
+        }
+        return (Map<String, Object>) section;
+    }
+
+    /**
+     * Escapes the characters that have a special meaning in wildcard queries.
+     *
+     * @param value The literal value.
+     * @return The value, matching only itself in a wildcard pattern.
+     */
+    public static String escapeWildcard(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '\\' || c == '*' || c == '?') {
+                escaped.append('\\');
             }
+            escaped.append(c);
         }
+        return escaped.toString();
     }
 
     /**
-     * Adds date filters to the search query.
+     * Adds date filters to the search query. The date fields are mapped as {@code date}, so the ranges run on
+     * the points index as unscored filters.
      *
      * @param body      The search criteria.
      * @param boolQuery The query builder to add filters to.
      */
     private static void addDateFilters(Map<String, Object> body, BoolQueryBuilder boolQuery) {
-        log.info("Adding date filters to the search query.");
+        log.trace("Adding date filters to the search query.");
         if (body.containsKey("creationDateFrom")) {
-            boolQuery.must(QueryBuilders.rangeQuery("creationDate").gte(body.get("creationDateFrom")));
-            log.info("CreationDateFrom filter added: {}", body.get("creationDateFrom"));
+            boolQuery.filter(QueryBuilders.rangeQuery("creationDate").gte(body.get("creationDateFrom")));
+            log.trace("CreationDateFrom filter added: {}", body.get("creationDateFrom"));
         }
         if (body.containsKey("creationDateTo")) {
-            boolQuery.must(QueryBuilders.rangeQuery("creationDate").lte(body.get("creationDateTo")));
-            log.info("CreationDateTo filter added: {}", body.get("creationDateTo"));
+            boolQuery.filter(QueryBuilders.rangeQuery("creationDate").lte(body.get("creationDateTo")));
+            log.trace("CreationDateTo filter added: {}", body.get("creationDateTo"));
         }
         if (body.containsKey("completionDateFrom")) {
-            boolQuery.must(QueryBuilders.rangeQuery("completionDate").gte(body.get("completionDateFrom")));
-            log.info("CompletionDateFrom filter added: {}", body.get("completionDateFrom"));
+            boolQuery.filter(QueryBuilders.rangeQuery("completionDate").gte(body.get("completionDateFrom")));
+            log.trace("CompletionDateFrom filter added: {}", body.get("completionDateFrom"));
         }
         if (body.containsKey("completionDateTo")) {
-            boolQuery.must(QueryBuilders.rangeQuery("completionDate").lte(body.get("completionDateTo")));
-            log.info("CompletionDateTo filter added: {}", body.get("completionDateTo"));
+            boolQuery.filter(QueryBuilders.rangeQuery("completionDate").lte(body.get("completionDateTo")));
+            log.trace("CompletionDateTo filter added: {}", body.get("completionDateTo"));
         }
         if (body.containsKey("plannedDateFrom")) {
-            boolQuery.must(QueryBuilders.rangeQuery("plannedDate").gte(body.get("plannedDateFrom")));
-            log.info("PlannedDateFrom filter added: {}", body.get("plannedDateFrom"));
+            boolQuery.filter(QueryBuilders.rangeQuery("plannedDate").gte(body.get("plannedDateFrom")));
+            log.trace("PlannedDateFrom filter added: {}", body.get("plannedDateFrom"));
         }
         if (body.containsKey("plannedDateTo")) {
-            boolQuery.must(QueryBuilders.rangeQuery("plannedDate").lte(body.get("plannedDateTo")));
-            log.info("PlannedDateTo filter added: {}", body.get("plannedDateTo"));
+            boolQuery.filter(QueryBuilders.rangeQuery("plannedDate").lte(body.get("plannedDateTo")));
+            log.trace("PlannedDateTo filter added: {}", body.get("plannedDateTo"));
         }
     }
 }
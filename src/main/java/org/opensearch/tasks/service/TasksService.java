@@ -9,248 +9,683 @@ package org.opensearch.tasks.service;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.opensearch.action.index.IndexResponse;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.tasks.cache.TasksCache;
+import org.opensearch.tasks.cache.TasksSearchCache;
+import org.opensearch.tasks.model.BulkTaskItem;
+import org.opensearch.tasks.model.BulkTaskResult;
+import org.opensearch.tasks.model.SearchCursor;
+import org.opensearch.tasks.model.TaskAggregations;
+import org.opensearch.tasks.model.TaskStatus;
 import org.opensearch.tasks.model.Tasks;
+import org.opensearch.tasks.model.TasksPage;
+import org.opensearch.tasks.repository.TaskIndices;
 import org.opensearch.tasks.repository.TasksRepository;
+import org.opensearch.tasks.settings.TasksSettings;
+import org.opensearch.tasks.stats.OperationTrace;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class TasksService {
     private final TasksRepository tasksRepository;
+    private final TasksCache tasksCache;
+    private final TasksSearchCache searchCache;
     private static final Logger log = LogManager.getLogger(TasksService.class);
 
-    private static final String DATE_PATTERN = "^(\\d{4})-(\\d{2})-(\\d{2})$";
-    private static final Pattern pattern = Pattern.compile(DATE_PATTERN);
+    /**
+     * Number of tasks returned by a search that does not ask for a size.
+     */
+    public static final int DEFAULT_SEARCH_SIZE = 100;
+
+    /**
+     * Largest page a search may ask for, the default {@code index.max_result_window}.
+     */
+    public static final int MAX_SEARCH_SIZE = 10000;
+
+    private static final String DEFAULT_AGGREGATION_INTERVAL = "month";
+    private static final Map<String, DateHistogramInterval> AGGREGATION_INTERVALS = Map.of(
+            "day", DateHistogramInterval.DAY,
+            "week", DateHistogramInterval.WEEK,
+            "month", DateHistogramInterval.MONTH,
+            "quarter", DateHistogramInterval.QUARTER,
+            "year", DateHistogramInterval.YEAR);
+
+    /**
+     * Largest number of retries a patch may ask for when it hits a version conflict.
+     */
+    public static final int MAX_RETRY_ON_CONFLICT = 10;
+
+    private volatile int bulkBatchSize = TasksSettings.BULK_BATCH_SIZE.getDefault(Settings.EMPTY);
+    private volatile int exportBatchSize = TasksSettings.EXPORT_BATCH_SIZE.getDefault(Settings.EMPTY);
+    private volatile long exportMaxBytes = TasksSettings.EXPORT_MAX_SIZE.getDefault(Settings.EMPTY).getBytes();
+    private ThreadContext threadContext;
 
     public TasksService(TasksRepository tasksRepository) {
+        this(tasksRepository, null);
+    }
+
+    /**
+     * @param tasksRepository The repository holding the tasks.
+     * @param tasksCache      The node-local cache of tasks read by ID, or null to always read from the index.
+     */
+    public TasksService(TasksRepository tasksRepository, TasksCache tasksCache) {
+        this(tasksRepository, tasksCache, null);
+    }
+
+    /**
+     * @param tasksRepository The repository holding the tasks.
+     * @param tasksCache      The node-local cache of tasks read by ID, or null to always read from the index.
+     * @param searchCache     The node-local cache of search results, or null to always search the index.
+     */
+    public TasksService(TasksRepository tasksRepository, TasksCache tasksCache, TasksSearchCache searchCache) {
         this.tasksRepository = tasksRepository;
+        this.tasksCache = tasksCache;
+        this.searchCache = searchCache;
+    }
+
+    /**
+     * Sets the default number of actions sent to OpenSearch per bulk request.
+     *
+     * @param bulkBatchSize The batch size, from the {@link TasksSettings#BULK_BATCH_SIZE} setting.
+     */
+    public void setBulkBatchSize(int bulkBatchSize) {
+        this.bulkBatchSize = bulkBatchSize;
+    }
+
+    /**
+     * Sets the number of tasks read per search request by exports.
+     *
+     * @param exportBatchSize The batch size, from the {@link TasksSettings#EXPORT_BATCH_SIZE} setting.
+     */
+    public void setExportBatchSize(int exportBatchSize) {
+        this.exportBatchSize = exportBatchSize;
+    }
+
+    /**
+     * Sets the maximum size of one page of an export.
+     *
+     * @param exportMaxSize The maximum size, from the {@link TasksSettings#EXPORT_MAX_SIZE} setting.
+     */
+    public void setExportMaxSize(ByteSizeValue exportMaxSize) {
+        this.exportMaxBytes = exportMaxSize.getBytes();
+    }
+
+    /**
+     * @return The maximum size in bytes of one page of an export.
+     */
+    public long getExportMaxBytes() {
+        return exportMaxBytes;
+    }
+
+    /**
+     * Sets the thread context the {@link OperationTrace} of the current request is read from, to record the
+     * validation and repository stages of the requests in the slow log.
+     *
+     * @param threadContext The thread context of the node's thread pool.
+     */
+    public void setThreadContext(ThreadContext threadContext) {
+        this.threadContext = threadContext;
+    }
+
+    /**
+     * Records the time since {@code startNanos} as the validation stage of the request being traced, if any, and
+     * times the repository call answering {@code listener} as its repository stage.
+     */
+    private <T> ActionListener<T> traceRepository(long startNanos, ActionListener<T> listener) {
+        OperationTrace trace = OperationTrace.current(threadContext);
+        if (trace == null) {
+            return listener;
+        }
+        trace.record(OperationTrace.Stage.VALIDATE, startNanos);
+        return trace.time(OperationTrace.Stage.REPOSITORY, listener);
     }
 
     /**
      * Creates a new task if the task status and dates are valid.
      *
-     * @param tasks The task to be created.
-     * @return The created task with its ID set, or null if the task is invalid.
+     * @param tasks    The task to be created.
+     * @param listener Receives the created task with its ID set, or null if the task is invalid.
      */
-    public Tasks createTask(Tasks tasks) {
+    public void createTask(Tasks tasks, ActionListener<Tasks> listener) {
+        long startNanos = System.nanoTime();
         if (!TaskStatus.isValidStatus(tasks.getStatus())) {
-            log.info("Invalid task status: {}", tasks.getStatus());
-            return null;
+            log.debug("Invalid task status: {}", tasks.getStatus());
+            listener.onResponse(null);
+            return;
         }
         if (!checkValidDates(tasks)) {
-            log.info("Invalid task dates");
-            return null;
-        }
-        log.info("Creating task: {}", tasks);
-        IndexResponse result = tasksRepository.createTask(tasks);
-        if (result != null && result.status() == RestStatus.CREATED) {
-            tasks.setId(result.getId());
-            log.info("Task created successfully: {}", tasks);
-            return tasks;
-        }
-        log.info("Task creation failed");
-        return null;
+            log.debug("Invalid task dates");
+            listener.onResponse(null);
+            return;
+        }
+        log.debug("Creating task: {}", tasks);
+        tasksRepository.createTask(tasks, traceRepository(startNanos, ActionListener.wrap(result -> {
+            if (result != null && result.status() == RestStatus.CREATED) {
+                tasks.setId(TaskIndices.taskId(result.getIndex(), result.getId()));
+                log.debug("Task created successfully: {}", tasks);
+                // A new task can match any cached search. Searches only see it after the next refresh, so the
+                // other nodes are told without holding the response; this node drops its searches at once.
+                if (searchCache != null) {
+                    searchCache.invalidateAll();
+                }
+                tasksRepository.invalidateCachedTasks(List.of(), ActionListener.wrap(
+                        ignored -> { }, e -> log.warn("Exception while invalidating cached searches: {}", e.getMessage())));
+                listener.onResponse(tasks);
+                return;
+            }
+            log.debug("Task creation failed");
+            listener.onResponse(null);
+        }, listener::onFailure)));
+    }
+
+    /**
+     * Retrieves a task by its ID, from the node-local cache if it holds the task.
+     *
+     * @param id       The ID of the task to retrieve.
+     * @param listener Receives the task if found, or null if not.
+     */
+    public void getTaskById(String id, ActionListener<Tasks> listener) {
+        getTaskById(id, null, listener);
     }
 
     /**
-     * Retrieves a task by its ID.
+     * Retrieves the fields of a task named by a source filter. A task in the node-local cache holds every field and
+     * answers any filter; otherwise only the filtered fields are read from the index, and the partial task is not
+     * cached. Serialization leaves out the fields excluded by the filter.
      *
-     * @param id The ID of the task to retrieve.
-     * @return The task if found, or null if not.
+     * @param id          The ID of the task to retrieve.
+     * @param fetchSource The source fields to read, or null to read the whole task.
+     * @param listener    Receives the task if found, or null if not.
      */
-    public Tasks getTaskById(String id) {
-        log.info("Retrieving task by ID: {}", id);
+    public void getTaskById(String id, FetchSourceContext fetchSource, ActionListener<Tasks> listener) {
+        long startNanos = System.nanoTime();
+        log.debug("Retrieving task by ID: {}", id);
         if (id == null) {
-            log.info("Task ID is null");
-            return null;
+            log.debug("Task ID is null");
+            listener.onResponse(null);
+            return;
+        }
+        if (tasksCache != null) {
+            Tasks cached = tasksCache.get(id);
+            if (cached != null) {
+                log.debug("Task retrieved from cache: {}", cached);
+                listener.onResponse(cached);
+                return;
+            }
+        }
+        if (fetchSource != null) {
+            tasksRepository.getTaskById(id, fetchSource, traceRepository(startNanos, ActionListener.wrap(task -> {
+                log.debug("Task fields retrieved: {}", task);
+                listener.onResponse(task);
+            }, listener::onFailure)));
+            return;
         }
-        Tasks task = tasksRepository.getTaskById(id);
-        log.info("Task retrieved: {}", task);
-        return task;
+        long generation = tasksCache != null ? tasksCache.startRead() : -1;
+        tasksRepository.getTaskById(id, traceRepository(startNanos, ActionListener.wrap(task -> {
+            log.debug("Task retrieved: {}", task);
+            if (task != null && tasksCache != null) {
+                tasksCache.put(task, generation);
+            }
+            listener.onResponse(task);
+        }, listener::onFailure)));
     }
 
     /**
-     * Deletes a task by its ID.
+     * Deletes a task by its ID with a single delete request.
      *
-     * @param id The ID of the task to delete.
-     * @return The status of the delete operation.
+     * @param id       The ID of the task to delete.
+     * @param listener Receives the status of the delete operation, NOT_FOUND if the task does not exist.
      */
-    public RestStatus deleteTask(String id) {
-        log.info("Deleting task by ID: {}", id);
+    public void deleteTask(String id, ActionListener<RestStatus> listener) {
+        log.debug("Deleting task by ID: {}", id);
         if (id == null) {
-            log.info("Task ID is null, cannot delete");
-            return RestStatus.NOT_FOUND;
-        }
-        Tasks task = tasksRepository.getTaskById(id);
-        if (task != null) {
-            log.info("Task found, proceeding to delete: {}", task);
-            RestStatus status = tasksRepository.deleteTask(id);
-            log.info("Task deletion status: {}", status);
-            return status;
-        }
-        log.info("Task not found, cannot delete");
-        return RestStatus.NOT_FOUND;
+            log.debug("Task ID is null, cannot delete");
+            listener.onResponse(RestStatus.NOT_FOUND);
+            return;
+        }
+        tasksRepository.deleteTask(id, traceRepository(System.nanoTime(), ActionListener.wrap(status -> {
+            log.debug("Task deletion status: {}", status);
+            respondAfterWrite(id, status, listener);
+        }, listener::onFailure)));
     }
 
     /**
-     * Searches for tasks based on the provided criteria.
+     * Searches for tasks based on the provided criteria. Besides the filters, the body accepts a {@code size}
+     * (default {@value #DEFAULT_SEARCH_SIZE}, at most {@value #MAX_SEARCH_SIZE}), a {@code paginate} flag and a
+     * {@code cursor}. Sending {@code "paginate": true} starts a paginated search on a point in time; every page but
+     * the last one carries the cursor to send, together with the same criteria, to read the next page. Other
+     * searches return a single page, without opening a point in time, and are served from the node-local search
+     * cache when it holds them. A single page search that fails on the cluster is answered with an empty page;
+     * malformed criteria, cancelled searches and failed pages of a paginated search are passed to the listener.
      *
-     * @param body The search criteria as a map.
-     * @return A list of tasks matching the search criteria.
+     * @param body     The search criteria as a map.
+     * @param listener Receives the page of tasks matching the search criteria.
      */
-    public List<Tasks> searchTasks(Map<String, Object> body) {
-        log.info("Searching tasks with criteria: {}", body);
-        List<Tasks> tasksList = tasksRepository.searchTasks(body);
-        log.info("Tasks found: {}", tasksList);
-        return filterTasksByContains(body, tasksList);
+    public void searchTasks(Map<String, Object> body, ActionListener<TasksPage> listener) {
+        searchTasks(body, null, null, null, listener);
     }
 
     /**
-     * Updates a task if it exists and the status and dates are valid.
+     * Searches for tasks based on the provided criteria, like {@link #searchTasks(Map, ActionListener)}, reading
+     * only the source fields named by {@code fetchSource} and within a time budget. The shard searches run as
+     * children of {@code parentTask}, so cancelling that task stops them. Pages cut short by the timeout are flagged
+     * as timed out and are not cached; cached pages are keyed by the body and the source filter.
      *
-     * @param task The task to update.
-     * @return The status of the update operation.
+     * @param body        The search criteria as a map.
+     * @param fetchSource The source fields to read from every hit, or null to read whole tasks.
+     * @param timeout     How long the shards may search before returning the hits collected so far, or null for no
+     *                    limit.
+     * @param parentTask  The task the search runs for, or null if it does not run for a task.
+     * @param listener    Receives the page of tasks matching the search criteria.
      */
-    public RestStatus updateTask(Tasks task) {
-        log.info("Updating task: {}", task);
-        if (task.getId() == null) {
-            log.info("Task ID is null, cannot update");
-            return RestStatus.BAD_REQUEST;
+    public void searchTasks(Map<String, Object> body, FetchSourceContext fetchSource, TimeValue timeout, TaskId parentTask,
+                            ActionListener<TasksPage> listener) {
+        long startNanos = System.nanoTime();
+        log.debug("Searching tasks with criteria: {}", body);
+        int size;
+        boolean paginate;
+        SearchCursor cursor;
+        try {
+            size = parseSearchSize(body);
+            paginate = parsePaginate(body);
+            cursor = body.containsKey("cursor") ? SearchCursor.decode(String.valueOf(body.get("cursor"))) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Invalid search parameters: {}", e.getMessage());
+            listener.onFailure(e);
+            return;
         }
-        if (!TaskStatus.isValidStatus(task.getStatus())) {
-            log.info("Invalid task status: {}", task.getStatus());
-            return RestStatus.BAD_REQUEST;
-        }
-        if (!checkValidDates(task)) {
-            log.info("Invalid task dates");
-            return RestStatus.BAD_REQUEST;
+        // The repository stage includes the point in time creation and the search cache lookup
+        ActionListener<TasksPage> pageListener = traceRepository(startNanos, ActionListener.wrap(page -> {
+            log.debug("Search returned {} of {} tasks", () -> page.getTasks().size(), page::getTotal);
+            log.trace("Tasks found: {}", page::getTasks);
+            listener.onResponse(page);
+        }, e -> {
+            // An expired or unknown cursor must not look like the end of the results, and malformed criteria or a
+            // cancelled search must not look like a search that matched nothing
+            if (cursor != null || paginate || e instanceof IllegalArgumentException
+                    || ExceptionsHelper.unwrap(e, TaskCancelledException.class) != null) {
+                listener.onFailure(e);
+            } else {
+                log.warn("Search failed, answering an empty page: {}", e.getMessage());
+                listener.onResponse(new TasksPage(new ArrayList<>(), 0, null));
+            }
+        }));
+        if (cursor == null && paginate) {
+            tasksRepository.createPointInTime(ActionListener.wrap(
+                    pitId -> tasksRepository.searchTasks(body, size, new SearchCursor(pitId, null), fetchSource, timeout,
+                            parentTask, pageListener),
+                    listener::onFailure));
+        } else if (cursor == null && searchCache != null) {
+            searchCached(body, size, fetchSource, timeout, parentTask, pageListener);
+        } else {
+            tasksRepository.searchTasks(body, size, cursor, fetchSource, timeout, parentTask, pageListener);
         }
-        Tasks existingTask = tasksRepository.getTaskById(task.getId());
-        if (existingTask == null) {
-            log.info("Task not found, cannot update: {}", task.getId());
-            return RestStatus.NOT_FOUND;
+    }
+
+    /**
+     * Answers a single page search from the search cache, or runs it and caches its result, including results that
+     * match nothing. Timed out pages, which may miss matching tasks, and failed searches are not cached.
+     */
+    private void searchCached(Map<String, Object> body, int size, FetchSourceContext fetchSource, TimeValue timeout,
+                              TaskId parentTask, ActionListener<TasksPage> listener) {
+        String key;
+        try {
+            key = TasksSearchCache.key(body, fetchSource);
+        } catch (IOException e) {
+            log.error("Failed to build the search cache key", e);
+            tasksRepository.searchTasks(body, size, null, fetchSource, timeout, parentTask, listener);
+            return;
         }
-        IndexResponse updateResponse = tasksRepository.updateTask(task);
-        if (updateResponse == null) {
-            log.info("Task update failed, task not found");
-            return RestStatus.NOT_FOUND;
+        TasksPage cached = searchCache.get(key);
+        if (cached != null) {
+            log.debug("Search served from cache");
+            listener.onResponse(cached);
+            return;
         }
-        log.info("Task updated successfully with status: {}", updateResponse.status());
-        return updateResponse.status();
+        long generation = searchCache.startSearch();
+        tasksRepository.searchTasks(body, size, null, fetchSource, timeout, parentTask, ActionListener.wrap(page -> {
+            if (!page.isTimedOut()) {
+                searchCache.put(key, generation, page);
+            }
+            listener.onResponse(page);
+        }, listener::onFailure));
     }
 
     /**
-     * Partially updates a task by patching the provided fields.
+     * Counts the tasks matching the search criteria by status, assignee, security standard and tag, and by
+     * creation, planned and completion date. The body accepts the search filters and an {@code interval} for the
+     * date histograms ({@code day}, {@code week}, {@code month}, {@code quarter} or {@code year}, default
+     * {@code month}).
      *
-     * @param task The task with fields to patch.
-     * @return The status of the patch operation.
+     * @param body     The search criteria as a map.
+     * @param listener Receives the counts.
      */
-    public RestStatus patchTask(Tasks task) {
-        log.info("Patching task: {}", task);
-        if (task.getId() == null) {
-            log.info("Task ID is null, cannot patch");
-            return RestStatus.BAD_REQUEST;
+    public void aggregateTasks(Map<String, Object> body, ActionListener<TaskAggregations> listener) {
+        log.debug("Aggregating tasks with criteria: {}", body);
+        Object value = body.getOrDefault("interval", DEFAULT_AGGREGATION_INTERVAL);
+        DateHistogramInterval interval = AGGREGATION_INTERVALS.get(String.valueOf(value));
+        if (interval == null) {
+            log.debug("Invalid aggregation interval: {}", value);
+            listener.onFailure(new IllegalArgumentException("Invalid interval: " + value));
+            return;
         }
-        if (task.getStatus() != null && !TaskStatus.isValidStatus(task.getStatus())) {
-            log.info("Invalid task status: {}", task.getStatus());
-            return RestStatus.BAD_REQUEST;
+        tasksRepository.aggregateTasks(body, interval, ActionListener.wrap(aggregations -> {
+            log.debug("Tasks aggregated: {}", aggregations);
+            listener.onResponse(aggregations);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Exports one page of the tasks matching the search criteria. The body accepts the same filters as a search,
+     * and the {@code cursor} returned with the previous page to continue an export; the tasks are read in batches
+     * of the configured export batch size and handed to the consumer one by one, until it declines one.
+     *
+     * @param body     The search criteria as a map.
+     * @param consumer Receives the exported tasks, and returns false once the page is full.
+     * @param listener Receives the cursor to read the next page with, or null once every task has been exported.
+     */
+    public void exportTasks(Map<String, Object> body, CheckedFunction<Tasks, Boolean, IOException> consumer,
+                            ActionListener<String> listener) {
+        log.debug("Exporting tasks with criteria: {}", body);
+        SearchCursor cursor;
+        try {
+            cursor = body.containsKey("cursor") ? SearchCursor.decode(String.valueOf(body.get("cursor"))) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Invalid export cursor: {}", e.getMessage());
+            listener.onFailure(e);
+            return;
         }
-        if (!checkValidDates(task)) {
-            log.info("Invalid task dates");
-            return RestStatus.BAD_REQUEST;
-        }
-        Tasks existingTask = tasksRepository.getTaskById(task.getId());
-        if (existingTask == null) {
-            log.info("Task not found, cannot patch: {}", task.getId());
-            return RestStatus.NOT_FOUND;
-        }
-        updateTaskFields(existingTask, task);
-        IndexResponse patchResponse = tasksRepository.updateTask(existingTask);
-        if (patchResponse == null) {
-            log.info("Task patch failed, task not found");
-            return RestStatus.NOT_FOUND;
-        }
-        log.info("Task patched successfully with status: {}", patchResponse.status());
-        return patchResponse.status();
+        tasksRepository.exportTasks(body, exportBatchSize, cursor, consumer, ActionListener.wrap(next -> {
+            log.debug("Export page written, complete: {}", next == null);
+            listener.onResponse(next);
+        }, listener::onFailure));
     }
 
     /**
-     * Validates the date fields of a task.
+     * Reads the page size of a search.
      *
-     * @param tasks The task whose dates are to be validated.
-     * @return True if all date fields are valid, otherwise false.
+     * @param body The search criteria.
+     * @return The page size.
+     * @throws IllegalArgumentException If the size is not a number between 1 and {@value #MAX_SEARCH_SIZE}.
      */
-    private boolean checkValidDates(Tasks tasks) {
-        return isValidDate(tasks.getCompletionDate()) &&
-                isValidDate(tasks.getCreationDate()) &&
-                isValidDate(tasks.getPlannedDate());
+    private static int parseSearchSize(Map<String, Object> body) {
+        Object value = body.get("size");
+        if (value == null) {
+            return DEFAULT_SEARCH_SIZE;
+        }
+        int size;
+        try {
+            size = Integer.parseInt(value.toString());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid size: " + value);
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_SEARCH_SIZE);
+        }
+        return size;
     }
 
     /**
-     * Filters tasks based on the 'contains' criteria in the search body.
+     * Reads whether a search asks for a paginated search.
      *
-     * @param body      The search criteria.
-     * @param tasksList The list of tasks to filter.
-     * @return A list of tasks that match the 'contains' criteria.
+     * @param body The search criteria.
+     * @return True if the search starts a paginated search on a point in time.
+     * @throws IllegalArgumentException If the flag is not a boolean.
      */
-    private static List<Tasks> filterTasksByContains(Map<String, Object> body, List<Tasks> tasksList) {
-        if (!body.containsKey("contains")) {
-            return tasksList;
-        }
-        Map<String, Object> contains = (Map<String, Object>) body.get("contains");
-        List<String> tagsToFilter = (List<String>) contains.get("tags");
-        return tasksList.stream()
-                .filter(task ->
-                        (!contains.containsKey("title") || task.getTitle().contains(contains.get("title").toString())) &&
-                                (!contains.containsKey("description") || task.getDescription().contains(contains.get("description").toString())) &&
-                                (!contains.containsKey("status") || task.getStatus().contains(contains.get("status").toString())) &&
-                                (!contains.containsKey("assignee") || task.getAssignee().contains(contains.get("assignee").toString())) &&
-                                (!contains.containsKey("securityStandards") || task.getSecurityStandards().contains(contains.get("securityStandards").toString())) &&
-                                (tagsToFilter == null || task.getTags().containsAll(tagsToFilter))
-                ).collect(Collectors.toList());
+    private static boolean parsePaginate(Map<String, Object> body) {
+        Object value = body.get("paginate");
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if ("true".equals(value.toString()) || "false".equals(value.toString())) {
+            return Boolean.parseBoolean(value.toString());
+        }
+        throw new IllegalArgumentException("Invalid paginate: " + value);
     }
 
     /**
-     * Updates the fields of the existing task with the fields from the new task.
+     * Updates a task if it exists and the status and dates are valid, with a single update request. If the task carries a sequence number and
+     * primary term (from an {@code If-Match} header), the task is only replaced while it is still at that version.
      *
-     * @param existingTask The existing task to update.
-     * @param newTask      The new task with fields to update.
+     * @param task     The task to update.
+     * @param listener Receives the status of the update operation; version conflicts are passed to
+     *                 {@link ActionListener#onFailure}.
      */
-    private void updateTaskFields(Tasks existingTask, Tasks newTask) {
-        if (newTask.getTitle() != null) {
-            existingTask.setTitle(newTask.getTitle());
+    public void updateTask(Tasks task, ActionListener<RestStatus> listener) {
+        long startNanos = System.nanoTime();
+        log.debug("Updating task: {}", task);
+        if (task.getId() == null) {
+            log.debug("Task ID is null, cannot update");
+            listener.onResponse(RestStatus.BAD_REQUEST);
+            return;
+        }
+        if (!TaskStatus.isValidStatus(task.getStatus())) {
+            log.debug("Invalid task status: {}", task.getStatus());
+            listener.onResponse(RestStatus.BAD_REQUEST);
+            return;
         }
-        if (newTask.getDescription() != null) {
-            existingTask.setDescription(newTask.getDescription());
+        if (!checkValidDates(task)) {
+            log.debug("Invalid task dates");
+            listener.onResponse(RestStatus.BAD_REQUEST);
+            return;
+        }
+        tasksRepository.updateTask(task, traceRepository(startNanos, ActionListener.wrap(updateResponse -> {
+            if (updateResponse == null) {
+                log.debug("Task update failed, task not found");
+                listener.onResponse(RestStatus.NOT_FOUND);
+                return;
+            }
+            log.debug("Task updated successfully with status: {}", updateResponse.status());
+            respondAfterWrite(task.getId(), updateResponse.status(), listener);
+        }, listener::onFailure)));
+    }
+
+    /**
+     * Partially updates a task by patching the provided fields.
+     *
+     * @param task     The task with fields to patch.
+     * @param listener Receives the status of the patch operation.
+     */
+    public void patchTask(Tasks task, ActionListener<RestStatus> listener) {
+        patchTask(task, 0, listener);
+    }
+
+    /**
+     * Partially updates a task by patching the provided fields, with a single update request: the shard merges
+     * the fields into the stored task and writes it at the version it read, so concurrent patches never overwrite
+     * each other. If the patch carries a sequence number and primary term (from an {@code If-Match} header), the
+     * stored task must still be at that version; otherwise the shard retries a conflicting write up to
+     * {@code retryOnConflict} times.
+     *
+     * @param task            The task with fields to patch.
+     * @param retryOnConflict How many times to retry on a version conflict, between 0 and {@value #MAX_RETRY_ON_CONFLICT}.
+     * @param listener        Receives the status of the patch operation; version conflicts are passed to
+     *                        {@link ActionListener#onFailure}.
+     */
+    public void patchTask(Tasks task, int retryOnConflict, ActionListener<RestStatus> listener) {
+        long startNanos = System.nanoTime();
+        log.debug("Patching task: {}", task);
+        if (task.getId() == null) {
+            log.debug("Task ID is null, cannot patch");
+            listener.onResponse(RestStatus.BAD_REQUEST);
+            return;
         }
-        if (newTask.getStatus() != null) {
-            existingTask.setStatus(newTask.getStatus());
+        if (task.getStatus() != null && !TaskStatus.isValidStatus(task.getStatus())) {
+            log.debug("Invalid task status: {}", task.getStatus());
+            listener.onResponse(RestStatus.BAD_REQUEST);
+            return;
         }
-        if (newTask.getAssignee() != null) {
-            existingTask.setAssignee(newTask.getAssignee());
+        if (!checkValidDates(task)) {
+            log.debug("Invalid task dates");
+            listener.onResponse(RestStatus.BAD_REQUEST);
+            return;
         }
-        if (newTask.getSecurityStandards() != null) {
-            existingTask.setSecurityStandards(newTask.getSecurityStandards());
+        if (retryOnConflict < 0 || retryOnConflict > MAX_RETRY_ON_CONFLICT) {
+            listener.onFailure(new IllegalArgumentException("retry_on_conflict must be between 0 and " + MAX_RETRY_ON_CONFLICT));
+            return;
         }
-        if (newTask.getCreationDate() != null) {
-            existingTask.setCreationDate(newTask.getCreationDate());
+        tasksRepository.patchTask(task, retryOnConflict, traceRepository(startNanos, ActionListener.wrap(patchResponse -> {
+            if (patchResponse == null) {
+                log.debug("Task patch failed, task not found");
+                listener.onResponse(RestStatus.NOT_FOUND);
+                return;
+            }
+            log.debug("Task patched successfully with status: {}", patchResponse.status());
+            respondAfterWrite(task.getId(), patchResponse.status(), listener);
+        }, listener::onFailure)));
+    }
+
+    /**
+     * Answers a write once the changed task has been removed from the cache of every node, so that a read sent
+     * after the response does not see the previous version. Failed writes change nothing and are answered at once.
+     */
+    private void respondAfterWrite(String id, RestStatus status, ActionListener<RestStatus> listener) {
+        if (status.getStatus() >= 300) {
+            listener.onResponse(status);
+            return;
         }
-        if (newTask.getCompletionDate() != null) {
-            existingTask.setCompletionDate(newTask.getCompletionDate());
+        tasksRepository.invalidateCachedTasks(List.of(id), ActionListener.wrap(
+                ignored -> listener.onResponse(status), listener::onFailure));
+    }
+
+    /**
+     * Validates and executes a list of bulk actions. Each action is checked with the same rules as the single
+     * task endpoints; invalid actions are reported as BAD_REQUEST and actions on IDs that name no tasks index as
+     * NOT_FOUND, both without being sent. The valid ones are sent to the repository in bulk requests of at most
+     * {@code batchSize} actions.
+     *
+     * @param items     The bulk actions, in request order.
+     * @param batchSize The maximum number of actions per bulk request, or a non-positive value to use the default.
+     * @param listener  Receives one result per action, in request order.
+     */
+    public void bulkTasks(List<BulkTaskItem> items, int batchSize, ActionListener<List<BulkTaskResult>> listener) {
+        log.debug("Processing bulk request with {} actions", items::size);
+        BulkTaskResult[] results = new BulkTaskResult[items.size()];
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            BulkTaskItem item = items.get(i);
+            String error = validateBulkItem(item);
+            if (error != null) {
+                log.debug("Invalid bulk action at position {}: {}", i, error);
+                results[i] = new BulkTaskResult(item.getOperation(), item.getId(), RestStatus.BAD_REQUEST, error);
+            } else if (item.getOperation() != BulkTaskItem.Operation.CREATE && !tasksRepository.canLocate(item.getId())) {
+                log.debug("Task not found for bulk action at position {}: {}", i, item.getId());
+                results[i] = new BulkTaskResult(item.getOperation(), item.getId(), RestStatus.NOT_FOUND, "Task not found");
+            } else {
+                accepted.add(i);
+            }
         }
-        if (newTask.getPlannedDate() != null) {
-            existingTask.setPlannedDate(newTask.getPlannedDate());
+        int effectiveBatchSize = batchSize > 0 ? batchSize : bulkBatchSize;
+        executeBulkBatches(items, accepted, 0, effectiveBatchSize, results, listener);
+    }
+
+    /**
+     * Sends the accepted bulk actions starting at {@code from} as one batch, then continues with the next batch
+     * once the repository answers.
+     */
+    private void executeBulkBatches(List<BulkTaskItem> items, List<Integer> accepted, int from, int batchSize,
+                                    BulkTaskResult[] results, ActionListener<List<BulkTaskResult>> listener) {
+        if (from >= accepted.size()) {
+            if (Arrays.stream(results).allMatch(BulkTaskResult::isFailed)) {
+                listener.onResponse(Arrays.asList(results));
+                return;
+            }
+            List<String> changedIds = Arrays.stream(results)
+                    .filter(result -> result.getOperation() != BulkTaskItem.Operation.CREATE && !result.isFailed())
+                    .map(BulkTaskResult::getId)
+                    .collect(Collectors.toList());
+            tasksRepository.invalidateCachedTasks(changedIds, ActionListener.wrap(
+                    ignored -> listener.onResponse(Arrays.asList(results)), listener::onFailure));
+            return;
         }
-        if (newTask.getTags() != null && !newTask.getTags().isEmpty()) {
-            existingTask.setTags(newTask.getTags());
+        int to = Math.min(from + batchSize, accepted.size());
+        List<Integer> batch = accepted.subList(from, to);
+        List<BulkTaskItem> batchItems = batch.stream().map(items::get).collect(Collectors.toList());
+        tasksRepository.bulkTasks(batchItems, ActionListener.wrap(response -> {
+            for (int j = 0; j < batch.size(); j++) {
+                BulkTaskItem item = batchItems.get(j);
+                if (response == null) {
+                    results[batch.get(j)] = new BulkTaskResult(item.getOperation(), item.getId(),
+                            RestStatus.INTERNAL_SERVER_ERROR, "Bulk request failed");
+                    continue;
+                }
+                BulkItemResponse itemResponse = response.getItems()[j];
+                results[batch.get(j)] = new BulkTaskResult(item.getOperation(), TaskIndices.taskId(itemResponse.getIndex(), itemResponse.getId()),
+                        itemResponse.status(), itemResponse.isFailed() ? itemResponse.getFailureMessage() : null);
+            }
+            executeBulkBatches(items, accepted, to, batchSize, results, listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Checks a bulk action with the rules of the matching single task endpoint.
+     *
+     * @param item The bulk action to check.
+     * @return A description of the problem, or null if the action is valid.
+     */
+    private String validateBulkItem(BulkTaskItem item) {
+        Tasks task = item.getTask();
+        switch (item.getOperation()) {
+            case CREATE:
+                if (!TaskStatus.isValidStatus(task.getStatus())) {
+                    return "Invalid task status: " + task.getStatus();
+                }
+                return checkValidDates(task) ? null : "Invalid task dates";
+            case UPDATE:
+                if (item.getId() == null) {
+                    return "Task ID is missing";
+                }
+                if (!TaskStatus.isValidStatus(task.getStatus())) {
+                    return "Invalid task status: " + task.getStatus();
+                }
+                return checkValidDates(task) ? null : "Invalid task dates";
+            case PATCH:
+                if (item.getId() == null) {
+                    return "Task ID is missing";
+                }
+                if (task.getStatus() != null && !TaskStatus.isValidStatus(task.getStatus())) {
+                    return "Invalid task status: " + task.getStatus();
+                }
+                return checkValidDates(task) ? null : "Invalid task dates";
+            case DELETE:
+                return item.getId() == null ? "Task ID is missing" : null;
+            default:
+                return "Unknown operation";
         }
     }
 
+    /**
+     * Validates the date fields of a task.
+     *
+     * @param tasks The task whose dates are to be validated.
+     * @return True if all date fields are valid, otherwise false.
+     */
+    private boolean checkValidDates(Tasks tasks) {
+        return isValidDate(tasks.getCompletionDate()) &&
+                isValidDate(tasks.getCreationDate()) &&
+                isValidDate(tasks.getPlannedDate());
+    }
+
     /**
      * Validates a date string against the required pattern.
      *
@@ -261,31 +696,14 @@ public class TasksService {
         if (date == null) {
             return true; // Allow null dates
         }
-        Matcher matcher = pattern.matcher(date);
-        return matcher.matches();
-    }
-
-    /**
-     * Enum representing the possible task statuses.
-     */
-    public enum TaskStatus {
-        PLANNED,
-        EXECUTED_OK,
-        EXECUTED_ERROR;
-
-        /**
-         * Checks if the given status is valid.
-         *
-         * @param status The status to check.
-         * @return True if the status is valid, otherwise false.
-         */
-        public static boolean isValidStatus(String status) {
-            for (TaskStatus ts : TaskStatus.values()) {
-                if (ts.name().equalsIgnoreCase(status)) {
-                    return true;
-                }
-            }
+        if (date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
             return false;
         }
+        for (int i = 0; i < date.length(); i++) {
+            if (i != 4 && i != 7 && (date.charAt(i) < '0' || date.charAt(i) > '9')) {
+                return false;
+            }
+        }
+        return true;
     }
 }
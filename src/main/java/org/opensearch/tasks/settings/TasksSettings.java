@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.settings;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.List;
+
+/**
+ * Node and cluster settings registered by the tasks plugin.
+ */
+public final class TasksSettings {
+
+    /**
+     * Maximum number of actions sent to OpenSearch in a single bulk request by the bulk endpoint.
+     */
+    public static final Setting<Integer> BULK_BATCH_SIZE = Setting.intSetting(
+            "plugins.tasks.bulk.batch_size", 500, 1, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    /**
+     * Number of tasks read per search request by the export endpoint.
+     */
+    public static final Setting<Integer> EXPORT_BATCH_SIZE = Setting.intSetting(
+            "plugins.tasks.export.batch_size", 1000, 1, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    /**
+     * Maximum size of one NDJSON page of the export endpoint, as a size or a percentage of the heap. A page ends with
+     * the last task that fits, and a task larger than a whole page is answered with 413.
+     */
+    public static final Setting<ByteSizeValue> EXPORT_MAX_SIZE = Setting.memorySizeSetting(
+            "plugins.tasks.export.max_size", "10mb", Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    /**
+     * Maximum heap used by the node-local cache of tasks read by ID, as a size or a percentage of the heap.
+     */
+    public static final Setting<ByteSizeValue> CACHE_SIZE = Setting.memorySizeSetting(
+            "plugins.tasks.cache.size", "1%", Setting.Property.NodeScope);
+
+    /**
+     * How long a task read by ID is served from the cache after it was cached.
+     */
+    public static final Setting<TimeValue> CACHE_EXPIRE = Setting.positiveTimeSetting(
+            "plugins.tasks.cache.expire", TimeValue.timeValueMinutes(1), Setting.Property.NodeScope);
+
+    /**
+     * Maximum heap used by the node-local cache of search results, as a size or a percentage of the heap.
+     */
+    public static final Setting<ByteSizeValue> SEARCH_CACHE_SIZE = Setting.memorySizeSetting(
+            "plugins.tasks.search_cache.size", "1%", Setting.Property.NodeScope);
+
+    /**
+     * How long a search result is served from the cache after it was cached.
+     */
+    public static final Setting<TimeValue> SEARCH_CACHE_EXPIRE = Setting.positiveTimeSetting(
+            "plugins.tasks.search_cache.expire", TimeValue.timeValueSeconds(30), Setting.Property.NodeScope);
+
+    /**
+     * Time after a write during which search results are not cached, as searches may not see the write before the
+     * next refresh. Set it to at least the {@code index.refresh_interval} of the tasks indices.
+     */
+    public static final Setting<TimeValue> SEARCH_CACHE_REFRESH_WINDOW = Setting.timeSetting(
+            "plugins.tasks.search_cache.refresh_window", TimeValue.timeValueSeconds(1), TimeValue.ZERO,
+            Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    /**
+     * Requests that take at least this long are logged at WARN in the slow log; -1 disables the level.
+     */
+    public static final Setting<TimeValue> SLOWLOG_THRESHOLD_WARN = slowLogThreshold("warn");
+
+    /**
+     * Requests that take at least this long are logged at INFO in the slow log; -1 disables the level.
+     */
+    public static final Setting<TimeValue> SLOWLOG_THRESHOLD_INFO = slowLogThreshold("info");
+
+    /**
+     * Requests that take at least this long are logged at DEBUG in the slow log; -1 disables the level.
+     */
+    public static final Setting<TimeValue> SLOWLOG_THRESHOLD_DEBUG = slowLogThreshold("debug");
+
+    /**
+     * Requests that take at least this long are logged at TRACE in the slow log; -1 disables the level.
+     */
+    public static final Setting<TimeValue> SLOWLOG_THRESHOLD_TRACE = slowLogThreshold("trace");
+
+    /**
+     * Share of the successful requests, between 0 and 1, written to the request log; failed requests are always
+     * written. 0 disables the log.
+     */
+    public static final Setting<Double> REQUEST_LOG_SAMPLE_RATE = Setting.doubleSetting(
+            "plugins.tasks.request_log.sample_rate", 0.0, 0.0, 1.0, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    /**
+     * Age after which the backing index written through the write alias is rolled over to a new one, so that each
+     * backing index holds the tasks of about one such period.
+     */
+    public static final Setting<TimeValue> ROLLOVER_MAX_AGE = Setting.positiveTimeSetting(
+            "plugins.tasks.rollover.max_age", TimeValue.timeValueDays(30), Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    /**
+     * How often the elected cluster manager checks whether the write index must be rolled over.
+     */
+    public static final Setting<TimeValue> ROLLOVER_CHECK_INTERVAL = Setting.positiveTimeSetting(
+            "plugins.tasks.rollover.check_interval", TimeValue.timeValueMinutes(10), Setting.Property.NodeScope);
+
+    private static Setting<TimeValue> slowLogThreshold(String level) {
+        return Setting.timeSetting("plugins.tasks.slowlog.threshold." + level, TimeValue.MINUS_ONE, TimeValue.MINUS_ONE,
+                Setting.Property.NodeScope, Setting.Property.Dynamic);
+    }
+
+    private TasksSettings() {
+    }
+
+    /**
+     * @return All the settings registered by the plugin.
+     */
+    public static List<Setting<?>> getAllSettings() {
+        return List.of(BULK_BATCH_SIZE, EXPORT_BATCH_SIZE, EXPORT_MAX_SIZE, CACHE_SIZE, CACHE_EXPIRE, SEARCH_CACHE_SIZE,
+                SEARCH_CACHE_EXPIRE, SEARCH_CACHE_REFRESH_WINDOW, SLOWLOG_THRESHOLD_WARN, SLOWLOG_THRESHOLD_INFO,
+                SLOWLOG_THRESHOLD_DEBUG, SLOWLOG_THRESHOLD_TRACE, REQUEST_LOG_SAMPLE_RATE, ROLLOVER_MAX_AGE,
+                ROLLOVER_CHECK_INTERVAL);
+    }
+}
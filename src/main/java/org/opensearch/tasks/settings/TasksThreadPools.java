@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.settings;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Thread pools registered by the tasks plugin. Each pool has a fixed number of threads and a bounded queue, set
+ * with the {@code plugins.tasks.thread_pool.<pool>.size} and {@code .queue_size} node settings; requests that do
+ * not fit in the queue are rejected with 429 Too Many Requests.
+ */
+public final class TasksThreadPools {
+
+    /**
+     * Pool reading tasks by ID.
+     */
+    public static final String READ = "tasks_read";
+
+    /**
+     * Pool creating, updating, patching and deleting tasks, one by one or in bulk.
+     */
+    public static final String WRITE = "tasks_write";
+
+    /**
+     * Pool searching, exporting and aggregating tasks.
+     */
+    public static final String SEARCH = "tasks_search";
+
+    /**
+     * The names of all the plugin's pools.
+     */
+    public static final Set<String> NAMES = Set.of(READ, WRITE, SEARCH);
+
+    private static final String SETTINGS_PREFIX = "plugins.tasks.thread_pool.";
+
+    private TasksThreadPools() {
+    }
+
+    /**
+     * @param settings The node settings.
+     * @return The builders of the plugin's thread pools, sized from the number of allocated processors.
+     */
+    public static List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
+        int processors = OpenSearchExecutors.allocatedProcessors(settings);
+        return List.of(
+                new FixedExecutorBuilder(settings, READ, processors, 1000, SETTINGS_PREFIX + "read"),
+                new FixedExecutorBuilder(settings, WRITE, processors, 1000, SETTINGS_PREFIX + "write"),
+                new FixedExecutorBuilder(settings, SEARCH, ((processors * 3) / 2) + 1, 1000, SETTINGS_PREFIX + "search"));
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.stats;
+
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.profile.ProfileShardResult;
+import org.opensearch.search.profile.SearchProfileShardResults;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Time spent by one REST request in each stage of its handling, for the {@link TasksSlowLog}. The controller puts
+ * the trace in the request's thread context, which follows the request through the transport action, the service
+ * and the repository callbacks on the same node; each layer adds the time of its own stage.
+ * <p>
+ * A request sent with {@code profile=true} also records every call the repository sends to the cluster, with the
+ * query profile of its searches, and gets the trace back in its response.
+ */
+public class OperationTrace implements ToXContentObject {
+    /**
+     * Thread context transient holding the trace of the current request.
+     */
+    public static final String TRANSIENT_KEY = "_tasks_operation_trace";
+
+    /**
+     * The stages of a request.
+     */
+    public enum Stage {
+        /** Reading the request body. */
+        PARSE,
+        /** Checking the request before it is sent to the repository. */
+        VALIDATE,
+        /** Waiting for the index or the caches, including hydration. */
+        REPOSITORY,
+        /** Converting the documents read from the index into tasks. */
+        HYDRATE,
+        /** Writing the response body. */
+        SERIALIZE
+    }
+
+    private final String operation;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLongArray stageNanos = new AtomicLongArray(Stage.values().length);
+    private volatile Object source;
+    private volatile long hits = -1;
+    private final boolean profiled;
+    private final Queue<Call> calls = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param operation The name of the route the request was sent to.
+     */
+    public OperationTrace(String operation) {
+        this(operation, false);
+    }
+
+    /**
+     * @param operation The name of the route the request was sent to.
+     * @param profiled  Whether the request asked for a profile of its repository calls.
+     */
+    public OperationTrace(String operation, boolean profiled) {
+        this.operation = operation;
+        this.profiled = profiled;
+    }
+
+    /**
+     * @param threadContext The thread context of the current request, or null.
+     * @return The trace of the current request, or null if the request is not traced.
+     */
+    public static OperationTrace current(ThreadContext threadContext) {
+        return threadContext == null ? null : threadContext.getTransient(TRANSIENT_KEY);
+    }
+
+    /**
+     * Adds the time elapsed since {@code stageStartNanos} to a stage; a stage run several times adds up.
+     */
+    public void record(Stage stage, long stageStartNanos) {
+        stageNanos.addAndGet(stage.ordinal(), System.nanoTime() - stageStartNanos);
+    }
+
+    /**
+     * @return A listener that adds the time until it is called to the stage, then calls {@code listener}.
+     */
+    public <T> ActionListener<T> time(Stage stage, ActionListener<T> listener) {
+        long stageStart = System.nanoTime();
+        return ActionListener.runBefore(listener, () -> record(stage, stageStart));
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getTookNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long getStageNanos(Stage stage) {
+        return stageNanos.get(stage.ordinal());
+    }
+
+    /**
+     * @return The time of a stage without the stages run within it: the repository stage excludes hydration.
+     */
+    public long getSelfNanos(Stage stage) {
+        if (stage == Stage.REPOSITORY) {
+            return Math.max(0, getStageNanos(Stage.REPOSITORY) - getStageNanos(Stage.HYDRATE));
+        }
+        return getStageNanos(stage);
+    }
+
+    public boolean isProfiled() {
+        return profiled;
+    }
+
+    /**
+     * Records a call the repository sent to the cluster, if the request is profiled.
+     *
+     * @param name           The kind of call, such as {@code get} or {@code search}.
+     * @param callStartNanos When the call was sent.
+     * @param searchProfile  The query profile of a search, by shard, or null.
+     */
+    public void recordCall(String name, long callStartNanos, Map<String, ProfileShardResult> searchProfile) {
+        if (profiled) {
+            calls.add(new Call(name, System.nanoTime() - callStartNanos, searchProfile));
+        }
+    }
+
+    /**
+     * @return The search body or the task ID the request was about, or null if not known.
+     */
+    public Object getSource() {
+        return source;
+    }
+
+    /**
+     * @param source The search body, only normalized if the request is logged, or the task ID.
+     */
+    public void setSource(Object source) {
+        this.source = source;
+    }
+
+    /**
+     * @return The number of tasks matching the request, or -1 if not known.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    /**
+     * Writes the profile of the request: its total time, the time of every stage and the repository calls in the
+     * order they answered.
+     */
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("operation", operation);
+        builder.field("took_in_nanos", getTookNanos());
+        builder.startObject("stages");
+        for (Stage stage : Stage.values()) {
+            builder.field(stage.name().toLowerCase(Locale.ROOT) + "_in_nanos", getSelfNanos(stage));
+        }
+        builder.endObject();
+        builder.startArray("repository_calls");
+        for (Call call : calls) {
+            builder.startObject();
+            builder.field("call", call.name);
+            builder.field("time_in_nanos", call.nanos);
+            if (call.searchProfile != null && !call.searchProfile.isEmpty()) {
+                new SearchProfileShardResults(call.searchProfile).toXContent(builder, params);
+            }
+            builder.endObject();
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+
+    private static final class Call {
+        private final String name;
+        private final long nanos;
+        private final Map<String, ProfileShardResult> searchProfile;
+
+        private Call(String name, long nanos, Map<String, ProfileShardResult> searchProfile) {
+            this.name = name;
+            this.nanos = nanos;
+            this.searchProfile = searchProfile;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.stats;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Point in time statistics of the requests to one REST route of the plugin, on one node or summed over the
+ * cluster.
+ */
+public class RouteStats implements Writeable, ToXContentObject {
+    private final long count;
+    private final long inFlight;
+    private final long clientErrors;
+    private final long serverErrors;
+    private final LatencyHistogram.Snapshot latency;
+
+    /**
+     * @param count        The number of answered requests.
+     * @param inFlight     The number of requests being handled.
+     * @param clientErrors The number of requests answered with a 4xx status.
+     * @param serverErrors The number of requests answered with a 5xx status.
+     * @param latency      The time from receiving each answered request to sending its response.
+     */
+    public RouteStats(long count, long inFlight, long clientErrors, long serverErrors, LatencyHistogram.Snapshot latency) {
+        this.count = count;
+        this.inFlight = inFlight;
+        this.clientErrors = clientErrors;
+        this.serverErrors = serverErrors;
+        this.latency = latency;
+    }
+
+    public RouteStats(StreamInput in) throws IOException {
+        this.count = in.readVLong();
+        this.inFlight = in.readVLong();
+        this.clientErrors = in.readVLong();
+        this.serverErrors = in.readVLong();
+        this.latency = new LatencyHistogram.Snapshot(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(count);
+        out.writeVLong(inFlight);
+        out.writeVLong(clientErrors);
+        out.writeVLong(serverErrors);
+        latency.writeTo(out);
+    }
+
+    /**
+     * @param other The statistics of the same route on another node.
+     * @return The statistics of both nodes together.
+     */
+    public RouteStats merge(RouteStats other) {
+        return new RouteStats(count + other.count, inFlight + other.inFlight, clientErrors + other.clientErrors,
+                serverErrors + other.serverErrors, latency.merge(other.latency));
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getInFlight() {
+        return inFlight;
+    }
+
+    public long getClientErrors() {
+        return clientErrors;
+    }
+
+    public long getServerErrors() {
+        return serverErrors;
+    }
+
+    public LatencyHistogram.Snapshot getLatency() {
+        return latency;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("count", count);
+        builder.field("in_flight", inFlight);
+        builder.field("client_errors", clientErrors);
+        builder.field("server_errors", serverErrors);
+        latency.toXContent(builder, params);
+        return builder.endObject();
+    }
+}
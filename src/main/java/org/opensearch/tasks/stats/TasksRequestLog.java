@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.stats;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.tasks.settings.TasksSettings;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request log of the plugin's REST endpoints: one INFO line per answered request, with its route, status, time and
+ * hit count, written to the {@value #LOGGER_NAME} logger. Successful requests are sampled at the dynamic
+ * {@code plugins.tasks.request_log.sample_rate}, so the log costs one volatile read per request while it is off;
+ * requests that fail with a server error are always written. Task payloads are only logged at DEBUG, by the
+ * loggers of the controller, service and repository.
+ */
+public class TasksRequestLog {
+    public static final String LOGGER_NAME = "org.opensearch.tasks.requestlog";
+
+    private static final Logger log = LogManager.getLogger(LOGGER_NAME);
+
+    private volatile double sampleRate;
+
+    public TasksRequestLog(Settings settings, ClusterSettings clusterSettings) {
+        setSampleRate(TasksSettings.REQUEST_LOG_SAMPLE_RATE.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(TasksSettings.REQUEST_LOG_SAMPLE_RATE, this::setSampleRate);
+    }
+
+    private void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Writes the line of an answered request if it is sampled.
+     *
+     * @param trace  The trace of the answered request.
+     * @param status The status of its response.
+     */
+    public void onResponse(OperationTrace trace, RestStatus status) {
+        if (isSampled(status) && log.isInfoEnabled()) {
+            log.info("operation[{}], status[{}], took_millis[{}], hits[{}]", trace.getOperation(), status.getStatus(),
+                    TimeUnit.NANOSECONDS.toMillis(trace.getTookNanos()), trace.getHits() < 0 ? "" : trace.getHits());
+        }
+    }
+
+    /**
+     * @return Whether a request answered with the given status is written to the log.
+     */
+    public boolean isSampled(RestStatus status) {
+        if (status.getStatus() >= 500) {
+            return true;
+        }
+        double rate = sampleRate;
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
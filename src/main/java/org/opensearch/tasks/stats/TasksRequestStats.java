@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.stats;
+
+import org.opensearch.core.rest.RestStatus;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local counters and latency histograms of the plugin's REST routes. The controller starts a
+ * {@link Tracker} when a request arrives and finishes it with the status of the response.
+ */
+public class TasksRequestStats {
+    private final ConcurrentMap<String, Route> routes = new ConcurrentHashMap<>();
+
+    /**
+     * @param route The name of the route the request was sent to, such as {@code get} or {@code search}.
+     * @return The tracker to finish once the request is answered.
+     */
+    public Tracker start(String route) {
+        Route stats = routes.computeIfAbsent(route, name -> new Route());
+        stats.inFlight.incrementAndGet();
+        return new Tracker(stats, System.nanoTime());
+    }
+
+    /**
+     * @return The statistics of every route that received a request, by route name.
+     */
+    public Map<String, RouteStats> stats() {
+        Map<String, RouteStats> stats = new TreeMap<>();
+        routes.forEach((name, route) -> stats.put(name, route.stats()));
+        return stats;
+    }
+
+    /**
+     * A request being handled.
+     */
+    public static class Tracker {
+        private final Route route;
+        private final long startNanos;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private Tracker(Route route, long startNanos) {
+            this.route = route;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Records the request as answered. Only the first call counts, so a response sent after a failure was
+         * already recorded is not counted twice.
+         *
+         * @param status The status of the response.
+         * @return True if this call recorded the request, false if it was already recorded.
+         */
+        public boolean finish(RestStatus status) {
+            if (!finished.compareAndSet(false, true)) {
+                return false;
+            }
+            route.latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+            route.count.incrementAndGet();
+            if (status.getStatus() >= 500) {
+                route.serverErrors.incrementAndGet();
+            } else if (status.getStatus() >= 400) {
+                route.clientErrors.incrementAndGet();
+            }
+            route.inFlight.decrementAndGet();
+            return true;
+        }
+    }
+
+    private static class Route {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong inFlight = new AtomicLong();
+        private final AtomicLong clientErrors = new AtomicLong();
+        private final AtomicLong serverErrors = new AtomicLong();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private RouteStats stats() {
+            return new RouteStats(count.get(), Math.max(inFlight.get(), 0), clientErrors.get(), serverErrors.get(),
+                    latency.snapshot());
+        }
+    }
+}
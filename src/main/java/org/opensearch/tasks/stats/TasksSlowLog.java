@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks.stats;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.tasks.cache.TasksSearchCache;
+import org.opensearch.tasks.settings.TasksSettings;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slow log of the plugin's REST requests. A request that took at least one of the warn, info, debug or trace
+ * thresholds is logged at the level of the highest threshold it reached, to the {@value #LOGGER_NAME} logger, with
+ * its status, hit count, the time of every {@link OperationTrace.Stage} and its normalized search body or task ID.
+ * The thresholds are dynamic cluster settings; a negative threshold disables its level.
+ */
+public class TasksSlowLog {
+    public static final String LOGGER_NAME = "org.opensearch.tasks.slowlog";
+
+    // Longer sources are truncated, like the source of the index search slow log
+    private static final int MAX_SOURCE_CHARS = 1000;
+
+    private static final Logger log = LogManager.getLogger(LOGGER_NAME);
+
+    private volatile long warnNanos;
+    private volatile long infoNanos;
+    private volatile long debugNanos;
+    private volatile long traceNanos;
+
+    public TasksSlowLog(Settings settings, ClusterSettings clusterSettings) {
+        setWarnThreshold(TasksSettings.SLOWLOG_THRESHOLD_WARN.get(settings));
+        setInfoThreshold(TasksSettings.SLOWLOG_THRESHOLD_INFO.get(settings));
+        setDebugThreshold(TasksSettings.SLOWLOG_THRESHOLD_DEBUG.get(settings));
+        setTraceThreshold(TasksSettings.SLOWLOG_THRESHOLD_TRACE.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(TasksSettings.SLOWLOG_THRESHOLD_WARN, this::setWarnThreshold);
+        clusterSettings.addSettingsUpdateConsumer(TasksSettings.SLOWLOG_THRESHOLD_INFO, this::setInfoThreshold);
+        clusterSettings.addSettingsUpdateConsumer(TasksSettings.SLOWLOG_THRESHOLD_DEBUG, this::setDebugThreshold);
+        clusterSettings.addSettingsUpdateConsumer(TasksSettings.SLOWLOG_THRESHOLD_TRACE, this::setTraceThreshold);
+    }
+
+    private void setWarnThreshold(TimeValue threshold) {
+        this.warnNanos = threshold.nanos();
+    }
+
+    private void setInfoThreshold(TimeValue threshold) {
+        this.infoNanos = threshold.nanos();
+    }
+
+    private void setDebugThreshold(TimeValue threshold) {
+        this.debugNanos = threshold.nanos();
+    }
+
+    private void setTraceThreshold(TimeValue threshold) {
+        this.traceNanos = threshold.nanos();
+    }
+
+    /**
+     * Logs the request if it took at least one of the thresholds.
+     *
+     * @param trace  The trace of the answered request.
+     * @param status The status of its response.
+     */
+    public void onResponse(OperationTrace trace, RestStatus status) {
+        Level level = level(trace.getTookNanos());
+        if (level != null && log.isEnabled(level)) {
+            log.log(level, "{}", message(trace, status));
+        }
+    }
+
+    /**
+     * @return The level a request that took {@code tookNanos} is logged at, or null if it is not logged.
+     */
+    public Level level(long tookNanos) {
+        if (warnNanos >= 0 && tookNanos >= warnNanos) {
+            return Level.WARN;
+        }
+        if (infoNanos >= 0 && tookNanos >= infoNanos) {
+            return Level.INFO;
+        }
+        if (debugNanos >= 0 && tookNanos >= debugNanos) {
+            return Level.DEBUG;
+        }
+        if (traceNanos >= 0 && tookNanos >= traceNanos) {
+            return Level.TRACE;
+        }
+        return null;
+    }
+
+    /**
+     * @return The slow log line of a request; the repository stage excludes the hydration made within it.
+     */
+    public static String message(OperationTrace trace, RestStatus status) {
+        StringBuilder message = new StringBuilder();
+        message.append("took[").append(TimeValue.timeValueNanos(trace.getTookNanos())).append("], ")
+                .append("took_millis[").append(TimeUnit.NANOSECONDS.toMillis(trace.getTookNanos())).append("], ")
+                .append("operation[").append(trace.getOperation()).append("], ")
+                .append("status[").append(status.getStatus()).append("], ")
+                .append("hits[").append(trace.getHits() < 0 ? "" : trace.getHits()).append("], ")
+                .append("stages[")
+                .append("parse[").append(millis(trace.getStageNanos(OperationTrace.Stage.PARSE))).append("], ")
+                .append("validate[").append(millis(trace.getStageNanos(OperationTrace.Stage.VALIDATE))).append("], ")
+                .append("repository[").append(millis(trace.getSelfNanos(OperationTrace.Stage.REPOSITORY))).append("], ")
+                .append("hydrate[").append(millis(trace.getStageNanos(OperationTrace.Stage.HYDRATE))).append("], ")
+                .append("serialize[").append(millis(trace.getStageNanos(OperationTrace.Stage.SERIALIZE))).append("]], ")
+                .append("source[");
+        String source = source(trace.getSource());
+        if (source != null) {
+            message.append(source.length() > MAX_SOURCE_CHARS ? source.substring(0, MAX_SOURCE_CHARS) + "..." : source);
+        }
+        return message.append("]").toString();
+    }
+
+    /**
+     * Renders a search body with the keys of every object sorted, the form the search cache keys it by.
+     */
+    @SuppressWarnings("unchecked")
+    private static String source(Object source) {
+        if (source instanceof Map) {
+            try {
+                return TasksSearchCache.key((Map<String, Object>) source);
+            } catch (IOException e) {
+                return source.toString();
+            }
+        }
+        return source == null ? null : source.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000.0);
+    }
+}
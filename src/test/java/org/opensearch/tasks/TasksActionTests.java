@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks;
+
+import org.apache.lucene.tests.util.LuceneTestCase;
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParseException;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.tasks.action.GetTaskRequest;
+import org.opensearch.tasks.action.PatchTaskRequest;
+import org.opensearch.tasks.action.SearchTasksAction;
+import org.opensearch.tasks.action.SearchTasksRequest;
+import org.opensearch.tasks.action.SearchTasksResponse;
+import org.opensearch.tasks.action.TaskResponse;
+import org.opensearch.tasks.action.TaskStatusResponse;
+import org.opensearch.tasks.action.UpdateTaskRequest;
+import org.opensearch.tasks.model.CompactTask;
+import org.opensearch.tasks.model.Tasks;
+import org.opensearch.tasks.model.TasksPage;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class TasksActionTests extends LuceneTestCase {
+
+    // Helper method to serialize a request or response and read it back
+    private static <T extends Writeable> T roundTrip(T writeable, Writeable.Reader<T> reader) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            writeable.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                return reader.read(in);
+            }
+        }
+    }
+
+    private static Tasks createSampleTask() {
+        Tasks task = new Tasks();
+        task.setId("1");
+        task.setTitle("Task 1");
+        task.setStatus("PLANNED");
+        task.setCreationDate("2024-01-01");
+        task.setTags(Arrays.asList("tag1", "tag2"));
+        task.setSeqNo(3L);
+        task.setPrimaryTerm(1L);
+        return task;
+    }
+
+    @Test
+    void givenPatchRequest_whenSerialized_shouldKeepTaskVersionAndRetries() throws IOException {
+        // Act
+        PatchTaskRequest request = roundTrip(new PatchTaskRequest(createSampleTask(), 3), PatchTaskRequest::new);
+
+        // Assert
+        assertEquals(3, request.getRetryOnConflict());
+        assertEquals("1", request.getTask().getId());
+        assertEquals("Task 1", request.getTask().getTitle());
+        assertNull(request.getTask().getDescription());
+        assertEquals(List.of("tag1", "tag2"), request.getTask().getTags());
+        assertEquals(Long.valueOf(3), request.getTask().getSeqNo());
+        assertEquals(Long.valueOf(1), request.getTask().getPrimaryTerm());
+    }
+
+    @Test
+    void givenSearchRequestAndResponse_whenSerialized_shouldKeepBodyAndPage() throws IOException {
+        // Act
+        SearchTasksRequest request = roundTrip(new SearchTasksRequest(Map.of("status", "PLANNED", "size", 10)),
+                SearchTasksRequest::new);
+        SearchTasksResponse response = roundTrip(new SearchTasksResponse(new TasksPage(List.of(createSampleTask()), 5, "next")),
+                SearchTasksResponse::new);
+
+        // Assert
+        assertEquals(Map.of("status", "PLANNED", "size", 10), request.getBody());
+        assertEquals(1, response.getPage().getTasks().size());
+        assertEquals(5, response.getPage().getTotal());
+        assertEquals("next", response.getPage().getCursor());
+    }
+
+    @Test
+    void givenSearchRequestWithTimeout_whenSerialized_shouldKeepTimeoutAndRunAsCancellableTask() throws IOException {
+        // Act
+        SearchTasksRequest request = roundTrip(new SearchTasksRequest(Map.of("status", "PLANNED"), TimeValue.timeValueSeconds(5)),
+                SearchTasksRequest::new);
+        Task task = request.createTask(1, "transport", SearchTasksAction.NAME, TaskId.EMPTY_TASK_ID, Map.of());
+
+        // Assert
+        assertEquals(TimeValue.timeValueSeconds(5), request.getTimeout());
+        assertTrue(task instanceof CancellableTask);
+        assertTrue(((CancellableTask) task).shouldCancelChildrenOnCancellation());
+        assertNotNull(new SearchTasksRequest(Map.of(), TimeValue.ZERO).validate());
+    }
+
+    @Test
+    void givenTask_whenConvertedToCompactForm_shouldKeepEveryValue() throws IOException {
+        // Arrange
+        Tasks task = createSampleTask();
+        task.setPlannedDate("2024-02-29");
+        Tasks unusual = new Tasks();
+        unusual.setStatus("planned");
+        unusual.setCreationDate("2023-02-29");
+        unusual.setCompletionDate("01/01/2024");
+
+        // Act
+        Tasks sent = roundTrip(task, Tasks::new);
+        Tasks compacted = CompactTask.of(task).toTasks();
+        Tasks unusualSent = roundTrip(unusual, Tasks::new);
+
+        // Assert
+        assertEquals(task.toString(), sent.toString());
+        assertEquals(task.toString(), compacted.toString());
+        assertEquals(unusual.toString(), unusualSent.toString());
+    }
+
+    @Test
+    void givenResponses_whenSerialized_shouldKeepMissingTaskAndStatus() throws IOException {
+        // Act
+        TaskResponse missing = roundTrip(new TaskResponse(null), TaskResponse::new);
+        TaskStatusResponse status = roundTrip(new TaskStatusResponse(RestStatus.CONFLICT), TaskStatusResponse::new);
+
+        // Assert
+        assertNull(missing.getTask());
+        assertEquals(RestStatus.CONFLICT, status.getStatus());
+    }
+
+    @Test
+    void givenPage_whenRenderedAsXContent_shouldWriteTasksWithVersionAndCursor() throws IOException {
+        // Act
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        new TasksPage(List.of(createSampleTask()), 5, "next", true).toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String json = builder.toString();
+
+        // Assert
+        assertTrue(json.contains("\"tasks\":[{\"id\":\"1\",\"title\":\"Task 1\""));
+        assertTrue(json.contains("\"_seq_no\":3,\"_primary_term\":1}]"));
+        assertTrue(json.contains("\"total\":5,\"cursor\":\"next\",\"timed_out\":true"));
+    }
+
+    @Test
+    void givenSourceFilter_whenRenderedAsXContent_shouldWriteOnlyIdVersionAndIncludedFields() throws IOException {
+        // Act
+        GetTaskRequest request = roundTrip(new GetTaskRequest("1",
+                new FetchSourceContext(true, new String[]{"title", "status"}, new String[0])), GetTaskRequest::new);
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        createSampleTask().toXContent(builder, new ToXContent.MapParams(Map.of(Tasks.SOURCE_INCLUDES_PARAM, "title,status")));
+
+        // Assert
+        assertArrayEquals(new String[]{"title", "status"}, request.getFetchSource().includes());
+        assertEquals("{\"id\":\"1\",\"title\":\"Task 1\",\"status\":\"PLANNED\",\"_seq_no\":3,\"_primary_term\":1}",
+                builder.toString());
+    }
+
+    // Helper method to parse a task body
+    private static Tasks parseTask(String json) throws IOException {
+        try (XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION, json)) {
+            return Tasks.fromXContent(parser);
+        }
+    }
+
+    @Test
+    void givenTaskBody_whenParsed_shouldReadEveryFieldAndIgnoreVersion() throws IOException {
+        // Act
+        Tasks task = parseTask("{\"id\":\"1\",\"title\":\"Task 1\",\"description\":null,\"status\":\"PLANNED\","
+                + "\"plannedDate\":\"2024-02-01\",\"tags\":[\"tag1\",\"tag2\"],\"_seq_no\":3,\"_primary_term\":1}");
+
+        // Assert
+        assertEquals("1", task.getId());
+        assertEquals("Task 1", task.getTitle());
+        assertNull(task.getDescription());
+        assertEquals("PLANNED", task.getStatus());
+        assertEquals("2024-02-01", task.getPlannedDate());
+        assertEquals(List.of("tag1", "tag2"), task.getTags());
+        assertFalse(task.hasVersion());
+    }
+
+    @Test
+    void givenNullTags_whenParsed_shouldReadNoTags() throws IOException {
+        // Act
+        Tasks task = parseTask("{\"title\":\"Task 1\",\"tags\":null}");
+
+        // Assert
+        assertEquals("Task 1", task.getTitle());
+        assertNull(task.getTags());
+    }
+
+    @Test
+    void givenUnknownOrWronglyTypedField_whenParsed_shouldFail() {
+        // Assert
+        expectThrows(XContentParseException.class, () -> parseTask("{\"title\":\"Task 1\",\"owner\":\"JohnDoe\"}"));
+        expectThrows(XContentParseException.class, () -> parseTask("{\"title\":{\"text\":\"Task 1\"}}"));
+        expectThrows(XContentParseException.class, () -> parseTask("{\"tags\":\"tag1\"}"));
+        expectThrows(XContentParseException.class, () -> parseTask("{\"tags\":[1,2]}"));
+        expectThrows(XContentParseException.class, () -> parseTask("{\"tags\":{\"name\":\"tag1\"}}"));
+    }
+
+    @Test
+    void givenMissingId_whenValidating_shouldFail() {
+        // Assert
+        assertNotNull(new GetTaskRequest(null).validate());
+        assertNotNull(new UpdateTaskRequest(new Tasks()).validate());
+        assertNotNull(new PatchTaskRequest(createSampleTask(), -1).validate());
+        assertNull(new PatchTaskRequest(createSampleTask(), 0).validate());
+    }
+}
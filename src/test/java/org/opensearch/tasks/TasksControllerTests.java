@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks;
+
+import org.apache.lucene.tests.util.LuceneTestCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.tasks.controller.TasksController;
+import org.opensearch.tasks.model.Tasks;
+import org.opensearch.tasks.service.TasksService;
+import org.opensearch.tasks.settings.TasksSettings;
+import org.opensearch.tasks.settings.TasksThreadPools;
+import org.opensearch.tasks.stats.TasksRequestLog;
+import org.opensearch.tasks.stats.TasksRequestStats;
+import org.opensearch.tasks.stats.TasksSlowLog;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TasksControllerTests extends LuceneTestCase {
+
+    private TasksService tasksService;
+    private ThreadPool threadPool;
+    private TasksController controller;
+
+    @BeforeEach
+    public void setUp() {
+        tasksService = mock(TasksService.class);
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(threadPool.executor(any())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, new HashSet<>(TasksSettings.getAllSettings()));
+        controller = new TasksController(tasksService, threadPool, new TasksRequestStats(),
+                new TasksSlowLog(Settings.EMPTY, clusterSettings), new TasksRequestLog(Settings.EMPTY, clusterSettings));
+    }
+
+    // Helper method to send a request through the controller and return its response
+    private RestResponse execute(RestRequest.Method method, String path, String body) throws Exception {
+        FakeRestRequest.Builder builder = new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY).withMethod(method).withPath(path);
+        if (body != null) {
+            builder.withContent(new BytesArray(body), XContentType.JSON);
+        }
+        FakeRestRequest request = builder.build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        controller.handleRequest(request, channel, mock(NodeClient.class));
+        assertTrue(channel.await());
+        return channel.capturedResponse();
+    }
+
+    // Helper method to answer an export by offering the given tasks to the page until it is full
+    private static Answer<Void> exportPage(List<Tasks> tasks, String nextCursor) {
+        return invocation -> {
+            CheckedFunction<Tasks, Boolean, IOException> consumer = invocation.getArgument(1);
+            ActionListener<String> listener = invocation.getArgument(2);
+            try {
+                for (Tasks task : tasks) {
+                    if (!consumer.apply(task)) {
+                        listener.onResponse(nextCursor);
+                        return null;
+                    }
+                }
+            } catch (Exception e) {
+                listener.onFailure(e);
+                return null;
+            }
+            listener.onResponse(null);
+            return null;
+        };
+    }
+
+    private static Tasks createTask(String id) {
+        Tasks task = new Tasks();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus("PLANNED");
+        return task;
+    }
+
+    // Helper method to measure the NDJSON line of a task
+    private static int lineLength(Tasks task) throws IOException {
+        XContentBuilder builder = task.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+        return BytesReference.bytes(builder).length() + 1;
+    }
+
+    @Test
+    void givenTasksBeyondThePageSize_whenExporting_shouldAnswerTheTasksThatFitWithACursor() throws Exception {
+        // Arrange
+        List<Tasks> tasks = List.of(createTask("1"), createTask("2"), createTask("3"));
+        when(tasksService.getExportMaxBytes()).thenReturn((long) lineLength(tasks.get(0)) * 3 / 2);
+        doAnswer(exportPage(tasks, "next-page")).when(tasksService).exportTasks(any(), any(), any());
+
+        // Act
+        RestResponse response = execute(RestRequest.Method.POST, "/_plugins/tasks/_export", "{}");
+
+        // Assert
+        assertEquals(RestStatus.OK, response.status());
+        assertEquals(List.of("next-page"), response.getHeaders().get("X-Tasks-Cursor"));
+        String body = response.content().utf8ToString();
+        assertEquals(1, body.split("\n").length);
+        assertTrue(body.contains("\"Task 1\""));
+    }
+
+    @Test
+    void givenLastPage_whenExporting_shouldAnswerWithoutACursor() throws Exception {
+        // Arrange
+        List<Tasks> tasks = List.of(createTask("1"), createTask("2"));
+        when(tasksService.getExportMaxBytes()).thenReturn(1024L * 1024L);
+        doAnswer(exportPage(tasks, "next-page")).when(tasksService).exportTasks(any(), any(), any());
+
+        // Act
+        RestResponse response = execute(RestRequest.Method.POST, "/_plugins/tasks/_export", "{}");
+
+        // Assert
+        assertEquals(RestStatus.OK, response.status());
+        assertNull(response.getHeaders().get("X-Tasks-Cursor"));
+        assertEquals(2, response.content().utf8ToString().split("\n").length);
+    }
+
+    @Test
+    void givenTaskLargerThanThePageSize_whenExporting_shouldAnswerPayloadTooLarge() throws Exception {
+        // Arrange
+        List<Tasks> tasks = List.of(createTask("1"));
+        when(tasksService.getExportMaxBytes()).thenReturn(16L);
+        doAnswer(exportPage(tasks, "next-page")).when(tasksService).exportTasks(any(), any(), any());
+
+        // Act
+        RestResponse response = execute(RestRequest.Method.POST, "/_plugins/tasks/_export", "{}");
+
+        // Assert
+        assertEquals(RestStatus.REQUEST_ENTITY_TOO_LARGE, response.status());
+        assertTrue(response.content().utf8ToString().contains(TasksSettings.EXPORT_MAX_SIZE.getKey()));
+    }
+
+    @Test
+    void givenFullThreadPool_whenDispatching_shouldAnswerTooManyRequests() throws Exception {
+        // Arrange
+        ExecutorService fullPool = mock(ExecutorService.class);
+        doThrow(new OpenSearchRejectedExecutionException("rejected execution")).when(fullPool).execute(any());
+        when(threadPool.executor(TasksThreadPools.SEARCH)).thenReturn(fullPool);
+
+        // Act
+        RestResponse response = execute(RestRequest.Method.POST, "/_plugins/tasks/_aggregate", "{}");
+
+        // Assert
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, response.status());
+        verify(tasksService, never()).aggregateTasks(any(), any());
+    }
+}
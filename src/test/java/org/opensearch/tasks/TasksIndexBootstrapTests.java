@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks;
+
+import org.apache.lucene.tests.util.LuceneTestCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+import org.opensearch.Version;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.create.CreateIndexRequest;
+import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.support.master.AcknowledgedResponse;
+import org.opensearch.client.AdminClient;
+import org.opensearch.client.Client;
+import org.opensearch.client.IndicesAdminClient;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexTemplateMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.ReindexAction;
+import org.opensearch.index.reindex.ReindexRequest;
+import org.opensearch.tasks.repository.TaskIndices;
+import org.opensearch.tasks.repository.TasksIndexBootstrap;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.net.InetAddress;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TasksIndexBootstrapTests extends LuceneTestCase {
+
+    private Client client;
+    private IndicesAdminClient indicesClient;
+    private TasksIndexBootstrap bootstrap;
+
+    @BeforeEach
+    public void setUp() {
+        client = mock(Client.class);
+        AdminClient adminClient = mock(AdminClient.class);
+        indicesClient = mock(IndicesAdminClient.class);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.indices()).thenReturn(indicesClient);
+        bootstrap = new TasksIndexBootstrap(client, mock(ClusterService.class), mock(ThreadPool.class));
+    }
+
+    // Helper method to build the state of a recovered cluster managed by this node, holding the installed template
+    private static ClusterState clusterState(IndexMetadata... indices) {
+        DiscoveryNode node = new DiscoveryNode("node", new TransportAddress(InetAddress.getLoopbackAddress(), 9300), Version.CURRENT);
+        Metadata.Builder metadata = Metadata.builder().put(IndexTemplateMetadata.builder("tasks-template")
+                .patterns(List.of("tasks-*")).version(Integer.MAX_VALUE));
+        for (IndexMetadata index : indices) {
+            metadata.put(index, false);
+        }
+        return ClusterState.builder(ClusterName.DEFAULT)
+                .nodes(DiscoveryNodes.builder().add(node).localNodeId("node").clusterManagerNodeId("node"))
+                .metadata(metadata)
+                .build();
+    }
+
+    private static IndexMetadata.Builder index(String name) {
+        return IndexMetadata.builder(name)
+                .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                .numberOfShards(1)
+                .numberOfReplicas(0);
+    }
+
+    // Helper method to answer a request by completing its listener with the given response
+    private static <T> Answer<Void> respondWith(T response) {
+        return invocation -> {
+            ActionListener<T> listener = invocation.getArgument(invocation.getArguments().length - 1);
+            listener.onResponse(response);
+            return null;
+        };
+    }
+
+    private void clusterChanged(ClusterState state) {
+        bootstrap.clusterChanged(new ClusterChangedEvent("test", state, ClusterState.EMPTY_STATE));
+    }
+
+    @Test
+    void givenNoBackingIndex_whenClusterChanges_shouldCreateTheFirstOneWithTheWriteAlias() {
+        // Act
+        clusterChanged(clusterState());
+
+        // Assert
+        ArgumentCaptor<CreateIndexRequest> captor = ArgumentCaptor.forClass(CreateIndexRequest.class);
+        verify(indicesClient, times(1)).create(captor.capture(), any());
+        assertEquals(TaskIndices.FIRST_BACKING_INDEX, captor.getValue().index());
+        verify(indicesClient, never()).aliases(any(), any());
+    }
+
+    @Test
+    void givenBackingIndicesWithoutWriteAlias_whenClusterChanges_shouldAddTheAliasToTheLatestOne() {
+        // Act
+        clusterChanged(clusterState(index("tasks-000001").build(), index("tasks-000002").build(), index("tasks").build()));
+
+        // Assert
+        ArgumentCaptor<IndicesAliasesRequest> captor = ArgumentCaptor.forClass(IndicesAliasesRequest.class);
+        verify(indicesClient, times(1)).aliases(captor.capture(), any());
+        IndicesAliasesRequest.AliasActions action = captor.getValue().getAliasActions().get(0);
+        assertArrayEquals(new String[]{"tasks-000002"}, action.indices());
+        assertArrayEquals(new String[]{TaskIndices.WRITE_ALIAS}, action.aliases());
+        assertEquals(Boolean.TRUE, action.writeIndex());
+        verify(indicesClient, never()).create(any(), any());
+    }
+
+    @Test
+    void givenWriteAlias_whenClusterChanges_shouldLeaveTheIndicesAlone() {
+        // Act
+        clusterChanged(clusterState(index("tasks-000001")
+                .putAlias(AliasMetadata.builder(TaskIndices.WRITE_ALIAS).writeIndex(true)).build()));
+
+        // Assert
+        verify(indicesClient, never()).create(any(), any());
+        verify(indicesClient, never()).aliases(any(), any());
+    }
+
+    @Test
+    void givenLegacyIndex_whenClusterChanges_shouldMigrateItIntoTheWriteIndex() {
+        // Arrange
+        doAnswer(respondWith(new AcknowledgedResponse(true))).when(indicesClient).updateSettings(any(), any());
+        BulkByScrollResponse reindexed = mock(BulkByScrollResponse.class);
+        when(reindexed.getBulkFailures()).thenReturn(List.of());
+        when(reindexed.getSearchFailures()).thenReturn(List.of());
+        doAnswer(respondWith(reindexed)).when(client).execute(eq(ReindexAction.INSTANCE), any(ReindexRequest.class), any());
+        doAnswer(respondWith(new AcknowledgedResponse(true))).when(indicesClient).aliases(any(), any());
+
+        // Act
+        clusterChanged(clusterState(index("tasks-000002")
+                .putAlias(AliasMetadata.builder(TaskIndices.WRITE_ALIAS).writeIndex(true)).build(), index("tasks").build()));
+
+        // Assert
+        ArgumentCaptor<UpdateSettingsRequest> block = ArgumentCaptor.forClass(UpdateSettingsRequest.class);
+        verify(indicesClient, times(1)).updateSettings(block.capture(), any());
+        assertArrayEquals(new String[]{TaskIndices.LEGACY_INDEX}, block.getValue().indices());
+        assertEquals("true", block.getValue().settings().get(IndexMetadata.SETTING_BLOCKS_WRITE));
+        ArgumentCaptor<ReindexRequest> reindex = ArgumentCaptor.forClass(ReindexRequest.class);
+        verify(client, times(1)).execute(eq(ReindexAction.INSTANCE), reindex.capture(), any());
+        assertArrayEquals(new String[]{TaskIndices.LEGACY_INDEX}, reindex.getValue().getSearchRequest().indices());
+        assertEquals("tasks-000002", reindex.getValue().getDestination().index());
+        ArgumentCaptor<IndicesAliasesRequest> swap = ArgumentCaptor.forClass(IndicesAliasesRequest.class);
+        verify(indicesClient, times(1)).aliases(swap.capture(), any());
+        List<IndicesAliasesRequest.AliasActions> actions = swap.getValue().getAliasActions();
+        assertEquals(IndicesAliasesRequest.AliasActions.Type.REMOVE_INDEX, actions.get(0).actionType());
+        assertArrayEquals(new String[]{TaskIndices.LEGACY_INDEX}, actions.get(0).indices());
+        assertArrayEquals(new String[]{"tasks-000002"}, actions.get(1).indices());
+        assertArrayEquals(new String[]{TaskIndices.LEGACY_INDEX}, actions.get(1).aliases());
+    }
+
+    @Test
+    void givenFailedReindex_whenMigratingLegacyIndex_shouldKeepTheLegacyIndex() {
+        // Arrange
+        doAnswer(respondWith(new AcknowledgedResponse(true))).when(indicesClient).updateSettings(any(), any());
+        BulkByScrollResponse reindexed = mock(BulkByScrollResponse.class);
+        BulkItemResponse.Failure failure = new BulkItemResponse.Failure("tasks-000001", "1", new IllegalArgumentException("Invalid date"));
+        when(reindexed.getBulkFailures()).thenReturn(List.of(failure));
+        when(reindexed.getSearchFailures()).thenReturn(List.of());
+        doAnswer(respondWith(reindexed)).when(client).execute(eq(ReindexAction.INSTANCE), any(ReindexRequest.class), any());
+
+        // Act
+        clusterChanged(clusterState(index("tasks-000001")
+                .putAlias(AliasMetadata.builder(TaskIndices.WRITE_ALIAS).writeIndex(true)).build(), index("tasks").build()));
+
+        // Assert
+        verify(indicesClient, never()).aliases(any(), any());
+    }
+}
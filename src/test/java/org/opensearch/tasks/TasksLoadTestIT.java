@@ -0,0 +1,334 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks;
+
+import org.HdrHistogram.Histogram;
+import org.apache.http.HttpHost;
+import org.apache.http.util.EntityUtils;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseException;
+import org.opensearch.client.RestClient;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.test.rest.OpenSearchRestTestCase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the REST API, run by the {@code loadTest} Gradle task against a test cluster with the plugin
+ * installed. A number of threads send a weighted mix of create, get, patch, search and delete requests for a fixed
+ * time, and the throughput and latency percentiles of every route are logged and written to a JSON file, so runs
+ * of two versions can be compared. Only the requests sent after the warmup are measured.
+ *
+ * <p>The workload is configured with system properties, set from the Gradle properties of the same name:
+ * {@code tasks.load.threads}, {@code tasks.load.duration} and {@code tasks.load.warmup} (seconds),
+ * {@code tasks.load.seed_tasks}, {@code tasks.load.mix} (for example {@code create=20,get=40,patch=15,search=20,delete=5})
+ * and {@code tasks.load.output}, the path of the result file.
+ */
+public class TasksLoadTestIT extends OpenSearchRestTestCase {
+
+    private static final String BASE_PATH = "/_plugins/tasks";
+    private static final String[] STATUSES = {"PLANNED", "EXECUTED_OK", "EXECUTED_ERROR"};
+    private static final String[] ASSIGNEES = {"alice", "bob", "carol", "dave", "erin", "frank"};
+    private static final String[] TAGS = {"backend", "frontend", "security", "ops", "urgent", "bug"};
+    // Latencies are recorded in microseconds, up to one minute
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    enum Operation {
+        CREATE("POST /_plugins/tasks"),
+        GET("GET /_plugins/tasks/{id}"),
+        PATCH("PATCH /_plugins/tasks"),
+        SEARCH("POST /_plugins/tasks/search"),
+        DELETE("DELETE /_plugins/tasks/{id}");
+
+        private final String route;
+
+        Operation(String route) {
+            this.route = route;
+        }
+    }
+
+    // IDs of the tasks that exist, shared by the workers
+    private final List<String> ids = new ArrayList<>();
+
+    public void testWorkloadMix() throws Exception {
+        int threads = Integer.getInteger("tasks.load.threads", 8);
+        int durationSeconds = Integer.getInteger("tasks.load.duration", 60);
+        int warmupSeconds = Integer.getInteger("tasks.load.warmup", 10);
+        int seedTasks = Integer.getInteger("tasks.load.seed_tasks", 1000);
+        Map<Operation, Integer> mix = parseMix(System.getProperty("tasks.load.mix", "create=20,get=40,patch=15,search=20,delete=5"));
+        Path output = Paths.get(System.getProperty("tasks.load.output", "load-test-results.json"));
+
+        try (RestClient client = RestClient.builder(getClusterHosts().toArray(new HttpHost[0]))
+                .setHttpClientConfigCallback(builder -> builder.setMaxConnTotal(threads).setMaxConnPerRoute(threads))
+                .build()) {
+            Random seedRandom = new Random(randomLong());
+            for (int i = 0; i < seedTasks; i++) {
+                addId(createTask(client, seedRandom));
+            }
+            logger.info("Seeded {} tasks, running {} threads for {}s after a {}s warmup with mix {}",
+                    seedTasks, threads, durationSeconds, warmupSeconds, mix);
+
+            long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            long stopAt = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<RouteStats>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long seed = randomLong();
+                futures.add(executor.submit(() -> runWorker(client, new Random(seed), mix, measureFrom, stopAt)));
+            }
+            RouteStats total = new RouteStats();
+            try {
+                for (Future<RouteStats> future : futures) {
+                    total.add(future.get());
+                }
+            } finally {
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+            }
+
+            writeResults(total, threads, durationSeconds, warmupSeconds, seedTasks, mix, output);
+            assertTrue("No request was measured", total.count() > 0);
+        }
+    }
+
+    private RouteStats runWorker(RestClient client, Random random, Map<Operation, Integer> mix, long measureFrom, long stopAt) {
+        RouteStats stats = new RouteStats();
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long now;
+        while ((now = System.nanoTime()) < stopAt) {
+            Operation operation = pick(mix, totalWeight, random);
+            boolean ok;
+            long start = System.nanoTime();
+            try {
+                ok = execute(client, operation, random);
+            } catch (IOException e) {
+                ok = false;
+            }
+            long tookMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            if (now >= measureFrom) {
+                stats.record(operation, tookMicros, ok);
+            }
+        }
+        return stats;
+    }
+
+    private boolean execute(RestClient client, Operation operation, Random random) throws IOException {
+        switch (operation) {
+            case CREATE:
+                addId(createTask(client, random));
+                return true;
+            case GET: {
+                String id = randomId(random, false);
+                return id == null || status(client, new Request("GET", BASE_PATH + "/" + id)) < 500;
+            }
+            case PATCH: {
+                String id = randomId(random, false);
+                if (id == null) {
+                    return true;
+                }
+                Request request = new Request("PATCH", BASE_PATH);
+                request.setJsonEntity("{\"id\":\"" + id + "\",\"status\":\"" + STATUSES[random.nextInt(STATUSES.length)] + "\"}");
+                return status(client, request) < 500;
+            }
+            case SEARCH: {
+                Request request = new Request("POST", BASE_PATH + "/search");
+                request.setJsonEntity("{\"equals\":{\"assignee\":\"" + ASSIGNEES[random.nextInt(ASSIGNEES.length)] + "\"}}");
+                return status(client, request) < 500;
+            }
+            case DELETE: {
+                String id = randomId(random, true);
+                return id == null || status(client, new Request("DELETE", BASE_PATH + "/" + id)) < 500;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+
+    /**
+     * Sends a request and returns its status code; 4xx answers, such as a task deleted by another worker, are
+     * expected under a concurrent workload and only 5xx answers count as errors.
+     */
+    private static int status(RestClient client, Request request) throws IOException {
+        try {
+            Response response = client.performRequest(request);
+            EntityUtils.consume(response.getEntity());
+            return response.getStatusLine().getStatusCode();
+        } catch (ResponseException e) {
+            return e.getResponse().getStatusLine().getStatusCode();
+        }
+    }
+
+    private static String createTask(RestClient client, Random random) throws IOException {
+        Request request = new Request("POST", BASE_PATH);
+        request.setJsonEntity(String.format(Locale.ROOT,
+                "{\"title\":\"Load test task %d\",\"description\":\"Review the access rules of the service.\","
+                        + "\"status\":\"%s\",\"assignee\":\"%s\",\"creationDate\":\"2024-%02d-%02d\","
+                        + "\"securityStandards\":\"ISO-27001\",\"tags\":[\"%s\"]}",
+                random.nextInt(1_000_000), STATUSES[random.nextInt(STATUSES.length)], ASSIGNEES[random.nextInt(ASSIGNEES.length)],
+                1 + random.nextInt(12), 1 + random.nextInt(28), TAGS[random.nextInt(TAGS.length)]));
+        Response response = client.performRequest(request);
+        Map<String, Object> task = XContentHelper.convertToMap(
+                new BytesArray(EntityUtils.toByteArray(response.getEntity())), false, XContentType.JSON).v2();
+        return (String) task.get("id");
+    }
+
+    private void addId(String id) {
+        if (id == null) {
+            return;
+        }
+        synchronized (ids) {
+            ids.add(id);
+        }
+    }
+
+    private String randomId(Random random, boolean remove) {
+        synchronized (ids) {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = random.nextInt(ids.size());
+            if (!remove) {
+                return ids.get(index);
+            }
+            // Swap with the last ID so the removal does not shift the list
+            String id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix, int totalWeight, Random random) {
+        int value = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty workload mix");
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid workload mix entry [" + entry + "]");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The workload mix [" + mix + "] has no operation");
+        }
+        return weights;
+    }
+
+    private void writeResults(RouteStats stats, int threads, int durationSeconds, int warmupSeconds, int seedTasks,
+                              Map<Operation, Integer> mix, Path output) throws IOException {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("threads", threads);
+        config.put("duration_seconds", durationSeconds);
+        config.put("warmup_seconds", warmupSeconds);
+        config.put("seed_tasks", seedTasks);
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        mix.forEach((operation, weight) -> weights.put(operation.name().toLowerCase(Locale.ROOT), weight));
+        config.put("mix", weights);
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(output);
+             XContentBuilder builder = XContentFactory.jsonBuilder(out).prettyPrint()) {
+            builder.startObject();
+            builder.field("config", config);
+            builder.startObject("routes");
+            for (Operation operation : Operation.values()) {
+                Histogram histogram = stats.histograms.get(operation);
+                if (histogram == null) {
+                    continue;
+                }
+                double throughput = (double) histogram.getTotalCount() / durationSeconds;
+                long errors = stats.errors.getOrDefault(operation, 0L);
+                logger.info(String.format(Locale.ROOT, "%-30s %8d requests %8.1f req/s %6d errors  p50 %6.2fms  p95 %6.2fms"
+                                + "  p99 %6.2fms  p999 %6.2fms  max %6.2fms", operation.route, histogram.getTotalCount(), throughput,
+                        errors, millis(histogram, 50), millis(histogram, 95), millis(histogram, 99), millis(histogram, 99.9),
+                        histogram.getMaxValue() / 1000.0));
+                builder.startObject(operation.route);
+                builder.field("requests", histogram.getTotalCount());
+                builder.field("errors", errors);
+                builder.field("throughput_per_second", throughput);
+                builder.startObject("latency_ms");
+                builder.field("p50", millis(histogram, 50));
+                builder.field("p95", millis(histogram, 95));
+                builder.field("p99", millis(histogram, 99));
+                builder.field("p999", millis(histogram, 99.9));
+                builder.field("max", histogram.getMaxValue() / 1000.0);
+                builder.endObject();
+                builder.endObject();
+            }
+            builder.endObject();
+            builder.field("total_throughput_per_second", (double) stats.count() / durationSeconds);
+            builder.endObject();
+        }
+        logger.info("Load test results written to {}", output.toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Latencies and error counts of one worker, or of all workers once merged.
+     */
+    private static class RouteStats {
+        private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+        void record(Operation operation, long tookMicros, boolean ok) {
+            histograms.computeIfAbsent(operation, o -> new Histogram(MAX_LATENCY_MICROS, 3))
+                    .recordValue(Math.min(Math.max(tookMicros, 1), MAX_LATENCY_MICROS));
+            if (!ok) {
+                errors.merge(operation, 1L, Long::sum);
+            }
+        }
+
+        void add(RouteStats other) {
+            other.histograms.forEach((operation, histogram) ->
+                    histograms.computeIfAbsent(operation, o -> new Histogram(MAX_LATENCY_MICROS, 3)).add(histogram));
+            other.errors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+        }
+
+        long count() {
+            return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        }
+    }
+}
@@ -12,13 +12,22 @@ import org.apache.http.ParseException;
 import org.apache.http.util.EntityUtils;
 import org.opensearch.client.Request;
 import org.opensearch.client.Response;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.tasks.action.CreateTaskAction;
+import org.opensearch.tasks.action.CreateTaskRequest;
+import org.opensearch.tasks.action.SearchTasksAction;
+import org.opensearch.tasks.action.SearchTasksRequest;
+import org.opensearch.tasks.model.Tasks;
+import org.opensearch.tasks.model.TasksPage;
+import org.opensearch.tasks.repository.TaskIndices;
 import org.opensearch.test.OpenSearchIntegTestCase;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.containsString;
 
@@ -38,4 +47,53 @@ public class TasksPluginIT extends OpenSearchIntegTestCase {
         logger.info("response body: {}", body);
         assertThat(body, containsString("tasks"));
     }
+
+    public void testSearchAfterClusterRestart() throws Exception {
+        awaitWriteAlias();
+        Tasks task = new Tasks();
+        task.setTitle("Rotate the certificates");
+        task.setStatus("PLANNED");
+        task.setAssignee("alice");
+        client().execute(CreateTaskAction.INSTANCE, new CreateTaskRequest(task)).actionGet();
+        refresh();
+
+        internalCluster().fullRestart();
+        ensureGreen();
+
+        // The term and ngram filters only match with the mapping of the template
+        TasksPage byEquals = searchTasks(Map.of("equals", Map.of("status", "PLANNED", "assignee", "alice")));
+        assertEquals(1, byEquals.getTotal());
+        TasksPage byContains = searchTasks(Map.of("contains", Map.of("title", "certif")));
+        assertEquals(1, byContains.getTotal());
+        assertEquals("Rotate the certificates", byContains.getTasks().get(0).getTitle());
+    }
+
+    public void testShortContainsMatchesTitleBeyondKeywordLimit() throws Exception {
+        awaitWriteAlias();
+        // The keyword subfield ignores titles longer than 256 characters
+        Tasks task = new Tasks();
+        task.setTitle("Review the access logs " + "x".repeat(300) + " Qz");
+        task.setStatus("PLANNED");
+        task.setAssignee("bob");
+        client().execute(CreateTaskAction.INSTANCE, new CreateTaskRequest(task)).actionGet();
+        refresh();
+
+        TasksPage byContains = searchTasks(Map.of("contains", Map.of("title", "Qz")));
+        assertEquals(1, byContains.getTotal());
+        assertTrue(byContains.getTasks().get(0).getTitle().endsWith(" Qz"));
+    }
+
+    private void awaitWriteAlias() throws Exception {
+        // The template and then the first backing index with the write alias are created once the cluster has
+        // formed; creates require the alias, so tasks are only written once it exists
+        assertBusy(() -> {
+            Metadata metadata = client().admin().cluster().prepareState().get().getState().metadata();
+            assertNotNull(metadata.templates().get("tasks-template"));
+            assertTrue(metadata.hasAlias(TaskIndices.WRITE_ALIAS));
+        });
+    }
+
+    private TasksPage searchTasks(Map<String, Object> body) {
+        return client().execute(SearchTasksAction.INSTANCE, new SearchTasksRequest(body)).actionGet().getPage();
+    }
 }
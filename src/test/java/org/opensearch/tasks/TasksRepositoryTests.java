@@ -11,32 +11,70 @@ import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.tests.util.LuceneTestCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
+import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.CreatePitResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
-import org.opensearch.common.action.ActionFuture;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.engine.DocumentMissingException;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.histogram.Histogram;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.tasks.model.SearchCursor;
+import org.opensearch.tasks.model.TaskAggregations;
 import org.opensearch.tasks.model.Tasks;
+import org.opensearch.tasks.model.TasksPage;
+import org.opensearch.tasks.repository.TaskIndices;
 import org.opensearch.tasks.repository.TasksRepository;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -48,24 +86,16 @@ public class TasksRepositoryTests extends LuceneTestCase {
     @Mock
     private SearchResponse searchResponse;
     @Mock
-    private ActionFuture<SearchResponse> searchResponseActionFuture;
-
-
-    @Mock
-    private ActionFuture<GetResponse> actionFuture;
-    @Mock
-    private ActionFuture<IndexResponse> actionFutureIndex;
-    @Mock
     private GetResponse getResponse;
 
     private TasksRepository tasksRepository;
-    @Mock
-    private ActionFuture<DeleteResponse> deleteActionFuture;
 
     @Mock
     private DeleteResponse deleteResponse;
     @Mock
     private IndexResponse indexResponse;
+    @Mock
+    private UpdateResponse updateResponse;
 
     @BeforeEach
     public void setUp() {
@@ -121,17 +151,32 @@ public class TasksRepositoryTests extends LuceneTestCase {
         return task;
     }
 
+    // Helper method to answer a client call by completing its listener with the given response
+    private static <T> Answer<Void> respondWith(T response) {
+        return invocation -> {
+            ActionListener<T> listener = invocation.getArgument(invocation.getArguments().length - 1);
+            listener.onResponse(response);
+            return null;
+        };
+    }
+
+    // Helper method to wait for the result of a listener based repository call
+    private static <T> T await(Consumer<ActionListener<T>> call) {
+        PlainActionFuture<T> future = PlainActionFuture.newFuture();
+        call.accept(future);
+        return future.actionGet(10, TimeUnit.SECONDS);
+    }
+
     @Test
     public void givenValidTaskId_whenGettingTask_shouldReturnTask() {
         Map<String, Object> sourceAsMap = createTaskMap(TASK_ID, TITLE, DESCRIPTION, STATUS, ASSIGNEE, PLANNED_DATE, TAGS);
 
-        when(client.get(any())).thenReturn(actionFuture);
-        when(actionFuture.actionGet()).thenReturn(getResponse);
+        doAnswer(respondWith(getResponse)).when(client).get(any(GetRequest.class), any());
         when(getResponse.getSourceAsMap()).thenReturn(sourceAsMap);
         when(getResponse.getId()).thenReturn(TASK_ID);
 
         // Call the method
-        Tasks task = tasksRepository.getTaskById(TASK_ID);
+        Tasks task = await(listener -> tasksRepository.getTaskById(TASK_ID, listener));
 
         // Verify and assert
         assertNotNull(task);
@@ -144,16 +189,32 @@ public class TasksRepositoryTests extends LuceneTestCase {
         assertEquals(TAGS, task.getTags());
     }
 
+    @Test
+    public void givenStoredTask_whenGettingTask_shouldReturnItsVersion() {
+        doAnswer(respondWith(getResponse)).when(client).get(any(GetRequest.class), any());
+        when(getResponse.getSourceAsMap()).thenReturn(createTaskMap(TASK_ID, TITLE, DESCRIPTION, STATUS, ASSIGNEE, PLANNED_DATE, TAGS));
+        when(getResponse.getId()).thenReturn(TASK_ID);
+        when(getResponse.getSeqNo()).thenReturn(7L);
+        when(getResponse.getPrimaryTerm()).thenReturn(2L);
+
+        // Call the method
+        Tasks task = await(listener -> tasksRepository.getTaskById(TASK_ID, listener));
+
+        // Verify and assert
+        assertTrue(task.hasVersion());
+        assertEquals(Long.valueOf(7), task.getSeqNo());
+        assertEquals(Long.valueOf(2), task.getPrimaryTerm());
+    }
+
     @Test
     public void givenInvalidTaskId_whenGettingTask_shouldReturnNull() {
         String invalidTaskId = "non-existent-id";
 
-        when(client.get(any())).thenReturn(actionFuture);
-        when(actionFuture.actionGet()).thenReturn(getResponse);
+        doAnswer(respondWith(getResponse)).when(client).get(any(GetRequest.class), any());
         when(getResponse.getId()).thenReturn(null);
 
         // Call the method
-        Tasks task = tasksRepository.getTaskById(invalidTaskId);
+        Tasks task = await(listener -> tasksRepository.getTaskById(invalidTaskId, listener));
 
         // Verify and assert
         assertNull(task);
@@ -162,7 +223,7 @@ public class TasksRepositoryTests extends LuceneTestCase {
     @Test
     public void givenNullTaskId_whenGettingTask_shouldReturnNull() {
         // Call the method
-        Tasks task = tasksRepository.getTaskById(null);
+        Tasks task = await(listener -> tasksRepository.getTaskById(null, listener));
 
         // Verify and assert
         assertNull(task);
@@ -170,10 +231,10 @@ public class TasksRepositoryTests extends LuceneTestCase {
 
     @Test
     public void givenExceptionWhileGettingTask_whenGettingTask_shouldReturnNull() {
-        when(client.get(any())).thenThrow(new RuntimeException("Simulated exception"));
+        doThrow(new RuntimeException("Simulated exception")).when(client).get(any(GetRequest.class), any());
 
         // Call the method
-        Tasks task = tasksRepository.getTaskById(TASK_ID);
+        Tasks task = await(listener -> tasksRepository.getTaskById(TASK_ID, listener));
 
         // Verify and assert
         assertNull(task);
@@ -183,13 +244,12 @@ public class TasksRepositoryTests extends LuceneTestCase {
     public void givenTaskWithNullFields_whenGettingTask_shouldReturnTaskWithNullValues() {
         Map<String, Object> sourceAsMap = createTaskMap(TASK_ID, null, null, null, null, null, null);
 
-        when(client.get(any())).thenReturn(actionFuture);
-        when(actionFuture.actionGet()).thenReturn(getResponse);
+        doAnswer(respondWith(getResponse)).when(client).get(any(GetRequest.class), any());
         when(getResponse.getSourceAsMap()).thenReturn(sourceAsMap);
         when(getResponse.getId()).thenReturn(TASK_ID);
 
         // Call the method
-        Tasks task = tasksRepository.getTaskById(TASK_ID);
+        Tasks task = await(listener -> tasksRepository.getTaskById(TASK_ID, listener));
 
         // Verify and assert
         assertNotNull(task);
@@ -207,22 +267,37 @@ public class TasksRepositoryTests extends LuceneTestCase {
         Tasks task = createSampleTask();
 
         // Mock the index response
-        when(client.index(any(IndexRequest.class))).thenReturn(actionFutureIndex);
-        when(actionFutureIndex.actionGet()).thenReturn(indexResponse);
+        doAnswer(respondWith(indexResponse)).when(client).index(any(IndexRequest.class), any());
         when(indexResponse.status()).thenReturn(RestStatus.CREATED);
 
         // Call the method
-        IndexResponse response = tasksRepository.createTask(task);
+        IndexResponse response = await(listener -> tasksRepository.createTask(task, listener));
 
         // Verify and assert
         assertNotNull(response);
         assertEquals(RestStatus.CREATED, response.status());
     }
 
+    @Test
+    public void givenValidTask_whenCreatingTask_shouldRequireTheWriteAlias() {
+        Tasks task = createSampleTask();
+        doAnswer(respondWith(indexResponse)).when(client).index(any(IndexRequest.class), any());
+        when(indexResponse.status()).thenReturn(RestStatus.CREATED);
+
+        // Call the method
+        await(listener -> tasksRepository.createTask(task, listener));
+
+        // Verify that a missing alias fails the write instead of creating an index named after it
+        ArgumentCaptor<IndexRequest> captor = ArgumentCaptor.forClass(IndexRequest.class);
+        verify(client, times(1)).index(captor.capture(), any());
+        assertEquals(TaskIndices.WRITE_ALIAS, captor.getValue().index());
+        assertTrue(captor.getValue().isRequireAlias());
+    }
+
     @Test
     public void givenNullTask_whenCreatingTask_shouldReturnNull() {
         // Call the method with null task
-        IndexResponse response = tasksRepository.createTask(null);
+        IndexResponse response = await(listener -> tasksRepository.createTask(null, listener));
 
         // Verify and assert
         assertNull(response);
@@ -233,12 +308,11 @@ public class TasksRepositoryTests extends LuceneTestCase {
         Tasks task = new Tasks(); // All fields are null
 
         // Mock the index response
-        when(client.index(any(IndexRequest.class))).thenReturn(actionFutureIndex);
-        when(actionFutureIndex.actionGet()).thenReturn(indexResponse);
+        doAnswer(respondWith(indexResponse)).when(client).index(any(IndexRequest.class), any());
         when(indexResponse.status()).thenReturn(RestStatus.CREATED);
 
         // Call the method
-        IndexResponse response = tasksRepository.createTask(task);
+        IndexResponse response = await(listener -> tasksRepository.createTask(task, listener));
 
         // Verify and assert
         assertNotNull(response);
@@ -249,10 +323,10 @@ public class TasksRepositoryTests extends LuceneTestCase {
     public void givenExceptionWhileCreatingTask_whenCreatingTask_shouldReturnNull() {
         Tasks task = createSampleTask();
 
-        when(client.index(any(IndexRequest.class))).thenThrow(new RuntimeException("Simulated exception"));
+        doThrow(new RuntimeException("Simulated exception")).when(client).index(any(IndexRequest.class), any());
 
         // Call the method
-        IndexResponse response = tasksRepository.createTask(task);
+        IndexResponse response = await(listener -> tasksRepository.createTask(task, listener));
 
         // Verify and assert
         assertNull(response);
@@ -272,22 +346,64 @@ public class TasksRepositoryTests extends LuceneTestCase {
         task.setTags(Arrays.asList("tag3", "tag4"));
 
         // Mock the index response
-        when(client.index(any(IndexRequest.class))).thenReturn(actionFutureIndex);
-        when(actionFutureIndex.actionGet()).thenReturn(indexResponse);
-        when(indexResponse.status()).thenReturn(RestStatus.OK);
+        doAnswer(respondWith(updateResponse)).when(client).update(any(UpdateRequest.class), any());
+        when(updateResponse.status()).thenReturn(RestStatus.OK);
 
         // Call the method
-        IndexResponse response = tasksRepository.updateTask(task);
+        UpdateResponse response = await(listener -> tasksRepository.updateTask(task, listener));
 
         // Verify and assert
         assertNotNull(response);
         assertEquals(RestStatus.OK, response.status());
     }
 
+    @Test
+    public void givenTaskWithVersion_whenUpdatingTask_shouldWriteConditionally() {
+        Tasks task = createSampleTask();
+        task.setId(TASK_ID);
+        task.setSeqNo(7L);
+        task.setPrimaryTerm(2L);
+
+        doAnswer(respondWith(updateResponse)).when(client).update(any(UpdateRequest.class), any());
+        when(updateResponse.status()).thenReturn(RestStatus.OK);
+
+        // Call the method
+        UpdateResponse response = await(listener -> tasksRepository.updateTask(task, listener));
+
+        // Verify that the write is conditioned on the version of the task
+        assertEquals(RestStatus.OK, response.status());
+        ArgumentCaptor<UpdateRequest> captor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(1)).update(captor.capture(), any());
+        assertEquals(7L, captor.getValue().ifSeqNo());
+        assertEquals(2L, captor.getValue().ifPrimaryTerm());
+        assertFalse(captor.getValue().doc().sourceAsMap().containsKey("seqNo"));
+    }
+
+    @Test
+    public void givenVersionConflict_whenUpdatingTask_shouldFail() {
+        Tasks task = createSampleTask();
+        task.setId(TASK_ID);
+        task.setSeqNo(7L);
+        task.setPrimaryTerm(2L);
+
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new VersionConflictEngineException(new ShardId("tasks", "_na_", 0), TASK_ID, "version conflict"));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+
+        // Call the method
+        PlainActionFuture<UpdateResponse> future = PlainActionFuture.newFuture();
+        tasksRepository.updateTask(task, future);
+
+        // Verify that the conflict is reported instead of a null response
+        expectThrows(VersionConflictEngineException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+    }
+
     @Test
     public void givenNullTask_whenUpdatingTask_shouldReturnNull() {
         // Call the method with null task
-        IndexResponse response = tasksRepository.updateTask(null);
+        UpdateResponse response = await(listener -> tasksRepository.updateTask(null, listener));
 
         // Verify and assert
         assertNull(response);
@@ -299,12 +415,11 @@ public class TasksRepositoryTests extends LuceneTestCase {
         task.setId(TASK_ID);  // Only ID is set; other fields are null
 
         // Mock the index response
-        when(client.index(any(IndexRequest.class))).thenReturn(actionFutureIndex);
-        when(actionFutureIndex.actionGet()).thenReturn(indexResponse);
-        when(indexResponse.status()).thenReturn(RestStatus.OK);
+        doAnswer(respondWith(updateResponse)).when(client).update(any(UpdateRequest.class), any());
+        when(updateResponse.status()).thenReturn(RestStatus.OK);
 
         // Call the method
-        IndexResponse response = tasksRepository.updateTask(task);
+        UpdateResponse response = await(listener -> tasksRepository.updateTask(task, listener));
 
         // Verify and assert
         assertNotNull(response);
@@ -316,41 +431,63 @@ public class TasksRepositoryTests extends LuceneTestCase {
         Tasks task = createSampleTask();
         task.setId(TASK_ID);
 
-        when(client.index(any(IndexRequest.class))).thenThrow(new RuntimeException("Simulated exception"));
+        doThrow(new RuntimeException("Simulated exception")).when(client).update(any(UpdateRequest.class), any());
 
         // Call the method
-        IndexResponse response = tasksRepository.updateTask(task);
+        UpdateResponse response = await(listener -> tasksRepository.updateTask(task, listener));
 
         // Verify and assert
         assertNull(response);
     }
 
     @Test
-    public void givenTaskWithInvalidId_whenUpdatingTask_shouldReturnNotFoundStatus() {
+    public void givenTaskWithInvalidId_whenUpdatingTask_shouldReturnNull() {
         Tasks task = createSampleTask();
         task.setId("invalid-id");
 
-        when(client.index(any(IndexRequest.class))).thenReturn(actionFutureIndex);
-        when(actionFutureIndex.actionGet()).thenReturn(indexResponse);
-        when(indexResponse.status()).thenReturn(RestStatus.NOT_FOUND);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new DocumentMissingException(new ShardId("tasks", "_na_", 0), "invalid-id"));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
 
         // Call the method
-        IndexResponse response = tasksRepository.updateTask(task);
+        UpdateResponse response = await(listener -> tasksRepository.updateTask(task, listener));
 
-        // Verify and assert
-        assertNotNull(response);
-        assertEquals(RestStatus.NOT_FOUND, response.status());
+        // Verify that the missing task is reported without a second request
+        assertNull(response);
+        verify(client, never()).get(any(GetRequest.class), any());
+    }
+
+    @Test
+    public void givenPatch_whenPatchingTask_shouldSendPartialDocWithRetries() {
+        Tasks task = new Tasks();
+        task.setId(TASK_ID);
+        task.setTitle("Updated Task");
+
+        doAnswer(respondWith(updateResponse)).when(client).update(any(UpdateRequest.class), any());
+        when(updateResponse.status()).thenReturn(RestStatus.OK);
+
+        // Call the method
+        UpdateResponse response = await(listener -> tasksRepository.patchTask(task, 3, listener));
+
+        // Verify that only the changed fields are sent, in a single update
+        assertEquals(RestStatus.OK, response.status());
+        ArgumentCaptor<UpdateRequest> captor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(1)).update(captor.capture(), any());
+        assertEquals(Map.of("title", "Updated Task"), captor.getValue().doc().sourceAsMap());
+        assertEquals(3, captor.getValue().retryOnConflict());
+        verify(client, never()).get(any(GetRequest.class), any());
     }
 
     @Test
     public void givenValidTaskId_whenDeletingTask_shouldReturnOkStatus() {
         // Mock the delete response
-        when(client.delete(any(DeleteRequest.class))).thenReturn(deleteActionFuture);
-        when(deleteActionFuture.actionGet()).thenReturn(deleteResponse);
+        doAnswer(respondWith(deleteResponse)).when(client).delete(any(DeleteRequest.class), any());
         when(deleteResponse.status()).thenReturn(RestStatus.OK);
 
         // Call the method
-        RestStatus status = tasksRepository.deleteTask(TASK_ID);
+        RestStatus status = await(listener -> tasksRepository.deleteTask(TASK_ID, listener));
 
         // Verify and assert
         assertNotNull(status);
@@ -360,12 +497,11 @@ public class TasksRepositoryTests extends LuceneTestCase {
     @Test
     public void givenInvalidTaskId_whenDeletingTask_shouldReturnNotFoundStatus() {
         // Mock the delete response
-        when(client.delete(any(DeleteRequest.class))).thenReturn(deleteActionFuture);
-        when(deleteActionFuture.actionGet()).thenReturn(deleteResponse);
-        when(deleteResponse.status()).thenReturn(RestStatus.NOT_FOUND);
+        doAnswer(respondWith(deleteResponse)).when(client).delete(any(DeleteRequest.class), any());
+        when(deleteResponse.getResult()).thenReturn(DocWriteResponse.Result.NOT_FOUND);
 
         // Call the method
-        RestStatus status = tasksRepository.deleteTask("invalid-id");
+        RestStatus status = await(listener -> tasksRepository.deleteTask("invalid-id", listener));
 
         // Verify and assert
         assertNotNull(status);
@@ -375,7 +511,7 @@ public class TasksRepositoryTests extends LuceneTestCase {
     @Test
     public void givenNullTaskId_whenDeletingTask_shouldReturnBadRequest() {
         // Call the method with null ID
-        RestStatus status = tasksRepository.deleteTask(null);
+        RestStatus status = await(listener -> tasksRepository.deleteTask(null, listener));
 
         // Verify and assert
         assertNotNull(status);
@@ -384,10 +520,10 @@ public class TasksRepositoryTests extends LuceneTestCase {
 
     @Test
     public void givenValidTaskId_whenExceptionOccursWhileDeletingTask_shouldReturnBadRequest() {
-        when(client.delete(any(DeleteRequest.class))).thenThrow(new RuntimeException("Simulated exception"));
+        doThrow(new RuntimeException("Simulated exception")).when(client).delete(any(DeleteRequest.class), any());
 
         // Call the method
-        RestStatus status = tasksRepository.deleteTask(TASK_ID);
+        RestStatus status = await(listener -> tasksRepository.deleteTask(TASK_ID, listener));
 
         // Verify and assert
         assertNotNull(status);
@@ -419,16 +555,16 @@ public class TasksRepositoryTests extends LuceneTestCase {
         SearchHits searchHits = new SearchHits(new SearchHit[]{searchHit}, totalHits, 1.0f);
 
         // Mock the client search response
-        when(client.search(any(SearchRequest.class))).thenReturn(searchResponseActionFuture);
-        when(searchResponseActionFuture.actionGet()).thenReturn(searchResponse);
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
         when(searchResponse.getHits()).thenReturn(searchHits);
 
         // Execute the search
-        List<Tasks> result = tasksRepository.searchTasks(body);
+        TasksPage result = await(listener -> tasksRepository.searchTasks(body, 10, null, listener));
 
         // Verify the interactions and assertions
-        verify(client, times(1)).search(any(SearchRequest.class));
-        assertEquals(1, result.size());
+        verify(client, times(1)).search(any(SearchRequest.class), any());
+        assertEquals(1, result.getTasks().size());
+        assertNull(result.getCursor());
     }
 
     @Test
@@ -444,16 +580,15 @@ public class TasksRepositoryTests extends LuceneTestCase {
 
 
         // Mock the client search response
-        when(client.search(any(SearchRequest.class))).thenReturn(searchResponseActionFuture);
-        when(searchResponseActionFuture.actionGet()).thenReturn(searchResponse);
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
         when(searchResponse.getHits()).thenReturn(searchHits);
 
         // Execute the search
-        List<Tasks> result = tasksRepository.searchTasks(body);
+        TasksPage result = await(listener -> tasksRepository.searchTasks(body, 10, null, listener));
 
         // Verify the interactions and assertions
-        verify(client, times(1)).search(any(SearchRequest.class));
-        assertEquals(0, result.size());
+        verify(client, times(1)).search(any(SearchRequest.class), any());
+        assertEquals(0, result.getTasks().size());
     }
 
     @Test
@@ -469,17 +604,460 @@ public class TasksRepositoryTests extends LuceneTestCase {
         SearchHits searchHits = new SearchHits(emptyHitsArray, new TotalHits(0, TotalHits.Relation.EQUAL_TO), 1.0f);
 
         // Mock the client search response
-        when(client.search(any(SearchRequest.class))).thenReturn(searchResponseActionFuture);
-        when(searchResponseActionFuture.actionGet()).thenReturn(searchResponse);
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
         when(searchResponse.getHits()).thenReturn(searchHits);
 
         // Execute the search
-        List<Tasks> result = tasksRepository.searchTasks(body);
+        TasksPage result = await(listener -> tasksRepository.searchTasks(body, 10, null, listener));
 
         // Verify the interactions and assertions
-        verify(client, times(1)).search(any(SearchRequest.class));
-        assertEquals(0, result.size());
+        verify(client, times(1)).search(any(SearchRequest.class), any());
+        assertEquals(0, result.getTasks().size());
     }
 
+    @Test
+    void givenFullPage_whenSearchingWithCursor_shouldReturnNextCursor() throws Exception {
+        // Prepare a full page of one hit read from a point in time
+        SearchHit searchHit = new SearchHit(1, TASK_ID, Collections.emptyMap(), Collections.emptyMap());
+        searchHit.sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().startObject().field("title", TITLE).endObject()));
+        searchHit.sortValues(new Object[]{1704067200000L, 4294967296L}, new DocValueFormat[]{DocValueFormat.RAW, DocValueFormat.RAW});
+        SearchHits searchHits = new SearchHits(new SearchHit[]{searchHit}, new TotalHits(2, TotalHits.Relation.EQUAL_TO), 1.0f);
+
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
+        when(searchResponse.getHits()).thenReturn(searchHits);
+        when(searchResponse.pointInTimeId()).thenReturn("pit-id");
+
+        // Execute the search
+        TasksPage result = await(listener -> tasksRepository.searchTasks(new HashMap<>(), 1, new SearchCursor("pit-id", null), listener));
+
+        // Verify the page and the cursor to the next one
+        assertEquals(1, result.getTasks().size());
+        assertEquals(2, result.getTotal());
+        SearchCursor next = SearchCursor.decode(result.getCursor());
+        assertEquals("pit-id", next.getPitId());
+        assertEquals(2, next.getSearchAfter().length);
+        verify(client, never()).deletePits(any(), any());
+    }
+
+    @Test
+    void givenLastPage_whenSearchingWithCursor_shouldClosePointInTime() {
+        SearchHits searchHits = new SearchHits(new SearchHit[0], new TotalHits(2, TotalHits.Relation.EQUAL_TO), 1.0f);
+
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
+        when(searchResponse.getHits()).thenReturn(searchHits);
+        when(searchResponse.pointInTimeId()).thenReturn("pit-id");
 
-}
\ No newline at end of file
+        // Execute the search
+        TasksPage result = await(listener -> tasksRepository.searchTasks(new HashMap<>(), 1, new SearchCursor("pit-id", new Object[]{1L}), listener));
+
+        // Verify that no cursor is returned and the point in time is released
+        assertEquals(0, result.getTasks().size());
+        assertNull(result.getCursor());
+        verify(client, times(1)).deletePits(any(), any());
+    }
+
+    @Test
+    void givenTimeoutAndParentTask_whenSearchingTasks_shouldBoundTheShardSearches() {
+        SearchHits searchHits = new SearchHits(new SearchHit[0], new TotalHits(0, TotalHits.Relation.EQUAL_TO), 1.0f);
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
+        when(searchResponse.getHits()).thenReturn(searchHits);
+        when(searchResponse.isTimedOut()).thenReturn(true);
+        TaskId parentTask = new TaskId("node", 7);
+
+        // Execute the search
+        TasksPage result = await(listener -> tasksRepository.searchTasks(new HashMap<>(), 10, null,
+                null, TimeValue.timeValueSeconds(2), parentTask, listener));
+
+        // Verify that the timeout and the parent task are set on the search request
+        assertTrue(result.isTimedOut());
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(1)).search(captor.capture(), any());
+        assertEquals(TimeValue.timeValueSeconds(2), captor.getValue().source().timeout());
+        assertEquals(parentTask, captor.getValue().getParentTask());
+    }
+
+    @Test
+    void givenSourceFilter_whenSearchingTasks_shouldFetchOnlyThoseFields() {
+        SearchHit searchHit = new SearchHit(1, TASK_ID, Collections.emptyMap(), Collections.emptyMap());
+        SearchHits searchHits = new SearchHits(new SearchHit[]{searchHit}, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f);
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
+        when(searchResponse.getHits()).thenReturn(searchHits);
+        FetchSourceContext fetchSource = new FetchSourceContext(true, new String[]{"title", "status"}, new String[0]);
+
+        // Execute the search
+        TasksPage result = await(listener -> tasksRepository.searchTasks(new HashMap<>(), 10, null, fetchSource, null, null, listener));
+
+        // Verify that the filter is sent and a hit without source still yields its task
+        assertEquals(TASK_ID, result.getTasks().get(0).getId());
+        assertNull(result.getTasks().get(0).getTitle());
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(1)).search(captor.capture(), any());
+        assertArrayEquals(new String[]{"title", "status"}, captor.getValue().source().fetchSource().includes());
+    }
+
+    @Test
+    void givenCancelledSearch_whenSearchingTasks_shouldFail() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new TaskCancelledException("The parent task was cancelled"));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        PlainActionFuture<TasksPage> future = PlainActionFuture.newFuture();
+        tasksRepository.searchTasks(new HashMap<>(), 10, null, null, null, new TaskId("node", 7), future);
+
+        expectThrows(TaskCancelledException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givenSearchThrowingWithCursor_whenSearchingTasks_shouldFail() {
+        doThrow(new IllegalStateException("No search context found")).when(client).search(any(SearchRequest.class), any());
+
+        PlainActionFuture<TasksPage> future = PlainActionFuture.newFuture();
+        tasksRepository.searchTasks(new HashMap<>(), 10, new SearchCursor("pit-id", new Object[]{1L}), future);
+
+        // An unusable cursor must not look like the end of the results
+        expectThrows(IllegalStateException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givenContainsNotAnObject_whenSearchingTasks_shouldFailWithoutSearching() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("contains", "title");
+
+        PlainActionFuture<TasksPage> future = PlainActionFuture.newFuture();
+        tasksRepository.searchTasks(body, 10, null, future);
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+        assertEquals("[contains] must be an object", e.getMessage());
+        verify(client, never()).search(any(SearchRequest.class), any());
+    }
+
+    @Test
+    void givenTagsNotAnArray_whenSearchingTasks_shouldFailWithoutSearching() {
+        Map<String, Object> contains = new HashMap<>();
+        contains.put("tags", "exampleTag1");
+        Map<String, Object> body = new HashMap<>();
+        body.put("contains", contains);
+
+        PlainActionFuture<TasksPage> future = PlainActionFuture.newFuture();
+        tasksRepository.searchTasks(body, 10, null, future);
+
+        expectThrows(IllegalArgumentException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+        verify(client, never()).search(any(SearchRequest.class), any());
+    }
+
+    @Test
+    void givenFilters_whenAggregatingTasks_shouldCountWithoutFetchingDocuments() {
+        // Prepare a response with one status bucket and one creation date bucket
+        Terms.Bucket statusBucket = mock(Terms.Bucket.class);
+        when(statusBucket.getKeyAsString()).thenReturn("PLANNED");
+        when(statusBucket.getDocCount()).thenReturn(3L);
+        Terms statusTerms = mock(Terms.class);
+        when(statusTerms.getName()).thenReturn("status");
+        doReturn(List.of(statusBucket)).when(statusTerms).getBuckets();
+        Histogram.Bucket dateBucket = mock(Histogram.Bucket.class);
+        when(dateBucket.getKeyAsString()).thenReturn("2024-01-01");
+        when(dateBucket.getDocCount()).thenReturn(2L);
+        Histogram creationDates = mock(Histogram.class);
+        when(creationDates.getName()).thenReturn("creationDate");
+        doReturn(List.of(dateBucket)).when(creationDates).getBuckets();
+        Aggregations aggregations = new Aggregations(List.of(statusTerms, creationDates));
+        when(searchResponse.getHits()).thenReturn(new SearchHits(new SearchHit[0], new TotalHits(3, TotalHits.Relation.EQUAL_TO), 0.0f));
+        when(searchResponse.getAggregations()).thenReturn(aggregations);
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
+
+        // Execute the aggregation
+        Map<String, Object> equals = new HashMap<>();
+        equals.put("assignee", ASSIGNEE);
+        Map<String, Object> body = new HashMap<>();
+        body.put("equals", equals);
+        TaskAggregations result = await(listener -> tasksRepository.aggregateTasks(body, DateHistogramInterval.MONTH, listener));
+
+        // Verify the counts and that no document was requested
+        assertEquals(3, result.getTotal());
+        assertEquals(Long.valueOf(3), result.getTerms().get("status").get("PLANNED"));
+        assertTrue(result.getTerms().get("tags").isEmpty());
+        assertEquals(Long.valueOf(2), result.getHistograms().get("creationDate").get("2024-01-01"));
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(1)).search(captor.capture(), any());
+        assertEquals(0, captor.getValue().source().size());
+        assertEquals(7, captor.getValue().source().aggregations().count());
+        assertTrue(captor.getValue().source().query().toString().contains(ASSIGNEE));
+    }
+
+    @Test
+    void givenSearchFailure_whenAggregatingTasks_shouldFail() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("Search failed"));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        PlainActionFuture<TaskAggregations> future = PlainActionFuture.newFuture();
+        tasksRepository.aggregateTasks(new HashMap<>(), DateHistogramInterval.MONTH, future);
+
+        expectThrows(RuntimeException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+    }
+
+    // Helper method to build a hit with the given ID and sort values
+    private static SearchHit createSortedHit(String id, long creationDate) throws Exception {
+        SearchHit searchHit = new SearchHit(1, id, Collections.emptyMap(), Collections.emptyMap());
+        searchHit.sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().startObject().field("title", TITLE).endObject()));
+        searchHit.sortValues(new Object[]{creationDate, id}, new DocValueFormat[]{DocValueFormat.RAW, DocValueFormat.RAW});
+        return searchHit;
+    }
+
+    @Test
+    void givenSeveralPages_whenExportingTasks_shouldExportEveryPageAndClosePointInTime() throws Exception {
+        // Prepare a full first page and a partial last page read from a point in time
+        CreatePitResponse pitResponse = mock(CreatePitResponse.class);
+        when(pitResponse.getId()).thenReturn("pit-id");
+        doAnswer(respondWith(pitResponse)).when(client).createPit(any(), any());
+        SearchResponse lastResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(new SearchHit[]{createSortedHit("1", 1L), createSortedHit("2", 2L)},
+                new TotalHits(3, TotalHits.Relation.EQUAL_TO), 1.0f));
+        when(lastResponse.getHits()).thenReturn(new SearchHits(new SearchHit[]{createSortedHit("3", 3L)},
+                new TotalHits(3, TotalHits.Relation.EQUAL_TO), 1.0f));
+        doAnswer(respondWith(searchResponse)).doAnswer(respondWith(lastResponse)).when(client).search(any(SearchRequest.class), any());
+
+        // Execute the export
+        List<String> exported = new ArrayList<>();
+        String cursor = await(listener -> tasksRepository.exportTasks(new HashMap<>(), 2, null, task -> exported.add(task.getId()),
+                listener));
+
+        // Verify that both batches were exported in order, without a next page, and the point in time is released
+        assertNull(cursor);
+        assertEquals(Arrays.asList("1", "2", "3"), exported);
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(captor.capture(), any());
+        assertEquals("pit-id", captor.getAllValues().get(0).source().pointInTimeBuilder().getId());
+        assertNull(captor.getAllValues().get(0).source().searchAfter());
+        assertEquals(2, captor.getAllValues().get(1).source().searchAfter().length);
+        verify(client, times(1)).deletePits(any(), any());
+    }
+
+    @Test
+    void givenFailingConsumer_whenExportingTasks_shouldFailAndClosePointInTime() throws Exception {
+        CreatePitResponse pitResponse = mock(CreatePitResponse.class);
+        when(pitResponse.getId()).thenReturn("pit-id");
+        doAnswer(respondWith(pitResponse)).when(client).createPit(any(), any());
+        when(searchResponse.getHits()).thenReturn(new SearchHits(new SearchHit[]{createSortedHit("1", 1L)},
+                new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f));
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
+
+        // Execute the export with a consumer that cannot write
+        PlainActionFuture<String> future = PlainActionFuture.newFuture();
+        tasksRepository.exportTasks(new HashMap<>(), 2, null, task -> {
+            throw new IOException("Connection closed");
+        }, future);
+
+        // Verify that the failure is reported and the point in time is released
+        expectThrows(Exception.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+        verify(client, times(1)).deletePits(any(), any());
+    }
+
+    @Test
+    void givenFullPage_whenExportingTasks_shouldReturnCursorAfterLastAcceptedTask() throws Exception {
+        CreatePitResponse pitResponse = mock(CreatePitResponse.class);
+        when(pitResponse.getId()).thenReturn("pit-id");
+        doAnswer(respondWith(pitResponse)).when(client).createPit(any(), any());
+        when(searchResponse.getHits()).thenReturn(new SearchHits(new SearchHit[]{createSortedHit("1", 1L), createSortedHit("2", 2L)},
+                new TotalHits(3, TotalHits.Relation.EQUAL_TO), 1.0f));
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
+
+        // Execute the export with a consumer that only has room for one task
+        List<String> exported = new ArrayList<>();
+        String cursor = await(listener -> tasksRepository.exportTasks(new HashMap<>(), 2, null,
+                task -> exported.isEmpty() && exported.add(task.getId()), listener));
+
+        // Verify that the next page continues after the accepted task, from the same point in time
+        assertEquals(List.of("1"), exported);
+        SearchCursor next = SearchCursor.decode(cursor);
+        assertEquals("pit-id", next.getPitId());
+        assertArrayEquals(new Object[]{1L, "1"}, next.getSearchAfter());
+        verify(client, never()).deletePits(any(), any());
+    }
+
+    @Test
+    void givenCursor_whenExportingTasks_shouldContinueFromItsPointInTime() throws Exception {
+        when(searchResponse.getHits()).thenReturn(new SearchHits(new SearchHit[]{createSortedHit("2", 2L)},
+                new TotalHits(2, TotalHits.Relation.EQUAL_TO), 1.0f));
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
+
+        // Execute the export from the cursor of a previous page
+        SearchCursor cursor = new SearchCursor("pit-id", new Object[]{1L, "1"});
+        String next = await(listener -> tasksRepository.exportTasks(new HashMap<>(), 2, cursor, task -> true, listener));
+
+        // Verify that no point in time is opened and the last page releases it
+        assertNull(next);
+        verify(client, never()).createPit(any(), any());
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(1)).search(captor.capture(), any());
+        assertEquals("pit-id", captor.getValue().source().pointInTimeBuilder().getId());
+        assertArrayEquals(new Object[]{1L, "1"}, captor.getValue().source().searchAfter());
+        verify(client, times(1)).deletePits(any(), any());
+    }
+
+    // Helper method to capture the query sent by a search with the given criteria
+    private String searchAndCaptureQuery(Map<String, Object> body) {
+        SearchHits searchHits = new SearchHits(new SearchHit[0], new TotalHits(0, TotalHits.Relation.EQUAL_TO), 1.0f);
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
+        when(searchResponse.getHits()).thenReturn(searchHits);
+
+        TasksPage result = await(listener -> tasksRepository.searchTasks(body, 10, null, listener));
+        assertEquals(0, result.getTasks().size());
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(1)).search(captor.capture(), any());
+        return captor.getValue().source().query().toString();
+    }
+
+    @Test
+    void givenContainsFilters_whenSearchingTasks_shouldFilterWithNgramAndWildcardQueries() {
+        Map<String, Object> contains = new HashMap<>();
+        contains.put("title", "Sample");
+        contains.put("description", "is");
+        contains.put("assignee", "user");
+        Map<String, Object> body = new HashMap<>();
+        body.put("contains", contains);
+
+        String query = searchAndCaptureQuery(body);
+
+        assertTrue(query.contains("\"match_phrase\""));
+        assertTrue(query.contains("\"title.ngram\""));
+        assertTrue(query.contains("\"wildcard\""));
+        assertTrue(query.contains("\"description.ngram\""));
+        assertTrue(query.contains("\"description.keyword\""));
+        assertTrue(query.contains("*is*"));
+        assertTrue(query.contains("\"assignee\""));
+        assertTrue(query.contains("*user*"));
+    }
+
+    @Test
+    void givenEqualsFilters_whenSearchingTasks_shouldFilterWithTermQueries() {
+        Map<String, Object> equals = new HashMap<>();
+        equals.put("status", "PLANNED");
+        equals.put("title", TITLE);
+        Map<String, Object> body = new HashMap<>();
+        body.put("equals", equals);
+
+        String query = searchAndCaptureQuery(body);
+
+        assertTrue(query.contains("\"term\""));
+        assertTrue(query.contains("\"status\""));
+        assertTrue(query.contains("\"title.keyword\""));
+        assertFalse(query.contains("\"must\""));
+    }
+
+    @Test
+    void givenContainsTags_whenSearchingTasks_shouldRequireAllTags() {
+        Map<String, Object> contains = new HashMap<>();
+        contains.put("tags", TAGS);
+        Map<String, Object> body = new HashMap<>();
+        body.put("contains", contains);
+
+        String query = searchAndCaptureQuery(body);
+
+        assertTrue(query.contains("\"terms_set\""));
+        assertTrue(query.contains("params.num_terms"));
+    }
+
+    @Test
+    void givenWildcardCharacters_whenEscaping_shouldMatchThemLiterally() {
+        assertEquals("a\\*b\\?c\\\\", TasksRepository.escapeWildcard("a*b?c\\"));
+    }
+
+    @Test
+    void givenTaskIds_whenResolvingTheirIndex_shouldLocateBackingAndLegacyTasks() {
+        assertEquals("000002.abc", TaskIndices.taskId("tasks-000002", "abc"));
+        assertEquals("tasks-000002", TaskIndices.indexOf("000002.abc"));
+        assertEquals("abc", TaskIndices.docIdOf("000002.abc"));
+        assertEquals("abc", TaskIndices.taskId("tasks", "abc"));
+        assertEquals(TASK_ID, TaskIndices.taskId(null, TASK_ID));
+        assertEquals("tasks", TaskIndices.indexOf("abc"));
+        assertEquals("abc", TaskIndices.docIdOf("abc"));
+        assertNull(TaskIndices.indexOf("a1.b"));
+        assertNull(TaskIndices.docIdOf("a1.b"));
+        assertNull(TaskIndices.indexOf("7.x"));
+        assertNull(TaskIndices.indexOf("0000002.abc"));
+        assertNull(TaskIndices.indexOf("000002."));
+    }
+
+    @Test
+    void givenTaskIdWithUnknownPrefix_whenWritingTask_shouldAnswerNotFoundWithoutSendingIt() {
+        Tasks task = createSampleTask();
+        task.setId("7.x");
+
+        // Call the methods
+        UpdateResponse update = await(listener -> tasksRepository.updateTask(task, listener));
+        UpdateResponse patch = await(listener -> tasksRepository.patchTask(task, 3, listener));
+        RestStatus delete = await(listener -> tasksRepository.deleteTask("7.x", listener));
+        Tasks read = await(listener -> tasksRepository.getTaskById("7.x", listener));
+
+        // Verify that no request names an index of the client's choosing
+        assertNull(update);
+        assertNull(patch);
+        assertEquals(RestStatus.NOT_FOUND, delete);
+        assertNull(read);
+        verify(client, never()).update(any(UpdateRequest.class), any());
+        verify(client, never()).delete(any(DeleteRequest.class), any());
+        verify(client, never()).get(any(GetRequest.class), any());
+    }
+
+    @Test
+    void givenMissingBackingIndex_whenUpdatingTask_shouldNotCreateIt() {
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(ClusterState.builder(ClusterName.DEFAULT).build());
+        TasksRepository repository = new TasksRepository(client, clusterService);
+        Tasks task = createSampleTask();
+        task.setId("000002.abc");
+
+        // Call the method
+        UpdateResponse result = await(listener -> repository.updateTask(task, listener));
+
+        // Verify that the update is answered as not found instead of creating the index
+        assertNull(result);
+        assertFalse(repository.canLocate("000002.abc"));
+        verify(client, never()).update(any(UpdateRequest.class), any());
+    }
+
+    @Test
+    void givenBackingIndexTaskId_whenUpdatingTask_shouldWriteToThatIndex() {
+        Tasks task = createSampleTask();
+        task.setId("000002.abc");
+        doAnswer(respondWith(updateResponse)).when(client).update(any(UpdateRequest.class), any());
+        when(updateResponse.status()).thenReturn(RestStatus.OK);
+
+        // Call the method
+        await(listener -> tasksRepository.updateTask(task, listener));
+
+        // Verify that the update goes to the backing index named by the ID
+        ArgumentCaptor<UpdateRequest> captor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(1)).update(captor.capture(), any());
+        assertEquals("tasks-000002", captor.getValue().index());
+        assertEquals("abc", captor.getValue().id());
+    }
+
+    @Test
+    void givenCreationDateRange_whenSearchingTasks_shouldSkipShardsOutsideTheRange() {
+        SearchHit searchHit = new SearchHit(1, "abc", Collections.emptyMap(), Collections.emptyMap());
+        searchHit.shard(new SearchShardTarget("node", new ShardId("tasks-000003", "_na_", 0), null, null));
+        SearchHits searchHits = new SearchHits(new SearchHit[]{searchHit}, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f);
+        doAnswer(respondWith(searchResponse)).when(client).search(any(SearchRequest.class), any());
+        when(searchResponse.getHits()).thenReturn(searchHits);
+        Map<String, Object> body = new HashMap<>();
+        body.put(CREATION_DATE_FROM, "2024-06-01");
+        body.put(CREATION_DATE_TO, "2024-06-30");
+
+        // Execute the search
+        TasksPage result = await(listener -> tasksRepository.searchTasks(body, 10, null, listener));
+
+        // Verify that the search reads every tasks index, pre-filtered by the date range
+        assertEquals("000003.abc", result.getTasks().get(0).getId());
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(1)).search(captor.capture(), any());
+        assertArrayEquals(new String[]{"tasks-read"}, captor.getValue().indices());
+        assertEquals(Integer.valueOf(1), captor.getValue().getPreFilterShardSize());
+    }
+}
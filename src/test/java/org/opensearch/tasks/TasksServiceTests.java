@@ -12,9 +12,30 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.tasks.cache.TasksCache;
+import org.opensearch.tasks.cache.TasksSearchCache;
+import org.opensearch.tasks.model.BulkTaskItem;
+import org.opensearch.tasks.model.BulkTaskResult;
+import org.opensearch.tasks.model.SearchCursor;
+import org.opensearch.tasks.model.TaskAggregations;
 import org.opensearch.tasks.model.Tasks;
+import org.opensearch.tasks.model.TasksPage;
 import org.opensearch.tasks.repository.TasksRepository;
 import org.opensearch.tasks.service.TasksService;
 
@@ -23,9 +44,18 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -38,6 +68,8 @@ public class TasksServiceTests extends LuceneTestCase {
 
     @Mock
     private IndexResponse indexResponse;
+    @Mock
+    private UpdateResponse updateResponse;
 
     private TasksService tasksService;
 
@@ -45,10 +77,36 @@ public class TasksServiceTests extends LuceneTestCase {
     public void setUp() {
         // Initialize mocks
         MockitoAnnotations.openMocks(this);
+        // Unstubbed repository calls complete with null, like the default answer of a synchronous mock
+        doAnswer(respondWith(null)).when(tasksRepository).createTask(any(), any());
+        doAnswer(respondWith(null)).when(tasksRepository).getTaskById(any(), any());
+        doAnswer(respondWith(null)).when(tasksRepository).updateTask(any(), any());
+        doAnswer(respondWith(null)).when(tasksRepository).patchTask(any(), anyInt(), any());
+        doAnswer(respondWith(null)).when(tasksRepository).deleteTask(any(), any());
+        doAnswer(respondWith(null)).when(tasksRepository).searchTasks(any(), anyInt(), any(), any(), any(), any(), any());
+        doAnswer(respondWith(null)).when(tasksRepository).bulkTasks(any(), any());
+        doAnswer(respondWith(null)).when(tasksRepository).invalidateCachedTasks(any(), any());
+        when(tasksRepository.canLocate(any())).thenReturn(true);
         // Initialize the service
         tasksService = new TasksService(tasksRepository);
     }
 
+    // Helper method to answer a repository call by completing its listener with the given response
+    private static <T> Answer<Void> respondWith(T response) {
+        return invocation -> {
+            ActionListener<T> listener = invocation.getArgument(invocation.getArguments().length - 1);
+            listener.onResponse(response);
+            return null;
+        };
+    }
+
+    // Helper method to wait for the result of a listener based service call
+    private static <T> T await(Consumer<ActionListener<T>> call) {
+        PlainActionFuture<T> future = PlainActionFuture.newFuture();
+        call.accept(future);
+        return future.actionGet(10, TimeUnit.SECONDS);
+    }
+
     @Test
     void givenValidTask_whenCreatingTask_shouldReturnCreatedTask() {
         // Arrange
@@ -57,17 +115,17 @@ public class TasksServiceTests extends LuceneTestCase {
         task.setCreationDate("2024-01-01");
         task.setCompletionDate("2024-12-31");
 
-        when(tasksRepository.createTask(any(Tasks.class))).thenReturn(indexResponse);
+        doAnswer(respondWith(indexResponse)).when(tasksRepository).createTask(any(Tasks.class), any());
         when(indexResponse.status()).thenReturn(RestStatus.CREATED);
         when(indexResponse.getId()).thenReturn("1");
 
         // Act
-        Tasks createdTask = tasksService.createTask(task);
+        Tasks createdTask = await(listener -> tasksService.createTask(task, listener));
 
         // Assert
         assertNotNull(createdTask);
         assertEquals("1", createdTask.getId());
-        verify(tasksRepository, times(1)).createTask(task);
+        verify(tasksRepository, times(1)).createTask(eq(task), any());
     }
 
     @Test
@@ -77,11 +135,11 @@ public class TasksServiceTests extends LuceneTestCase {
         task.setStatus("invalid-status");
 
         // Act
-        Tasks createdTask = tasksService.createTask(task);
+        Tasks createdTask = await(listener -> tasksService.createTask(task, listener));
 
         // Assert
         assertNull(createdTask);
-        verify(tasksRepository, never()).createTask(any(Tasks.class));
+        verify(tasksRepository, never()).createTask(any(Tasks.class), any());
     }
 
     @Test
@@ -93,7 +151,7 @@ public class TasksServiceTests extends LuceneTestCase {
         task.setCompletionDate("2023-12-31"); // Invalid because completion date is before creation date
 
         // Act
-        Tasks createdTask = tasksService.createTask(task);
+        Tasks createdTask = await(listener -> tasksService.createTask(task, listener));
 
         // Assert
         assertNull(createdTask);
@@ -108,11 +166,11 @@ public class TasksServiceTests extends LuceneTestCase {
         task.setCompletionDate("invalid-date"); // Invalid date format
 
         // Act
-        Tasks createdTask = tasksService.createTask(task);
+        Tasks createdTask = await(listener -> tasksService.createTask(task, listener));
 
         // Assert
         assertNull(createdTask);
-        verify(tasksRepository, never()).createTask(any(Tasks.class));
+        verify(tasksRepository, never()).createTask(any(Tasks.class), any());
     }
 
     @Test
@@ -123,14 +181,14 @@ public class TasksServiceTests extends LuceneTestCase {
         task.setCreationDate("2024-01-01");
         task.setCompletionDate("2024-12-31");
 
-        when(tasksRepository.createTask(any(Tasks.class))).thenReturn(null); // Simulating null result from repository
+        doAnswer(respondWith(null)).when(tasksRepository).createTask(any(Tasks.class), any()); // Simulating null result from repository
 
         // Act
-        Tasks createdTask = tasksService.createTask(task);
+        Tasks createdTask = await(listener -> tasksService.createTask(task, listener));
 
         // Assert
         assertNull(createdTask);
-        verify(tasksRepository, times(1)).createTask(task);
+        verify(tasksRepository, times(1)).createTask(eq(task), any());
     }
 
     @Test
@@ -142,17 +200,17 @@ public class TasksServiceTests extends LuceneTestCase {
         task.setCompletionDate(null);
         task.setPlannedDate(null);
 
-        when(tasksRepository.createTask(any(Tasks.class))).thenReturn(indexResponse);
+        doAnswer(respondWith(indexResponse)).when(tasksRepository).createTask(any(Tasks.class), any());
         when(indexResponse.status()).thenReturn(RestStatus.CREATED);
         when(indexResponse.getId()).thenReturn("1");
 
         // Act
-        Tasks createdTask = tasksService.createTask(task);
+        Tasks createdTask = await(listener -> tasksService.createTask(task, listener));
 
         // Assert
         assertNotNull(createdTask);
         assertEquals("1", createdTask.getId());
-        verify(tasksRepository, times(1)).createTask(task);
+        verify(tasksRepository, times(1)).createTask(eq(task), any());
     }
 
     @Test
@@ -162,25 +220,25 @@ public class TasksServiceTests extends LuceneTestCase {
         Tasks expectedTask = new Tasks();
         expectedTask.setId(taskId);
 
-        when(tasksRepository.getTaskById(taskId)).thenReturn(expectedTask);
+        doAnswer(respondWith(expectedTask)).when(tasksRepository).getTaskById(eq(taskId), any());
 
         // Act
-        Tasks actualTask = tasksService.getTaskById(taskId);
+        Tasks actualTask = await(listener -> tasksService.getTaskById(taskId, listener));
 
         // Assert
         assertNotNull(actualTask);
         assertEquals(expectedTask, actualTask);
-        verify(tasksRepository, times(1)).getTaskById(taskId);
+        verify(tasksRepository, times(1)).getTaskById(eq(taskId), any());
     }
 
     @Test
     void givenNullId_whenGettingTaskById_shouldReturnNull() {
         // Act
-        Tasks actualTask = tasksService.getTaskById(null);
+        Tasks actualTask = await(listener -> tasksService.getTaskById(null, listener));
 
         // Assert
         assertNull(actualTask);
-        verify(tasksRepository, never()).getTaskById(anyString());
+        verify(tasksRepository, never()).getTaskById(anyString(), any());
     }
 
     @Test
@@ -188,44 +246,41 @@ public class TasksServiceTests extends LuceneTestCase {
         // Arrange
         String invalidTaskId = "non-existent-id";
 
-        when(tasksRepository.getTaskById(invalidTaskId)).thenReturn(null);
+        doAnswer(respondWith(null)).when(tasksRepository).getTaskById(eq(invalidTaskId), any());
 
         // Act
-        Tasks actualTask = tasksService.getTaskById(invalidTaskId);
+        Tasks actualTask = await(listener -> tasksService.getTaskById(invalidTaskId, listener));
 
         // Assert
         assertNull(actualTask);
-        verify(tasksRepository, times(1)).getTaskById(invalidTaskId);
+        verify(tasksRepository, times(1)).getTaskById(eq(invalidTaskId), any());
     }
 
     @Test
     void givenValidId_whenDeletingTask_shouldReturnOkStatus() {
         // Arrange
         String taskId = "1";
-        Tasks task = new Tasks();
-        task.setId(taskId);
 
-        when(tasksRepository.getTaskById(taskId)).thenReturn(task);
-        when(tasksRepository.deleteTask(taskId)).thenReturn(RestStatus.OK);
+        doAnswer(respondWith(RestStatus.OK)).when(tasksRepository).deleteTask(eq(taskId), any());
 
         // Act
-        RestStatus status = tasksService.deleteTask(taskId);
+        RestStatus status = await(listener -> tasksService.deleteTask(taskId, listener));
 
         // Assert
         assertEquals(RestStatus.OK, status);
-        verify(tasksRepository, times(1)).getTaskById(taskId);
-        verify(tasksRepository, times(1)).deleteTask(taskId);
+        verify(tasksRepository, never()).getTaskById(anyString(), any());
+        verify(tasksRepository, times(1)).deleteTask(eq(taskId), any());
     }
 
     @Test
     void givenNullId_whenDeletingTask_shouldReturnNotFoundStatus() {
         // Act
-        RestStatus status = tasksService.deleteTask(null);
+        RestStatus status = await(listener -> tasksService.deleteTask(null, listener));
 
         // Assert
         assertEquals(RestStatus.NOT_FOUND, status);
-        verify(tasksRepository, never()).getTaskById(anyString());
-        verify(tasksRepository, never()).deleteTask(anyString());
+        verify(tasksRepository, never()).getTaskById(anyString(), any());
+        verify(tasksRepository, never()).deleteTask(anyString(), any());
     }
 
     @Test
@@ -233,34 +288,30 @@ public class TasksServiceTests extends LuceneTestCase {
         // Arrange
         String taskId = "1";
 
-        when(tasksRepository.getTaskById(taskId)).thenReturn(null);
+        doAnswer(respondWith(RestStatus.NOT_FOUND)).when(tasksRepository).deleteTask(eq(taskId), any());
 
         // Act
-        RestStatus status = tasksService.deleteTask(taskId);
+        RestStatus status = await(listener -> tasksService.deleteTask(taskId, listener));
 
         // Assert
         assertEquals(RestStatus.NOT_FOUND, status);
-        verify(tasksRepository, times(1)).getTaskById(taskId);
-        verify(tasksRepository, never()).deleteTask(taskId);
+        verify(tasksRepository, never()).getTaskById(anyString(), any());
+        verify(tasksRepository, times(1)).deleteTask(eq(taskId), any());
     }
 
     @Test
     void givenValidId_whenRepositoryFailsToDeleteTask_shouldReturnInternalServerErrorStatus() {
         // Arrange
         String taskId = "1";
-        Tasks task = new Tasks();
-        task.setId(taskId);
 
-        when(tasksRepository.getTaskById(taskId)).thenReturn(task);
-        when(tasksRepository.deleteTask(taskId)).thenReturn(RestStatus.INTERNAL_SERVER_ERROR);
+        doAnswer(respondWith(RestStatus.INTERNAL_SERVER_ERROR)).when(tasksRepository).deleteTask(eq(taskId), any());
 
         // Act
-        RestStatus status = tasksService.deleteTask(taskId);
+        RestStatus status = await(listener -> tasksService.deleteTask(taskId, listener));
 
         // Assert
         assertEquals(RestStatus.INTERNAL_SERVER_ERROR, status);
-        verify(tasksRepository, times(1)).getTaskById(taskId);
-        verify(tasksRepository, times(1)).deleteTask(taskId);
+        verify(tasksRepository, times(1)).deleteTask(eq(taskId), any());
     }
 
     @Test
@@ -269,74 +320,57 @@ public class TasksServiceTests extends LuceneTestCase {
         Map<String, Object> body = new HashMap<>();
         List<Tasks> tasksList = createSampleTasksList();
 
-        when(tasksRepository.searchTasks(body)).thenReturn(tasksList);
+        doAnswer(respondWith(new TasksPage(tasksList, tasksList.size(), null))).when(tasksRepository).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
 
         // Act
-        List<Tasks> result = tasksService.searchTasks(body);
+        TasksPage page = await(listener -> tasksService.searchTasks(body, listener));
+        List<Tasks> result = page.getTasks();
 
         // Assert
         assertEquals(tasksList.size(), result.size());
         assertEquals(tasksList, result);
-        verify(tasksRepository, times(1)).searchTasks(body);
+        verify(tasksRepository, times(1)).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
     }
 
     @Test
-    void givenContainsFilters_whenSearchingTasks_shouldReturnFilteredTasks() {
+    void givenContainsFilters_whenSearchingTasks_shouldReturnRepositoryResults() {
         // Arrange
         Map<String, Object> body = new HashMap<>();
         Map<String, Object> containsFilters = new HashMap<>();
         containsFilters.put("title", "Task 1");
         body.put("contains", containsFilters);
 
-        List<Tasks> tasksList = createSampleTasksList();
-        when(tasksRepository.searchTasks(body)).thenReturn(tasksList);
+        // The repository applies the contains filters in the query
+        List<Tasks> tasksList = createSampleTasksList().subList(0, 1);
+        doAnswer(respondWith(new TasksPage(tasksList, tasksList.size(), null))).when(tasksRepository).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
 
         // Act
-        List<Tasks> result = tasksService.searchTasks(body);
+        TasksPage page = await(listener -> tasksService.searchTasks(body, listener));
+        List<Tasks> result = page.getTasks();
 
         // Assert
         assertEquals(1, result.size());
         assertEquals("Task 1", result.get(0).getTitle());
-        verify(tasksRepository, times(1)).searchTasks(body);
-    }
-
-    @Test
-    void givenInvalidContainsFilters_whenSearchingTasks_shouldReturnEmptyList() {
-        // Arrange
-        Map<String, Object> body = new HashMap<>();
-        Map<String, Object> containsFilters = new HashMap<>();
-        containsFilters.put("title", "Non-Existent Task");
-        body.put("contains", containsFilters);
-
-        List<Tasks> tasksList = createSampleTasksList();
-        when(tasksRepository.searchTasks(body)).thenReturn(tasksList);
-
-        // Act
-        List<Tasks> result = tasksService.searchTasks(body);
-
-        // Assert
-        assertTrue(result.isEmpty());
-        verify(tasksRepository, times(1)).searchTasks(body);
+        assertEquals(1, page.getTotal());
+        verify(tasksRepository, times(1)).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
     }
 
     @Test
-    void givenContainsTagFilters_whenSearchingTasks_shouldReturnFilteredTasks() {
+    void givenContainsTagFilters_whenRepositoryFindsNothing_shouldReturnEmptyList() {
         // Arrange
         Map<String, Object> body = new HashMap<>();
         Map<String, Object> containsFilters = new HashMap<>();
-        containsFilters.put("tags", Arrays.asList("tag1", "tag2"));
+        containsFilters.put("tags", Arrays.asList("tag1", "tag4"));
         body.put("contains", containsFilters);
 
-        List<Tasks> tasksList = createSampleTasksList();
-        when(tasksRepository.searchTasks(body)).thenReturn(tasksList);
+        doAnswer(respondWith(new TasksPage(Collections.emptyList(), 0, null))).when(tasksRepository).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
 
         // Act
-        List<Tasks> result = tasksService.searchTasks(body);
+        TasksPage page = await(listener -> tasksService.searchTasks(body, listener));
 
         // Assert
-        assertEquals(1, result.size());
-        assertEquals("Task 1", result.get(0).getTitle());
-        verify(tasksRepository, times(1)).searchTasks(body);
+        assertTrue(page.getTasks().isEmpty());
+        verify(tasksRepository, times(1)).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
     }
 
     // Helper method to create a sample list of tasks
@@ -358,18 +392,304 @@ public class TasksServiceTests extends LuceneTestCase {
         return Arrays.asList(task1, task2);
     }
 
+    @Test
+    void givenCache_whenGettingTaskTwice_shouldReadTheIndexOnce() {
+        // Arrange
+        TasksCache tasksCache = new TasksCache(new ByteSizeValue(1, ByteSizeUnit.MB), TimeValue.timeValueMinutes(1));
+        TasksService cachedService = new TasksService(tasksRepository, tasksCache);
+        Tasks task = new Tasks();
+        task.setId("1");
+        task.setTitle("Task 1");
+        doAnswer(respondWith(task)).when(tasksRepository).getTaskById(eq("1"), any());
+
+        // Act
+        Tasks first = await(listener -> cachedService.getTaskById("1", listener));
+        Tasks second = await(listener -> cachedService.getTaskById("1", listener));
+
+        // Assert
+        assertEquals("Task 1", first.getTitle());
+        assertEquals(first.toString(), second.toString());
+        assertNotSame(first, second);
+        verify(tasksRepository, times(1)).getTaskById(eq("1"), any());
+        assertEquals(1, tasksCache.stats().getHits());
+        assertEquals(1, tasksCache.stats().getMisses());
+        assertEquals(1, tasksCache.stats().getCount());
+    }
+
+    @Test
+    void givenInvalidationDuringRead_whenGettingTask_shouldNotCacheTheReadVersion() {
+        // Arrange
+        TasksCache tasksCache = new TasksCache(new ByteSizeValue(1, ByteSizeUnit.MB), TimeValue.timeValueMinutes(1));
+        TasksService cachedService = new TasksService(tasksRepository, tasksCache);
+        Tasks staleTask = new Tasks();
+        staleTask.setId("1");
+        staleTask.setTitle("Task 1");
+        AtomicReference<ActionListener<Tasks>> pendingRead = new AtomicReference<>();
+        doAnswer(invocation -> {
+            pendingRead.set(invocation.getArgument(1));
+            return null;
+        }).when(tasksRepository).getTaskById(eq("1"), any());
+        PlainActionFuture<Tasks> future = PlainActionFuture.newFuture();
+
+        // Act
+        cachedService.getTaskById("1", future);
+        // The invalidation broadcast of a concurrent update reaches the node before the read answers
+        tasksCache.invalidate(List.of("1"));
+        pendingRead.get().onResponse(staleTask);
+
+        // Assert
+        assertEquals("Task 1", future.actionGet().getTitle());
+        assertEquals(0, tasksCache.stats().getCount());
+        assertNull(tasksCache.get("1"));
+    }
+
+    @Test
+    void givenMissingTask_whenGettingTask_shouldNotCacheIt() {
+        // Arrange
+        TasksCache tasksCache = new TasksCache(new ByteSizeValue(1, ByteSizeUnit.MB), TimeValue.timeValueMinutes(1));
+        TasksService cachedService = new TasksService(tasksRepository, tasksCache);
+
+        // Act
+        await(listener -> cachedService.getTaskById("1", listener));
+        await(listener -> cachedService.getTaskById("1", listener));
+
+        // Assert
+        verify(tasksRepository, times(2)).getTaskById(eq("1"), any());
+        assertEquals(0, tasksCache.stats().getCount());
+    }
+
+    @Test
+    void givenSourceFilter_whenGettingUncachedTask_shouldReadOnlyTheFieldsWithoutCachingThem() {
+        // Arrange
+        TasksCache tasksCache = new TasksCache(new ByteSizeValue(1, ByteSizeUnit.MB), TimeValue.timeValueMinutes(1));
+        TasksService cachedService = new TasksService(tasksRepository, tasksCache);
+        FetchSourceContext fetchSource = new FetchSourceContext(true, new String[]{"title"}, new String[0]);
+        Tasks task = new Tasks();
+        task.setId("1");
+        task.setTitle("Task 1");
+        doAnswer(respondWith(task)).when(tasksRepository).getTaskById(eq("1"), eq(fetchSource), any());
+
+        // Act
+        Tasks result = await(listener -> cachedService.getTaskById("1", fetchSource, listener));
+
+        // Assert
+        assertEquals("Task 1", result.getTitle());
+        verify(tasksRepository, never()).getTaskById(eq("1"), any());
+        assertEquals(0, tasksCache.stats().getCount());
+    }
+
+    @Test
+    void givenSearchCache_whenSearchingTwiceWithReorderedBody_shouldSearchTheIndexOnce() {
+        // Arrange
+        TasksSearchCache searchCache = new TasksSearchCache(new ByteSizeValue(1, ByteSizeUnit.MB), TimeValue.timeValueMinutes(1));
+        TasksService cachedService = new TasksService(tasksRepository, null, searchCache);
+        Map<String, Object> first = new HashMap<>();
+        first.put("status", "open");
+        first.put("assignee", "user1");
+        Map<String, Object> second = new HashMap<>();
+        second.put("assignee", "user1");
+        second.put("status", "open");
+        List<Tasks> tasksList = createSampleTasksList();
+        doAnswer(respondWith(new TasksPage(tasksList, tasksList.size(), null))).when(tasksRepository)
+                .searchTasks(any(), anyInt(), any(), any(), any(), any(), any());
+
+        // Act
+        TasksPage firstPage = await(listener -> cachedService.searchTasks(first, listener));
+        TasksPage secondPage = await(listener -> cachedService.searchTasks(second, listener));
+
+        // Assert
+        assertEquals(firstPage.getTotal(), secondPage.getTotal());
+        assertEquals(firstPage.getTasks().toString(), secondPage.getTasks().toString());
+        verify(tasksRepository, times(1)).searchTasks(any(), anyInt(), any(), any(), any(), any(), any());
+        assertEquals(1, searchCache.stats().getHits());
+    }
+
+    @Test
+    void givenRecentWrite_whenSearching_shouldNotCacheTheResult() {
+        // Arrange
+        TasksSearchCache searchCache = new TasksSearchCache(new ByteSizeValue(1, ByteSizeUnit.MB), TimeValue.timeValueMinutes(1));
+        TasksService cachedService = new TasksService(tasksRepository, null, searchCache);
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", "open");
+        List<Tasks> tasksList = createSampleTasksList();
+        doAnswer(respondWith(new TasksPage(tasksList, tasksList.size(), null))).when(tasksRepository)
+                .searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
+        searchCache.invalidateAll();
+
+        // Act
+        await(listener -> cachedService.searchTasks(body, listener));
+        await(listener -> cachedService.searchTasks(body, listener));
+
+        // Assert
+        verify(tasksRepository, times(2)).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
+        assertEquals(0, searchCache.stats().getCount());
+    }
+
+    @Test
+    void givenSearchMatchingNothing_whenSearchingTwice_shouldSearchTheIndexOnce() {
+        // Arrange
+        TasksSearchCache searchCache = new TasksSearchCache(new ByteSizeValue(1, ByteSizeUnit.MB), TimeValue.timeValueMinutes(1));
+        TasksService cachedService = new TasksService(tasksRepository, null, searchCache);
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", "open");
+        doAnswer(respondWith(new TasksPage(Collections.emptyList(), 0, null))).when(tasksRepository)
+                .searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
+
+        // Act
+        await(listener -> cachedService.searchTasks(body, listener));
+        TasksPage page = await(listener -> cachedService.searchTasks(body, listener));
+
+        // Assert
+        assertEquals(0, page.getTotal());
+        verify(tasksRepository, times(1)).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
+        assertEquals(1, searchCache.stats().getHits());
+    }
+
+    @Test
+    void givenFailedSearch_whenSearching_shouldAnswerAnEmptyPageWithoutCachingIt() {
+        // Arrange
+        TasksSearchCache searchCache = new TasksSearchCache(new ByteSizeValue(1, ByteSizeUnit.MB), TimeValue.timeValueMinutes(1));
+        TasksService cachedService = new TasksService(tasksRepository, null, searchCache);
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", "open");
+        doAnswer(invocation -> {
+            ActionListener<TasksPage> listener = invocation.getArgument(6);
+            listener.onFailure(new RuntimeException("all shards failed"));
+            return null;
+        }).when(tasksRepository).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
+
+        // Act
+        TasksPage page = await(listener -> cachedService.searchTasks(body, listener));
+        await(listener -> cachedService.searchTasks(body, listener));
+
+        // Assert
+        assertEquals(0, page.getTotal());
+        verify(tasksRepository, times(2)).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
+        assertEquals(0, searchCache.stats().getCount());
+    }
+
+    @Test
+    void givenFailedPage_whenSearchingWithCursor_shouldFail() {
+        // Arrange
+        Map<String, Object> body = new HashMap<>();
+        body.put("cursor", new SearchCursor("pit-id", new Object[]{1L}).encode());
+        doAnswer(invocation -> {
+            ActionListener<TasksPage> listener = invocation.getArgument(6);
+            listener.onFailure(new IllegalStateException("No search context found"));
+            return null;
+        }).when(tasksRepository).searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
+
+        // Act
+        PlainActionFuture<TasksPage> future = PlainActionFuture.newFuture();
+        tasksService.searchTasks(body, future);
+
+        // Assert
+        expectThrows(IllegalStateException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givenTimedOutSearch_whenSearching_shouldPassDeadlineAndNotCacheTheResult() {
+        // Arrange
+        TasksSearchCache searchCache = new TasksSearchCache(new ByteSizeValue(1, ByteSizeUnit.MB), TimeValue.timeValueMinutes(1));
+        TasksService cachedService = new TasksService(tasksRepository, null, searchCache);
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", "open");
+        List<Tasks> tasksList = createSampleTasksList();
+        TimeValue timeout = TimeValue.timeValueMillis(500);
+        TaskId parentTask = new TaskId("node", 1);
+        doAnswer(respondWith(new TasksPage(tasksList, tasksList.size(), null, true))).when(tasksRepository)
+                .searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
+
+        // Act
+        TasksPage page = await(listener -> cachedService.searchTasks(body, null, timeout, parentTask, listener));
+
+        // Assert
+        assertTrue(page.isTimedOut());
+        verify(tasksRepository, times(1)).searchTasks(eq(body), anyInt(), any(), any(), eq(timeout), eq(parentTask), any());
+        assertEquals(0, searchCache.stats().getCount());
+    }
+
+    @Test
+    void givenCreatedTask_whenCreatingTask_shouldInvalidateSearchesOnAllNodes() {
+        // Arrange
+        Tasks task = new Tasks();
+        task.setStatus("PLANNED");
+        doAnswer(respondWith(indexResponse)).when(tasksRepository).createTask(any(Tasks.class), any());
+        when(indexResponse.status()).thenReturn(RestStatus.CREATED);
+        when(indexResponse.getId()).thenReturn("1");
+
+        // Act
+        await(listener -> tasksService.createTask(task, listener));
+
+        // Assert
+        verify(tasksRepository, times(1)).invalidateCachedTasks(eq(List.of()), any());
+    }
+
+    @Test
+    void givenSlowInvalidation_whenCreatingTask_shouldRespondWithoutWaitingForIt() {
+        // Arrange
+        TasksSearchCache searchCache = new TasksSearchCache(new ByteSizeValue(1, ByteSizeUnit.MB), TimeValue.timeValueMinutes(1),
+                TimeValue.ZERO);
+        TasksService cachedService = new TasksService(tasksRepository, null, searchCache);
+        searchCache.put("key", searchCache.startSearch(), new TasksPage(createSampleTasksList(), 2, null));
+        Tasks task = new Tasks();
+        task.setStatus("PLANNED");
+        doAnswer(respondWith(indexResponse)).when(tasksRepository).createTask(any(Tasks.class), any());
+        when(indexResponse.status()).thenReturn(RestStatus.CREATED);
+        when(indexResponse.getId()).thenReturn("1");
+        // The broadcast to the other nodes never answers
+        doAnswer(invocation -> null).when(tasksRepository).invalidateCachedTasks(any(), any());
+
+        // Act
+        Tasks created = await(listener -> cachedService.createTask(task, listener));
+
+        // Assert
+        assertNotNull(created);
+        assertNull(searchCache.get("key"));
+        verify(tasksRepository, times(1)).invalidateCachedTasks(eq(List.of()), any());
+    }
+
+    @Test
+    void givenPatchedTask_whenPatchingTask_shouldInvalidateItOnAllNodesBeforeAnswering() {
+        // Arrange
+        Tasks task = new Tasks();
+        task.setId("1");
+        task.setTitle("Updated Title");
+        doAnswer(respondWith(updateResponse)).when(tasksRepository).patchTask(any(Tasks.class), anyInt(), any());
+        when(updateResponse.status()).thenReturn(RestStatus.OK);
+
+        // Act
+        RestStatus status = await(listener -> tasksService.patchTask(task, listener));
+
+        // Assert
+        assertEquals(RestStatus.OK, status);
+        verify(tasksRepository, times(1)).invalidateCachedTasks(eq(List.of("1")), any());
+    }
+
+    @Test
+    void givenMissingTask_whenDeletingTask_shouldNotInvalidateCaches() {
+        // Arrange
+        doAnswer(respondWith(RestStatus.NOT_FOUND)).when(tasksRepository).deleteTask(eq("1"), any());
+
+        // Act
+        RestStatus status = await(listener -> tasksService.deleteTask("1", listener));
+
+        // Assert
+        assertEquals(RestStatus.NOT_FOUND, status);
+        verify(tasksRepository, never()).invalidateCachedTasks(any(), any());
+    }
+
     @Test
     void givenNullId_whenPatchingTask_shouldReturnBadRequest() {
         // Arrange
         Tasks task = new Tasks();  // Task with null ID
 
         // Act
-        RestStatus status = tasksService.patchTask(task);
+        RestStatus status = await(listener -> tasksService.patchTask(task, listener));
 
         // Assert
         assertEquals(RestStatus.BAD_REQUEST, status);
-        verify(tasksRepository, never()).getTaskById(anyString());
-        verify(tasksRepository, never()).updateTask(any(Tasks.class));
+        verify(tasksRepository, never()).patchTask(any(Tasks.class), anyInt(), any());
     }
 
     @Test
@@ -380,12 +700,11 @@ public class TasksServiceTests extends LuceneTestCase {
         task.setStatus("invalid-status");
 
         // Act
-        RestStatus status = tasksService.patchTask(task);
+        RestStatus status = await(listener -> tasksService.patchTask(task, listener));
 
         // Assert
         assertEquals(RestStatus.BAD_REQUEST, status);
-        verify(tasksRepository, never()).getTaskById(anyString());
-        verify(tasksRepository, never()).updateTask(any(Tasks.class));
+        verify(tasksRepository, never()).patchTask(any(Tasks.class), anyInt(), any());
     }
 
     @Test
@@ -397,12 +716,11 @@ public class TasksServiceTests extends LuceneTestCase {
         task.setCompletionDate("2023-12-31"); // This date is logically valid but invalid format should trigger the checkValidTime method
 
         // Act
-        RestStatus status = tasksService.patchTask(task);
+        RestStatus status = await(listener -> tasksService.patchTask(task, listener));
 
         // Assert
         assertEquals(RestStatus.BAD_REQUEST, status);
-        verify(tasksRepository, never()).getTaskById(anyString());
-        verify(tasksRepository, never()).updateTask(any(Tasks.class));
+        verify(tasksRepository, never()).patchTask(any(Tasks.class), anyInt(), any());
     }
 
     @Test
@@ -411,56 +729,350 @@ public class TasksServiceTests extends LuceneTestCase {
         Tasks task = new Tasks();
         task.setId("1");
 
-        when(tasksRepository.getTaskById("1")).thenReturn(null);
+        doAnswer(respondWith(null)).when(tasksRepository).patchTask(any(Tasks.class), anyInt(), any());
 
         // Act
-        RestStatus status = tasksService.patchTask(task);
+        RestStatus status = await(listener -> tasksService.patchTask(task, listener));
 
         // Assert
         assertEquals(RestStatus.NOT_FOUND, status);
-        verify(tasksRepository, times(1)).getTaskById("1");
-        verify(tasksRepository, never()).updateTask(any(Tasks.class));
+        verify(tasksRepository, never()).getTaskById(anyString(), any());
+        verify(tasksRepository, times(1)).patchTask(any(Tasks.class), anyInt(), any());
     }
 
     @Test
-    void givenValidTask_whenRepositoryFailsToPatchTask_shouldReturnNotFound() {
+    void givenValidTask_whenPatchingTask_shouldSendOneUpdate() {
         // Arrange
         Tasks task = new Tasks();
         task.setId("1");
-        Tasks existingTask = new Tasks();
-        existingTask.setId("1");
+        task.setTitle("Updated Title");
 
-        when(tasksRepository.getTaskById("1")).thenReturn(existingTask);
-        when(tasksRepository.updateTask(any(Tasks.class))).thenReturn(null);  // Simulating failure
+        doAnswer(respondWith(updateResponse)).when(tasksRepository).patchTask(any(Tasks.class), anyInt(), any());
+        when(updateResponse.status()).thenReturn(RestStatus.OK);
 
         // Act
-        RestStatus status = tasksService.patchTask(task);
+        RestStatus status = await(listener -> tasksService.patchTask(task, listener));
 
         // Assert
-        assertEquals(RestStatus.NOT_FOUND, status);
-        verify(tasksRepository, times(1)).getTaskById("1");
-        verify(tasksRepository, times(1)).updateTask(any(Tasks.class));
+        assertEquals(RestStatus.OK, status);
+        verify(tasksRepository, never()).getTaskById(anyString(), any());
+        verify(tasksRepository, never()).updateTask(any(Tasks.class), any());
+        verify(tasksRepository, times(1)).patchTask(eq(task), eq(0), any());
+    }
+
+    @Test
+    void givenRetryOnConflict_whenPatchingTask_shouldPassItToTheUpdate() {
+        // Arrange
+        Tasks task = new Tasks();
+        task.setId("1");
+        task.setTitle("Updated Title");
+
+        doAnswer(respondWith(updateResponse)).when(tasksRepository).patchTask(any(Tasks.class), anyInt(), any());
+        when(updateResponse.status()).thenReturn(RestStatus.OK);
+
+        // Act
+        RestStatus status = await(listener -> tasksService.patchTask(task, 3, listener));
+
+        // Assert
+        assertEquals(RestStatus.OK, status);
+        verify(tasksRepository, times(1)).patchTask(eq(task), eq(3), any());
+    }
+
+    @Test
+    void givenTooManyRetries_whenPatchingTask_shouldFailWithoutUpdating() {
+        // Arrange
+        Tasks task = new Tasks();
+        task.setId("1");
+        PlainActionFuture<RestStatus> future = PlainActionFuture.newFuture();
+
+        // Act
+        tasksService.patchTask(task, TasksService.MAX_RETRY_ON_CONFLICT + 1, future);
+
+        // Assert
+        expectThrows(IllegalArgumentException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+        verify(tasksRepository, never()).patchTask(any(Tasks.class), anyInt(), any());
+    }
+
+    @Test
+    void givenVersionConflict_whenPatchingTask_shouldFailWithConflict() {
+        // Arrange
+        Tasks task = new Tasks();
+        task.setId("1");
+        task.setTitle("Updated Title");
+        task.setSeqNo(4L);
+        task.setPrimaryTerm(1L);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new VersionConflictEngineException(new ShardId("tasks", "_na_", 0), "1", "version conflict"));
+            return null;
+        }).when(tasksRepository).patchTask(any(Tasks.class), anyInt(), any());
+        PlainActionFuture<RestStatus> future = PlainActionFuture.newFuture();
+
+        // Act
+        tasksService.patchTask(task, future);
+
+        // Assert
+        expectThrows(VersionConflictEngineException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
     }
 
     @Test
-    void givenValidTask_whenPatchingTask_shouldReturnOkStatus() {
+    void givenExistingTask_whenUpdatingTask_shouldSendOneUpdate() {
         // Arrange
         Tasks task = new Tasks();
         task.setId("1");
         task.setTitle("Updated Title");
-        Tasks existingTask = new Tasks();
-        existingTask.setId("1");
+        task.setStatus("PLANNED");
 
-        when(tasksRepository.getTaskById("1")).thenReturn(existingTask);
-        when(tasksRepository.updateTask(any(Tasks.class))).thenReturn(indexResponse);
-        when(indexResponse.status()).thenReturn(RestStatus.OK);
+        doAnswer(respondWith(updateResponse)).when(tasksRepository).updateTask(any(Tasks.class), any());
+        when(updateResponse.status()).thenReturn(RestStatus.OK);
 
         // Act
-        RestStatus status = tasksService.patchTask(task);
+        RestStatus status = await(listener -> tasksService.updateTask(task, listener));
 
         // Assert
         assertEquals(RestStatus.OK, status);
-        verify(tasksRepository, times(1)).getTaskById("1");
-        verify(tasksRepository, times(1)).updateTask(any(Tasks.class));
+        verify(tasksRepository, never()).getTaskById(anyString(), any());
+        verify(tasksRepository, times(1)).updateTask(eq(task), any());
+    }
+
+    @Test
+    void givenNonExistentTask_whenUpdatingTask_shouldReturnNotFound() {
+        // Arrange
+        Tasks task = new Tasks();
+        task.setId("1");
+        task.setStatus("PLANNED");
+
+        doAnswer(respondWith(null)).when(tasksRepository).updateTask(any(Tasks.class), any());
+
+        // Act
+        RestStatus status = await(listener -> tasksService.updateTask(task, listener));
+
+        // Assert
+        assertEquals(RestStatus.NOT_FOUND, status);
+    }
+
+    // Helper method to answer bulk calls with one successful item per action
+    private static Answer<Void> respondWithBulkStatus(RestStatus status) {
+        return invocation -> {
+            List<BulkTaskItem> items = invocation.getArgument(0);
+            BulkItemResponse[] itemResponses = new BulkItemResponse[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                BulkItemResponse itemResponse = mock(BulkItemResponse.class);
+                when(itemResponse.getId()).thenReturn("id-" + i);
+                when(itemResponse.status()).thenReturn(status);
+                itemResponses[i] = itemResponse;
+            }
+            BulkResponse bulkResponse = mock(BulkResponse.class);
+            when(bulkResponse.getItems()).thenReturn(itemResponses);
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(bulkResponse);
+            return null;
+        };
+    }
+
+    @Test
+    void givenInvalidBulkItem_whenProcessingBulk_shouldReportBadRequestWithoutSendingIt() {
+        // Arrange
+        Tasks valid = new Tasks();
+        valid.setStatus("PLANNED");
+        Tasks invalid = new Tasks();
+        invalid.setStatus("invalid-status");
+        List<BulkTaskItem> items = Arrays.asList(
+                new BulkTaskItem(BulkTaskItem.Operation.CREATE, null, valid),
+                new BulkTaskItem(BulkTaskItem.Operation.CREATE, null, invalid),
+                new BulkTaskItem(BulkTaskItem.Operation.DELETE, null, null));
+        doAnswer(respondWithBulkStatus(RestStatus.CREATED)).when(tasksRepository).bulkTasks(any(), any());
+
+        // Act
+        List<BulkTaskResult> results = await(listener -> tasksService.bulkTasks(items, 0, listener));
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals(RestStatus.CREATED, results.get(0).getStatus());
+        assertEquals(RestStatus.BAD_REQUEST, results.get(1).getStatus());
+        assertEquals(RestStatus.BAD_REQUEST, results.get(2).getStatus());
+        verify(tasksRepository, times(1)).bulkTasks(argThat(batch -> batch.size() == 1), any());
+    }
+
+    @Test
+    void givenUnknownTaskIndex_whenProcessingBulk_shouldReportNotFoundWithoutSendingIt() {
+        // Arrange
+        Tasks task = new Tasks();
+        task.setStatus("PLANNED");
+        List<BulkTaskItem> items = Arrays.asList(
+                new BulkTaskItem(BulkTaskItem.Operation.UPDATE, "000002.abc", task),
+                new BulkTaskItem(BulkTaskItem.Operation.DELETE, "7.x", null));
+        when(tasksRepository.canLocate("7.x")).thenReturn(false);
+        doAnswer(respondWithBulkStatus(RestStatus.OK)).when(tasksRepository).bulkTasks(any(), any());
+
+        // Act
+        List<BulkTaskResult> results = await(listener -> tasksService.bulkTasks(items, 0, listener));
+
+        // Assert
+        assertEquals(RestStatus.OK, results.get(0).getStatus());
+        assertEquals(RestStatus.NOT_FOUND, results.get(1).getStatus());
+        verify(tasksRepository, times(1)).bulkTasks(argThat(batch -> batch.size() == 1), any());
+    }
+
+    @Test
+    void givenBatchSize_whenProcessingBulk_shouldSplitActionsIntoBatches() {
+        // Arrange
+        List<BulkTaskItem> items = Arrays.asList(
+                new BulkTaskItem(BulkTaskItem.Operation.DELETE, "1", null),
+                new BulkTaskItem(BulkTaskItem.Operation.DELETE, "2", null),
+                new BulkTaskItem(BulkTaskItem.Operation.DELETE, "3", null));
+        doAnswer(respondWithBulkStatus(RestStatus.OK)).when(tasksRepository).bulkTasks(any(), any());
+
+        // Act
+        List<BulkTaskResult> results = await(listener -> tasksService.bulkTasks(items, 2, listener));
+
+        // Assert
+        assertEquals(3, results.size());
+        assertTrue(results.stream().noneMatch(BulkTaskResult::isFailed));
+        verify(tasksRepository, times(2)).bulkTasks(any(), any());
+        verify(tasksRepository, times(1)).invalidateCachedTasks(argThat(ids -> ids.size() == 3), any());
+    }
+
+    @Test
+    void givenRepositoryFailure_whenProcessingBulk_shouldReportInternalServerError() {
+        // Arrange
+        List<BulkTaskItem> items = Collections.singletonList(new BulkTaskItem(BulkTaskItem.Operation.DELETE, "1", null));
+
+        // Act
+        List<BulkTaskResult> results = await(listener -> tasksService.bulkTasks(items, 0, listener));
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, results.get(0).getStatus());
+    }
+
+    @Test
+    void givenPaginate_whenSearchingTasks_shouldOpenPointInTime() {
+        // Arrange
+        Map<String, Object> body = new HashMap<>();
+        body.put("size", 1);
+        body.put("paginate", true);
+        doAnswer(respondWith("pit-id")).when(tasksRepository).createPointInTime(any());
+        doAnswer(respondWith(new TasksPage(createSampleTasksList(), 2, "next"))).when(tasksRepository)
+                .searchTasks(eq(body), eq(1), any(SearchCursor.class), any(), any(), any(), any());
+
+        // Act
+        TasksPage page = await(listener -> tasksService.searchTasks(body, listener));
+
+        // Assert
+        assertEquals("next", page.getCursor());
+        verify(tasksRepository, times(1)).createPointInTime(any());
+        verify(tasksRepository, times(1)).searchTasks(eq(body), eq(1), argThat(cursor -> "pit-id".equals(cursor.getPitId())), any(), any(), any(), any());
+    }
+
+    @Test
+    void givenSizeWithoutPaginate_whenSearchingTasks_shouldNotOpenPointInTime() {
+        // Arrange
+        Map<String, Object> body = new HashMap<>();
+        body.put("size", 1);
+        doAnswer(respondWith(new TasksPage(createSampleTasksList(), 2, null))).when(tasksRepository)
+                .searchTasks(eq(body), eq(1), any(), any(), any(), any(), any());
+
+        // Act
+        TasksPage page = await(listener -> tasksService.searchTasks(body, listener));
+
+        // Assert
+        assertNull(page.getCursor());
+        verify(tasksRepository, never()).createPointInTime(any());
+        verify(tasksRepository, times(1)).searchTasks(eq(body), eq(1), isNull(), any(), any(), any(), any());
+    }
+
+    @Test
+    void givenCursor_whenSearchingTasks_shouldContinueFromCursor() {
+        // Arrange
+        Map<String, Object> body = new HashMap<>();
+        body.put("cursor", new SearchCursor("pit-id", new Object[]{1L, "a"}).encode());
+        doAnswer(respondWith(new TasksPage(Collections.emptyList(), 2, null))).when(tasksRepository)
+                .searchTasks(eq(body), anyInt(), any(), any(), any(), any(), any());
+
+        // Act
+        TasksPage page = await(listener -> tasksService.searchTasks(body, listener));
+
+        // Assert
+        assertNull(page.getCursor());
+        verify(tasksRepository, never()).createPointInTime(any());
+        verify(tasksRepository, times(1)).searchTasks(eq(body), eq(TasksService.DEFAULT_SEARCH_SIZE),
+                argThat(cursor -> "pit-id".equals(cursor.getPitId()) && cursor.getSearchAfter().length == 2), any(), any(), any(), any());
+    }
+
+    @Test
+    void givenInterval_whenAggregatingTasks_shouldUseCalendarInterval() {
+        // Arrange
+        Map<String, Object> body = new HashMap<>();
+        body.put("interval", "week");
+        TaskAggregations aggregations = new TaskAggregations(0, Collections.emptyMap(), Collections.emptyMap());
+        doAnswer(respondWith(aggregations)).when(tasksRepository).aggregateTasks(eq(body), any(), any());
+
+        // Act
+        TaskAggregations result = await(listener -> tasksService.aggregateTasks(body, listener));
+
+        // Assert
+        assertSame(aggregations, result);
+        verify(tasksRepository, times(1)).aggregateTasks(eq(body), eq(DateHistogramInterval.WEEK), any());
+    }
+
+    @Test
+    void givenInvalidInterval_whenAggregatingTasks_shouldFailWithoutSearching() {
+        // Arrange
+        Map<String, Object> body = new HashMap<>();
+        body.put("interval", "fortnight");
+        PlainActionFuture<TaskAggregations> future = PlainActionFuture.newFuture();
+
+        // Act
+        tasksService.aggregateTasks(body, future);
+
+        // Assert
+        expectThrows(IllegalArgumentException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+        verify(tasksRepository, never()).aggregateTasks(any(), any(), any());
+    }
+
+    @Test
+    void givenExportBatchSize_whenExportingTasks_shouldExportInBatchesOfThatSize() {
+        // Arrange
+        Map<String, Object> body = new HashMap<>();
+        tasksService.setExportBatchSize(250);
+        doAnswer(respondWith(null)).when(tasksRepository).exportTasks(eq(body), anyInt(), any(), any(), any());
+
+        // Act
+        String cursor = await(listener -> tasksService.exportTasks(body, task -> true, listener));
+
+        // Assert
+        assertNull(cursor);
+        verify(tasksRepository, times(1)).exportTasks(eq(body), eq(250), isNull(), any(), any());
+    }
+
+    @Test
+    void givenInvalidCursor_whenExportingTasks_shouldFailWithoutSearching() {
+        // Arrange
+        Map<String, Object> body = new HashMap<>();
+        body.put("cursor", "not-a-cursor");
+        PlainActionFuture<String> future = PlainActionFuture.newFuture();
+
+        // Act
+        tasksService.exportTasks(body, task -> true, future);
+
+        // Assert
+        expectThrows(IllegalArgumentException.class, future::actionGet);
+        verify(tasksRepository, never()).exportTasks(any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void givenInvalidSize_whenSearchingTasks_shouldFailWithoutSearching() {
+        // Arrange
+        Map<String, Object> body = new HashMap<>();
+        body.put("size", 0);
+        PlainActionFuture<TasksPage> future = PlainActionFuture.newFuture();
+
+        // Act
+        tasksService.searchTasks(body, future);
+
+        // Assert
+        expectThrows(IllegalArgumentException.class, future::actionGet);
+        verify(tasksRepository, never()).searchTasks(any(), anyInt(), any(), any(), any(), any(), any());
     }
-}
\ No newline at end of file
+}
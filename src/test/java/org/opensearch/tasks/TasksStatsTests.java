@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks;
+
+import org.apache.logging.log4j.Level;
+import org.apache.lucene.tests.util.LuceneTestCase;
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.tasks.settings.TasksSettings;
+import org.opensearch.tasks.stats.LatencyHistogram;
+import org.opensearch.tasks.stats.OperationTrace;
+import org.opensearch.tasks.stats.RouteStats;
+import org.opensearch.tasks.stats.TasksRequestLog;
+import org.opensearch.tasks.stats.TasksRequestStats;
+import org.opensearch.tasks.stats.TasksSlowLog;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class TasksStatsTests extends LuceneTestCase {
+
+    @Test
+    void givenLatencies_whenReadingPercentiles_shouldBeWithinOneBucketOfTheValue() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros);
+        }
+
+        // Act
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1000, snapshot.getMax());
+        assertTrue(snapshot.percentile(50) >= 500 && snapshot.percentile(50) <= 500 * 1.125);
+        assertTrue(snapshot.percentile(99) >= 990 && snapshot.percentile(99) <= 1000);
+        assertEquals(1000, snapshot.percentile(100));
+        assertEquals(0, new LatencyHistogram().snapshot().percentile(99));
+    }
+
+    @Test
+    void givenHistogramsOfTwoNodes_whenSerializedAndMerged_shouldHoldBothNodesValues() throws IOException {
+        // Arrange
+        LatencyHistogram first = new LatencyHistogram();
+        first.record(10);
+        LatencyHistogram second = new LatencyHistogram();
+        second.record(5_000_000);
+
+        // Act
+        LatencyHistogram.Snapshot merged;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            second.snapshot().writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                merged = first.snapshot().merge(new LatencyHistogram.Snapshot(in));
+            }
+        }
+
+        // Assert
+        assertEquals(2, merged.getCount());
+        assertEquals(10, merged.percentile(50));
+        assertEquals(5_000_000, merged.getMax());
+    }
+
+    @Test
+    void givenRequests_whenFinished_shouldCountStatusesAndInFlightRequestsOnce() {
+        // Arrange
+        TasksRequestStats requestStats = new TasksRequestStats();
+        TasksRequestStats.Tracker ok = requestStats.start("get");
+        TasksRequestStats.Tracker notFound = requestStats.start("get");
+        TasksRequestStats.Tracker failed = requestStats.start("get");
+        requestStats.start("get");
+
+        // Act
+        ok.finish(RestStatus.OK);
+        notFound.finish(RestStatus.NOT_FOUND);
+        failed.finish(RestStatus.INTERNAL_SERVER_ERROR);
+        failed.finish(RestStatus.OK);
+        Map<String, RouteStats> stats = requestStats.stats();
+
+        // Assert
+        RouteStats get = stats.get("get");
+        assertEquals(3, get.getCount());
+        assertEquals(1, get.getInFlight());
+        assertEquals(1, get.getClientErrors());
+        assertEquals(1, get.getServerErrors());
+        assertEquals(3, get.getLatency().getCount());
+        assertNull(stats.get("search"));
+    }
+
+    @Test
+    void givenThresholds_whenRequestsTookLong_shouldLogAtTheHighestThresholdReached() {
+        // Arrange
+        Settings settings = Settings.builder()
+                .put("plugins.tasks.slowlog.threshold.warn", "1s")
+                .put("plugins.tasks.slowlog.threshold.debug", "10ms")
+                .build();
+        TasksSlowLog slowLog = new TasksSlowLog(settings,
+                new ClusterSettings(settings, new HashSet<>(TasksSettings.getAllSettings())));
+
+        // Act & Assert
+        assertEquals(Level.WARN, slowLog.level(TimeUnit.SECONDS.toNanos(2)));
+        assertEquals(Level.DEBUG, slowLog.level(TimeUnit.MILLISECONDS.toNanos(500)));
+        assertNull(slowLog.level(TimeUnit.MILLISECONDS.toNanos(5)));
+    }
+
+    @Test
+    void givenTracedSearch_whenFormatted_shouldHoldStagesHitsAndSortedSource() {
+        // Arrange
+        OperationTrace trace = new OperationTrace("search");
+        trace.setHits(42);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "PENDING");
+        body.put("assignee", "alice");
+        trace.setSource(body);
+
+        // Act
+        String message = TasksSlowLog.message(trace, RestStatus.OK);
+
+        // Assert
+        assertTrue(message.contains("operation[search]"));
+        assertTrue(message.contains("status[200]"));
+        assertTrue(message.contains("hits[42]"));
+        assertTrue(message.contains("stages[parse["));
+        assertTrue(message.contains("serialize["));
+        assertTrue(message.endsWith("source[{\"assignee\":\"alice\",\"status\":\"PENDING\"}]"));
+    }
+
+    @Test
+    void givenProfiledTrace_whenRendered_shouldListStagesAndRepositoryCalls() throws IOException {
+        // Arrange
+        OperationTrace profiled = new OperationTrace("update", true);
+        OperationTrace plain = new OperationTrace("update");
+        long callStart = System.nanoTime();
+        profiled.recordCall("update", callStart, null);
+        profiled.recordCall("invalidate_cache", callStart, null);
+        plain.recordCall("update", callStart, null);
+
+        // Act
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        profiled.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String json = builder.toString();
+        XContentBuilder plainBuilder = XContentFactory.jsonBuilder();
+        plain.toXContent(plainBuilder, ToXContent.EMPTY_PARAMS);
+
+        // Assert
+        assertTrue(json.startsWith("{\"operation\":\"update\",\"took_in_nanos\":"));
+        assertTrue(json.contains("\"stages\":{\"parse_in_nanos\":0,\"validate_in_nanos\":0,\"repository_in_nanos\":0,"));
+        assertTrue(json.contains("\"repository_calls\":[{\"call\":\"update\",\"time_in_nanos\":"));
+        assertTrue(json.contains("{\"call\":\"invalidate_cache\",\"time_in_nanos\":"));
+        assertTrue(plainBuilder.toString().endsWith("\"repository_calls\":[]}"));
+    }
+
+    @Test
+    void givenSampleRate_whenRequestsAnswered_shouldSampleSuccessesAndAlwaysLogServerErrors() {
+        // Arrange
+        Settings off = Settings.EMPTY;
+        Settings all = Settings.builder().put("plugins.tasks.request_log.sample_rate", 1.0).build();
+        TasksRequestLog disabled = new TasksRequestLog(off,
+                new ClusterSettings(off, new HashSet<>(TasksSettings.getAllSettings())));
+        TasksRequestLog enabled = new TasksRequestLog(all,
+                new ClusterSettings(all, new HashSet<>(TasksSettings.getAllSettings())));
+
+        // Act & Assert
+        assertFalse(disabled.isSampled(RestStatus.OK));
+        assertFalse(disabled.isSampled(RestStatus.NOT_FOUND));
+        assertTrue(disabled.isSampled(RestStatus.INTERNAL_SERVER_ERROR));
+        assertTrue(enabled.isSampled(RestStatus.OK));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.tasks;
+
+import org.apache.lucene.tests.util.LuceneTestCase;
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.tasks.settings.TasksThreadPools;
+import org.opensearch.threadpool.ExecutorBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class TasksThreadPoolsTests extends LuceneTestCase {
+
+    // Helper method to read the default of every setting registered by the plugin's pools, by key
+    private static Map<String, Object> defaults(Settings settings) {
+        return TasksThreadPools.getExecutorBuilders(settings).stream()
+                .flatMap(builder -> builder.getRegisteredSettings().stream())
+                .collect(Collectors.toMap(Setting::getKey, setting -> setting.getDefault(settings)));
+    }
+
+    @Test
+    void givenNodeSettings_whenBuildingExecutors_shouldRegisterOnePoolPerName() {
+        // Act
+        List<ExecutorBuilder<?>> builders = TasksThreadPools.getExecutorBuilders(Settings.EMPTY);
+
+        // Assert
+        assertEquals(TasksThreadPools.NAMES, builders.stream().map(ExecutorBuilder::name).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void givenAllocatedProcessors_whenBuildingExecutors_shouldSizePoolsAndQueuesFromThem() {
+        // Arrange
+        Settings settings = Settings.builder().put("node.processors", 4).build();
+
+        // Act
+        Map<String, Object> defaults = defaults(settings);
+
+        // Assert
+        assertEquals(4, defaults.get("plugins.tasks.thread_pool.read.size"));
+        assertEquals(4, defaults.get("plugins.tasks.thread_pool.write.size"));
+        assertEquals(7, defaults.get("plugins.tasks.thread_pool.search.size"));
+        assertEquals(1000, defaults.get("plugins.tasks.thread_pool.read.queue_size"));
+        assertEquals(1000, defaults.get("plugins.tasks.thread_pool.write.queue_size"));
+        assertEquals(1000, defaults.get("plugins.tasks.thread_pool.search.queue_size"));
+    }
+
+    @Test
+    void givenPoolSettings_whenBuildingExecutors_shouldReadTheirSizeAndQueueSize() {
+        // Arrange
+        Settings settings = Settings.builder()
+                .put("plugins.tasks.thread_pool.search.size", 2)
+                .put("plugins.tasks.thread_pool.search.queue_size", 50)
+                .build();
+
+        // Act
+        Map<String, Setting<?>> registered = TasksThreadPools.getExecutorBuilders(settings).stream()
+                .flatMap(builder -> builder.getRegisteredSettings().stream())
+                .collect(Collectors.toMap(Setting::getKey, setting -> setting));
+
+        // Assert
+        assertEquals(2, registered.get("plugins.tasks.thread_pool.search.size").get(settings));
+        assertEquals(50, registered.get("plugins.tasks.thread_pool.search.queue_size").get(settings));
+    }
+}